@@ -117,15 +117,9 @@ public class SpongeBlockSnapshot implements BlockSnapshot {
 
         // This avoids cross contamination of block state based values versus tile entity values.
         // TODO - delegate this to NbtProcessors when schematics are merged.
-        final ImmutableMap.Builder<Key<?>, ImmutableValue<?>> tileBuilder = ImmutableMap.builder();
+        // The tile values are only mapped once read, most snapshots are captured by bulk block
+        // changes and never looked at by a plugin, see getTileMap
         this.extraData = builder.manipulators == null ? ImmutableList.<ImmutableDataManipulator<?, ?>>of() : ImmutableList.copyOf(builder.manipulators);
-        for (ImmutableDataManipulator<?, ?> manipulator : this.extraData) {
-            for (ImmutableValue<?> value : manipulator.getValues()) {
-                tileBuilder.put(value.getKey(), value);
-            }
-        }
-        this.keyValueMap = tileBuilder.build();
-        this.valueSet = this.keyValueMap.isEmpty() ? ImmutableSet.of() : ImmutableSet.copyOf(this.keyValueMap.values());
         this.compound = builder.compound;
         this.changeFlag = builder.flag;
     }
@@ -416,8 +410,9 @@ public BlockSnapshot merge(BlockSnapshot that, MergeFunction function) {
 
     @Override
     public <E> Optional<E> get(Key<? extends BaseValue<E>> key) {
-        if (this.keyValueMap.containsKey(key)) {
-            return Optional.of((E) this.keyValueMap.get(key).get());
+        final ImmutableValue<?> tileValue = getTileMap().get(key);
+        if (tileValue != null) {
+            return Optional.of((E) tileValue.get());
         } else if (getKeyValueMap().containsKey(key)) {
             return Optional.of((E) this.blockKeyValueMap.get(key).get());
         }
@@ -472,8 +467,9 @@ private ImmutableMap<Key<?>, ImmutableValue<?>> getTileMap() {
 
     @Override
     public <E, V extends BaseValue<E>> Optional<V> getValue(Key<V> key) {
-        if (this.keyValueMap.containsKey(key)) {
-            return Optional.of((V) this.keyValueMap.get(key).asMutable());
+        final ImmutableValue<?> tileValue = getTileMap().get(key);
+        if (tileValue != null) {
+            return Optional.of((V) tileValue.asMutable());
         } else if (getKeyValueMap().containsKey(key)) {
             return Optional.of((V) this.blockKeyValueMap.get(key).asMutable());
         }
@@ -483,7 +479,7 @@ public <E, V extends BaseValue<E>> Optional<V> getValue(Key<V> key) {
     @Override
     public boolean supports(Key<?> key) {
         checkNotNull(key, "Key");
-        return this.keyValueMap.containsKey(key) || getKeyValueMap().containsKey(key);
+        return getTileMap().containsKey(key) || getKeyValueMap().containsKey(key);
     }
 
     @Override
@@ -31,6 +31,7 @@
 import net.minecraft.world.chunk.Chunk;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 public interface ServerChunkProviderBridge {
 
@@ -40,6 +41,8 @@ public interface ServerChunkProviderBridge {
 
     void setMaxChunkUnloads(int maxUnloads);
 
+    void setMaxChunkUnloadTime(int maxUnloadTime);
+
     void setDenyChunkRequests(boolean flag);
 
     void setForceChunkRequests(boolean flag);
@@ -51,4 +54,21 @@ public interface ServerChunkProviderBridge {
     long getChunkUnloadDelay();
 
     WorldServer getWorld();
+
+    boolean isAsyncChunkLoadingEnabled();
+
+    /**
+     * Requests a chunk to be read asynchronously, see
+     * {@link org.spongepowered.common.world.storage.AsyncChunkLoadQueue#request}.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @param priority The priority, lower values are loaded first
+     * @param callback The callback receiving the chunk on the main thread
+     */
+    void loadChunkAsync(int x, int z, int priority, Consumer<Chunk> callback);
+
+    void cancelAsyncChunkLoad(int x, int z, Consumer<Chunk> callback);
+
+    int getPendingAsyncChunkLoads();
 }
@@ -41,6 +41,8 @@
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.context.SpongeProxyBlockAccess;
 import org.spongepowered.common.relocate.co.aikar.timings.WorldTimingsHandler;
+import org.spongepowered.common.world.gc.ChunkGarbageCollector;
+import org.spongepowered.common.world.lighting.LightingQueue;
 import org.spongepowered.common.world.gen.SpongeChunkGenerator;
 import org.spongepowered.common.world.gen.SpongeWorldGenerator;
 
@@ -92,16 +94,22 @@ public interface ServerWorldBridge extends WorldBridge {
 
     ExecutorService bridge$getLightingExecutor();
 
+    LightingQueue bridge$getLightingQueue();
+
     WorldTimingsHandler bridge$getTimingsHandler();
 
     int getChunkGCTickInterval();
 
     long getChunkUnloadDelay();
 
+    boolean bridge$isBlockTrackingEnabled();
+
     net.minecraft.world.Explosion triggerInternalExplosion(Explosion explosion, Function<net.minecraft.world.Explosion, PhaseContext<?>> contextCreator);
 
     void doChunkGC();
 
+    ChunkGarbageCollector bridge$getChunkGarbageCollector();
+
     void bridge$incrementChunkLoadCount();
 
     void bridge$updateConfigCache();
@@ -38,12 +38,13 @@
 import org.spongepowered.api.world.BlockChangeFlag;
 import org.spongepowered.api.world.extent.EntityUniverse;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.entity.PlayerTrackerTable;
 import org.spongepowered.common.event.tracking.IPhaseState;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.context.BlockTransaction;
+import org.spongepowered.common.world.lighting.QueuedLightUpdates;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -55,9 +56,7 @@
 
 public interface ChunkBridge {
 
-    Map<Short, PlayerTracker> getTrackedShortPlayerPositions();
-
-    Map<Integer, PlayerTracker> getTrackedIntPlayerPositions();
+    PlayerTrackerTable getTrackedPlayerPositions();
 
     Optional<User> getBlockOwner(BlockPos pos);
 
@@ -70,15 +69,29 @@ public interface ChunkBridge {
     @Nullable
     IBlockState setBlockState(BlockPos pos, IBlockState newState, IBlockState currentState, BlockChangeFlag flag);
 
+    /**
+     * Sets the block state like {@link #setBlockState} without looking up the
+     * current phase context or the world's proxy access. Only valid while
+     * nothing listens to block changes and no transaction is being processed.
+     *
+     * @param pos The position changing
+     * @param newState The new state
+     * @param currentState The current state
+     * @param flag The block change flag
+     * @param isRestoring Whether the current phase is restoring blocks, in
+     *     which case the replaced block is not broken
+     * @return The changed block state if not null
+     */
+    @Nullable
+    IBlockState setBlockStateUntracked(BlockPos pos, IBlockState newState, IBlockState currentState, BlockChangeFlag flag, boolean isRestoring);
+
     void setBlockNotifier(BlockPos pos, UUID uuid);
 
     void setBlockCreator(BlockPos pos, UUID uuid);
 
     void addTrackedBlockPosition(Block block, BlockPos pos, User user, PlayerTracker.Type trackerType);
 
-    void setTrackedIntPlayerPositions(Map<Integer, PlayerTracker> trackedPlayerPositions);
-
-    void setTrackedShortPlayerPositions(Map<Short, PlayerTracker> trackedPlayerPositions);
+    void setTrackedPlayerPositions(PlayerTrackerTable trackedPlayerPositions);
 
     void setNeighbor(Direction direction, Chunk neighbor);
 
@@ -118,7 +131,7 @@ void getIntersectingEntities(Vector3d start, Vector3d direction, double distance
 
     boolean isQueuedForUnload();
 
-    Set<Short> getQueuedLightingUpdates(EnumSkyBlock type);
+    QueuedLightUpdates getQueuedLightingUpdates(EnumSkyBlock type);
 
     void markChunkDirty();
 
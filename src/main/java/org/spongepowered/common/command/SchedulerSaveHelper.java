@@ -0,0 +1,94 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.command;
+
+import com.google.gson.stream.JsonWriter;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.scheduler.PluginTaskMetrics;
+import org.spongepowered.common.scheduler.SpongeScheduler;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+
+public class SchedulerSaveHelper {
+
+    public static void writeMetrics(File file) {
+        try {
+            if (file.getParentFile() != null) {
+                file.getParentFile().mkdirs();
+            }
+
+            try (JsonWriter writer = new JsonWriter(new FileWriter(file))) {
+                writer.setIndent("  ");
+                final SpongeScheduler scheduler = SpongeImpl.getScheduler();
+                writer.beginObject();
+                writer.name("histogramBoundsNanos").beginArray();
+                for (long bound : PluginTaskMetrics.getExecutionHistogramBounds()) {
+                    writer.value(bound);
+                }
+                writer.endArray();
+                writeScheduler(writer, "sync", scheduler, false);
+                writeScheduler(writer, "async", scheduler, true);
+                writer.endObject();
+            }
+        } catch (Throwable throwable) {
+            SpongeImpl.getLogger().error("Could not save scheduler report to " + file, throwable);
+        }
+    }
+
+    private static void writeScheduler(JsonWriter writer, String name, SpongeScheduler scheduler, boolean async) throws IOException {
+        writer.name(name).beginObject();
+        writer.name("queuedTasks").value(scheduler.getQueuedTaskCount(async));
+        writer.name("lastDueTasks").value(scheduler.getLastDueTaskCount(async));
+        if (!async) {
+            writer.name("deferredTasks").value(scheduler.getDeferredSyncTaskCount());
+        }
+        writer.name("plugins").beginArray();
+        for (PluginTaskMetrics metrics : scheduler.getTaskMetrics(async)) {
+            writer.beginObject();
+            writer.name("plugin").value(metrics.getPlugin().getId());
+            writer.name("queued").value(metrics.getQueuedTaskCount());
+            writer.name("active").value(metrics.getActiveTaskCount());
+            writer.name("averageQueueLatencyNanos").value(metrics.getAverageQueueLatency());
+            writer.name("averageStartDriftNanos").value(metrics.getAverageStartDrift());
+            writer.name("maxStartDriftNanos").value(metrics.getMaxStartDrift());
+            writer.name("executed").value(metrics.getExecutedTaskCount());
+            writer.name("averageExecutionNanos").value(metrics.getAverageExecutionTime());
+            writer.name("maxExecutionNanos").value(metrics.getMaxExecutionTime());
+            writer.name("overruns").value(metrics.getOverrunCount());
+            writer.name("deferrals").value(metrics.getDeferralCount());
+            writer.name("executionHistogram").beginArray();
+            for (long count : metrics.getExecutionHistogram()) {
+                writer.value(count);
+            }
+            writer.endArray();
+            writer.endObject();
+        }
+        writer.endArray();
+        writer.endObject();
+    }
+
+}
@@ -50,6 +50,7 @@
 import ninja.leaping.configurate.commented.CommentedConfigurationNode;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.tileentity.TileEntityType;
 import org.spongepowered.api.command.CommandCallable;
 import org.spongepowered.api.command.CommandException;
 import org.spongepowered.api.command.CommandManager;
@@ -86,6 +87,7 @@
 import org.spongepowered.common.bridge.OwnershipTrackedBridge;
 import org.spongepowered.common.bridge.entity.EntityBridge;
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
+import org.spongepowered.common.bridge.world.ServerChunkProviderBridge;
 import org.spongepowered.common.bridge.world.ServerWorldBridge;
 import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.common.bridge.world.WorldInfoBridge;
@@ -98,11 +100,20 @@
 import org.spongepowered.common.config.type.TrackerConfig;
 import org.spongepowered.common.config.type.WorldConfig;
 import org.spongepowered.common.entity.EntityUtil;
+import org.spongepowered.common.event.AsyncEventBus;
 import org.spongepowered.common.event.SpongeEventManager;
 import org.spongepowered.common.interfaces.IMixinMinecraftServer;
+import org.spongepowered.common.mixin.plugin.entityactivation.EntityActivationThrottle;
+import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.ActivationThrottleCapability;
+import org.spongepowered.common.mixin.plugin.tileentityactivation.TileEntityActivation;
 import org.spongepowered.common.bridge.world.DimensionTypeBridge;
 import org.spongepowered.common.relocate.co.aikar.timings.SpongeTimingsFactory;
+import org.spongepowered.common.scheduler.PluginTaskMetrics;
+import org.spongepowered.common.scheduler.SpongeScheduler;
 import org.spongepowered.common.util.SpongeHooks;
+import org.spongepowered.common.world.gc.ChunkGarbageCollector;
+import org.spongepowered.common.world.gc.ChunkRetentionReason;
+import org.spongepowered.common.world.lighting.LightingQueue;
 
 import java.io.File;
 import java.net.MalformedURLException;
@@ -115,10 +126,13 @@
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -212,8 +226,11 @@ public static CommandSpec createSpongeCommand() {
         nonFlagChildren.register(createSpongeTimingsCommand(), "timings");
         nonFlagChildren.register(createSpongeWhichCommand(), "which");
         nonFlagChildren.register(createSpongeMetricsCommand(), "metrics");
+        nonFlagChildren.register(createSpongeSchedulerCommand(), "scheduler");
+        nonFlagChildren.register(createSpongeEventsCommand(), "events");
         flagChildren.register(createSpongeChunksCommand(), "chunks");
         flagChildren.register(createSpongeTPSCommand(), "tps");
+        flagChildren.register(createSpongeLightingCommand(), "lighting");
         trackerFlagChildren.register(createSpongeConfigCommand(), "config");
         trackerFlagChildren.register(createSpongeReloadCommand(), "reload"); // TODO: Should these two be subcommands of config, and what is now config be set?
         trackerFlagChildren.register(createSpongeSaveCommand(), "save");
@@ -233,7 +250,10 @@ INDENT, title("audit"), LONG_INDENT, "Audit mixin classes for implementation\n",
                 INDENT, title("plugins"), LONG_INDENT, "List currently installed plugins\n",
                 INDENT, title("which"), LONG_INDENT, "List plugins that own a specific command\n",
                 INDENT, title("tps"), LONG_INDENT, "Provides TPS (ticks per second) data for loaded worlds\n",
+                INDENT, title("lighting"), LONG_INDENT, "Provides async lighting queue data for loaded worlds\n",
                 INDENT, title("metrics"), LONG_INDENT, "Gets or sets permission for metric plugins to operate\n",
+                INDENT, title("scheduler"), LONG_INDENT, "Provides latency and overrun data about plugin tasks\n",
+                INDENT, title("events"), LONG_INDENT, "Provides queue and handler time data about the async event bus\n",
                 SpongeImplHooks.getAdditionalCommandDescriptions()))
             .arguments(firstParsing(nonFlagChildren,
                 flags().flag("-global", "g")
@@ -387,6 +407,21 @@ protected Text value(Object text) {
                     return Text.of(TextColors.GRAY, text);
                 }
 
+                protected Text getChunkGCInfo(ChunkGarbageCollector chunkGC) {
+                    final Text.Builder builder = Text.builder()
+                        .append(key("Chunks queued by last chunk gc run: "), value(chunkGC.getReleasedChunks()), NEWLINE_TEXT);
+                    final Map<ChunkRetentionReason, Integer> retained = chunkGC.getRetainedChunks();
+                    builder.append(key("Chunks kept by last chunk gc run: "),
+                        value(retained.values().stream().mapToInt(Integer::intValue).sum()), NEWLINE_TEXT);
+                    for (Map.Entry<ChunkRetentionReason, Integer> entry : retained.entrySet()) {
+                        if (entry.getValue() > 0) {
+                            builder.append(LIST_ITEM_TEXT, key(entry.getKey().name().toLowerCase(Locale.ENGLISH).replace('_', ' ') + ": "),
+                                value(entry.getValue()), NEWLINE_TEXT);
+                        }
+                    }
+                    return builder.build();
+                }
+
                 protected Text getChunksInfo(WorldServer worldserver) {
                     if (((WorldBridge) worldserver).isFake() || worldserver.getWorldInfo() == null) {
                         return Text.of(NEWLINE_TEXT, "Fake world");
@@ -394,12 +429,35 @@ protected Text getChunksInfo(WorldServer worldserver) {
                     return Text.of(NEWLINE_TEXT, key("DimensionId: "), value(((ServerWorldBridge) worldserver).bridge$getDimensionId()), NEWLINE_TEXT,
                         key("Loaded chunks: "), value(worldserver.getChunkProvider().getLoadedChunkCount()), NEWLINE_TEXT,
                         key("Active chunks: "), value(worldserver.getChunkProvider().getLoadedChunks().size()), NEWLINE_TEXT,
+                        key("Pending async chunk loads: "),
+                        value(((ServerChunkProviderBridge) worldserver.getChunkProvider()).getPendingAsyncChunkLoads()), NEWLINE_TEXT,
+                        getChunkGCInfo(((ServerWorldBridge) worldserver).bridge$getChunkGarbageCollector()),
                         key("Entities: "), value(worldserver.loadedEntityList.size()), NEWLINE_TEXT,
                         key("Tile Entities: "), value(worldserver.loadedTileEntityList.size()), NEWLINE_TEXT,
                         key("Removed Entities:"), value(worldserver.unloadedEntityList.size()), NEWLINE_TEXT,
-                        key("Removed Tile Entities: "), value(worldserver.tileEntitiesToBeRemoved), NEWLINE_TEXT
+                        key("Removed Tile Entities: "), value(worldserver.tileEntitiesToBeRemoved), NEWLINE_TEXT,
+                        getTileEntityActivationInfo(worldserver)
                     );
                 }
+
+                protected Text getTileEntityActivationInfo(WorldServer worldserver) {
+                    if (!SpongeImpl.getGlobalConfigAdapter().getConfig().getModules().usePluginTileEntityActivation()) {
+                        return Text.EMPTY;
+                    }
+                    final Map<TileEntityType, Integer> ticking = TileEntityActivation.getTickingTileEntityCounts(worldserver);
+                    final Map<TileEntityType, Integer> sleeping = TileEntityActivation.getSleepingTileEntityCounts(worldserver);
+                    final Text.Builder builder = Text.builder()
+                        .append(key("Ticking Tile Entities: "), value(ticking.values().stream().mapToInt(Integer::intValue).sum()), NEWLINE_TEXT)
+                        .append(key("Sleeping Tile Entities: "), value(sleeping.values().stream().mapToInt(Integer::intValue).sum()), NEWLINE_TEXT);
+                    final Set<TileEntityType> types = new TreeSet<>(Comparator.comparing(TileEntityType::getId));
+                    types.addAll(ticking.keySet());
+                    types.addAll(sleeping.keySet());
+                    for (TileEntityType type : types) {
+                        builder.append(Text.of(INDENT, key(type.getId() + ": "), value(ticking.getOrDefault(type, 0) + " ticking, "
+                            + sleeping.getOrDefault(type, 0) + " sleeping"), NEWLINE_TEXT));
+                    }
+                    return builder.build();
+                }
             })
             .build();
     }
@@ -842,6 +900,97 @@ private static CommandSpec createSpongeTPSCommand() {
             .build();
     }
 
+    private static CommandSpec createSpongeLightingCommand() {
+        return CommandSpec.builder()
+            .permission("sponge.command.lighting")
+            .description(Text.of("Provides queue depth, latency and merged or dropped update data about async lighting for loaded worlds."))
+            .arguments(optional(world(Text.of("world"))))
+            .executor((src, args) -> {
+                final SpongeConfig<GlobalConfig> globalConfig = SpongeImpl.getGlobalConfigAdapter();
+                if (!globalConfig.getConfig().getModules().useOptimizations() || !globalConfig.getConfig().getOptimizations().useAsyncLighting()) {
+                    throw new CommandException(Text.of("Async lighting is not enabled"));
+                }
+                if (args.hasAny("world")) {
+                    for (WorldProperties properties : args.<WorldProperties>getAll("world")) {
+                        final Optional<World> optWorld = Sponge.getServer().getWorld(properties.getWorldName());
+                        if (!optWorld.isPresent()) {
+                            src.sendMessage(Text.of(properties.getWorldName() + " has no lighting queue as it is offline!"));
+                        } else {
+                            printWorldLighting(src, optWorld.get());
+                        }
+                    }
+                } else {
+                    Sponge.getServer().getWorlds().forEach(world -> printWorldLighting(src, world));
+                }
+                return CommandResult.success();
+            })
+            .build();
+    }
+
+    private static CommandSpec createSpongeSchedulerCommand() {
+        return CommandSpec.builder()
+            .permission("sponge.command.scheduler")
+            .description(Text.of("Provides latency and execution time data about plugin tasks, optionally dump"))
+            .arguments(optional(literal(Text.of("dump"), "dump")))
+            .executor((src, args) -> {
+                final SpongeScheduler scheduler = SpongeImpl.getScheduler();
+                printSchedulerMetrics(src, "Sync", scheduler, false);
+                src.sendMessage(Text.of(INDENT, "Deferred to next tick: ", TextColors.RED, scheduler.getDeferredSyncTaskCount()));
+                printSchedulerMetrics(src, "Async", scheduler, true);
+                if (args.hasAny("dump")) {
+                    File file = new File(new File(new File("."), "scheduler-dumps"),
+                        "scheduler-info-" + DateTimeFormatter.ofPattern("yyyy-MM-dd_HH.mm.ss").format(LocalDateTime.now()) + "-server.json");
+                    src.sendMessage(Text.of("Writing scheduler info to: ", file));
+                    SchedulerSaveHelper.writeMetrics(file);
+                    src.sendMessage(Text.of("Scheduler info complete"));
+                }
+                return CommandResult.success();
+            })
+            .build();
+    }
+
+    private static CommandSpec createSpongeEventsCommand() {
+        return CommandSpec.builder()
+            .permission("sponge.command.events")
+            .description(Text.of("Provides queue and handler time data about the async event bus"))
+            .executor((src, args) -> {
+                final AsyncEventBus bus = ((SpongeEventManager) Sponge.getEventManager()).getAsyncEventBus();
+                if (bus == null) {
+                    src.sendMessage(Text.of("No plugin runs its listeners on the async event bus"));
+                    return CommandResult.success();
+                }
+                src.sendMessage(Text.of("Async event bus: ", TextColors.LIGHT_PURPLE, bus.getQueuedEventCount(), "/", bus.getMaxQueuedEventCount(),
+                    TextColors.RESET, " queued, ", bus.getDeliveredEventCount(), " delivered, ", TextColors.RED, bus.getRejectedEventCount(),
+                    TextColors.RESET, " rejected, mean queue latency ", TextColors.RED,
+                    THREE_DECIMAL_DIGITS_FORMATTER.format(bus.getAverageQueueLatency() * 1.0e-6d), "ms"));
+                src.sendMessage(Text.of(INDENT, bus.getHandledListenerCount(), " listener calls, mean ", TextColors.RED,
+                    THREE_DECIMAL_DIGITS_FORMATTER.format(bus.getAverageHandlerTime() * 1.0e-6d), "ms", TextColors.RESET, ", max ",
+                    TextColors.RED, THREE_DECIMAL_DIGITS_FORMATTER.format(bus.getMaxHandlerTime() * 1.0e-6d), "ms"));
+                return CommandResult.success();
+            })
+            .build();
+    }
+
+    private static void printSchedulerMetrics(CommandSource src, String name, SpongeScheduler scheduler, boolean async) {
+        src.sendMessage(Text.of(name, " scheduler: ", TextColors.LIGHT_PURPLE, scheduler.getQueuedTaskCount(async),
+            TextColors.RESET, " queued, ", TextColors.RED, scheduler.getLastDueTaskCount(async), TextColors.RESET, " due last tick"));
+        for (PluginTaskMetrics metrics : scheduler.getTaskMetrics(async)) {
+            final Text.Builder builder = Text.builder().append(Text.of(INDENT, TextColors.DARK_GREEN, metrics.getPlugin().getId(),
+                TextColors.RESET, ": ", metrics.getExecutedTaskCount(), " runs, mean ", TextColors.RED,
+                THREE_DECIMAL_DIGITS_FORMATTER.format(metrics.getAverageExecutionTime() * 1.0e-6d), "ms", TextColors.RESET, ", max ",
+                TextColors.RED, THREE_DECIMAL_DIGITS_FORMATTER.format(metrics.getMaxExecutionTime() * 1.0e-6d), "ms", TextColors.RESET,
+                ", mean drift ", THREE_DECIMAL_DIGITS_FORMATTER.format(metrics.getAverageStartDrift() * 1.0e-6d), "ms, ",
+                metrics.getOverrunCount(), " overruns"));
+            if (!async) {
+                builder.append(Text.of(", ", metrics.getDeferralCount(), " deferrals"));
+            } else {
+                builder.append(Text.of(", ", metrics.getQueuedTaskCount(), " queued, ", metrics.getActiveTaskCount(),
+                    " active, mean queue latency ", THREE_DECIMAL_DIGITS_FORMATTER.format(metrics.getAverageQueueLatency() * 1.0e-6d), "ms"));
+            }
+            src.sendMessage(builder.build());
+        }
+    }
+
     private static void printWorldTickTime(CommandSource src, World world) {
         final long[] worldTickTimes = ((IMixinMinecraftServer) SpongeImpl.getServer()).
             getWorldTickTimes(((ServerWorldBridge) world).bridge$getDimensionId());
@@ -851,7 +1000,41 @@ private static void printWorldTickTime(CommandSource src, World world) {
             ((ServerWorldBridge) world).bridge$getDimensionId(),
             ") TPS: ", TextColors.LIGHT_PURPLE,
             THREE_DECIMAL_DIGITS_FORMATTER.format(worldTps), TextColors.RESET,  ", Mean: ", TextColors.RED,
-            THREE_DECIMAL_DIGITS_FORMATTER.format(worldMeanTickTime), "ms"));
+            THREE_DECIMAL_DIGITS_FORMATTER.format(worldMeanTickTime), "ms", getEntityThrottleInfo(world)));
+    }
+
+    private static Text getEntityThrottleInfo(World world) {
+        if (!SpongeImpl.getGlobalConfigAdapter().getConfig().getModules().usePluginEntityActivation()) {
+            return Text.EMPTY;
+        }
+        final EntityActivationThrottle throttle = ((ActivationThrottleCapability) world).activation$getThrottle();
+        if (!throttle.isEnabled()) {
+            return Text.EMPTY;
+        }
+        if (throttle.getLevel() == 0) {
+            return Text.of(TextColors.RESET, ", Entity throttling: ", TextColors.GRAY, "off");
+        }
+        return Text.of(TextColors.RESET, ", Entity throttling: ", TextColors.GOLD, throttle.getLevel(), "/", throttle.getSteps());
+    }
+
+    private static void printWorldLighting(CommandSource src, World world) {
+        if (((WorldBridge) world).isFake()) {
+            return;
+        }
+        final LightingQueue queue = ((ServerWorldBridge) world).bridge$getLightingQueue();
+        src.sendMessage(Text.of("World [", TextColors.DARK_GREEN, world.getName(), TextColors.RESET, "] (",
+            ((ServerWorldBridge) world).bridge$getDimensionId(), ")", NEWLINE_TEXT,
+            "  Queued batches: ", TextColors.LIGHT_PURPLE, queue.getQueuedBatches(), "/", queue.getMaxQueuedBatches(), TextColors.RESET,
+            ", Deferred: ", TextColors.LIGHT_PURPLE, queue.getDeferredBatchCount(), "/", queue.getMaxDeferredBatches(), TextColors.RESET,
+            ", Queued updates: ", TextColors.LIGHT_PURPLE, queue.getQueuedUpdates(), TextColors.RESET, NEWLINE_TEXT,
+            "  Latency mean: ", TextColors.RED, THREE_DECIMAL_DIGITS_FORMATTER.format(queue.getAverageLatency(TimeUnit.MILLISECONDS)), "ms",
+            TextColors.RESET, ", Max: ", TextColors.RED, queue.getMaxLatency(TimeUnit.MILLISECONDS), "ms", TextColors.RESET, NEWLINE_TEXT,
+            "  Completed batches: ", TextColors.GRAY, queue.getCompletedBatches(), TextColors.RESET,
+            ", Relit: ", TextColors.GRAY, queue.getRelitUpdates(), TextColors.RESET,
+            ", Merged: ", TextColors.GRAY, queue.getMergedUpdates(), TextColors.RESET,
+            ", Dropped: ", TextColors.GRAY, queue.getDroppedUpdates(), TextColors.RESET, NEWLINE_TEXT,
+            "  Batches deferred: ", TextColors.GRAY, queue.getTotalDeferredBatches(), TextColors.RESET,
+            ", Relit synchronously: ", TextColors.GRAY, queue.getTotalSynchronousBatches()));
     }
 
     private static Long mean(long[] values) {
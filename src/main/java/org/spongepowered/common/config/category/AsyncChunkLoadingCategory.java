@@ -0,0 +1,57 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class AsyncChunkLoadingCategory extends ConfigCategory {
+
+    @Setting(value = "enabled", comment = "If 'true', chunks requested by players are read from disk and decoded \n"
+                                          + "on separate threads. Only attaching the chunk to the world still runs on \n"
+                                          + "the main thread, chunks closer to players are read first. \n"
+                                          + "Has no effect on SpongeForge, which reads these chunks on Forge's own chunk IO threads.")
+    private boolean enabled = false;
+
+    @Setting(value = "num-threads", comment = "The amount of threads used to read chunks asynchronously. (Default: 2)")
+    private int numThreads = 2;
+
+    @Setting(value = "max-finish-time", comment = "The maximum amount of milliseconds spent each tick attaching asynchronously \n"
+                                                  + "read chunks to their world. At least one chunk is attached per tick. (Default: 10)")
+    private int maxFinishTime = 10;
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public int getNumThreads() {
+        return Math.max(1, this.numThreads);
+    }
+
+    public int getMaxFinishTime() {
+        return this.maxFinishTime;
+    }
+}
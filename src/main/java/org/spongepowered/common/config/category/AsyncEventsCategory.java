@@ -0,0 +1,63 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@ConfigSerializable
+public class AsyncEventsCategory extends ConfigCategory {
+
+    @Setting(value = "listener-plugins", comment = "A list of plugin ids whose listeners are run on a separate thread pool when an event is posted\n"
+                                                   + "off the main thread, for example chat or login events, so slow listeners don't hold up the\n"
+                                                   + "network threads. Listeners of other plugins still run on the posting thread first. The\n"
+                                                   + "listeners of listed plugins are called one at a time and in order afterwards, and events of\n"
+                                                   + "the same type are delivered in the order they were posted. Changes these listeners make to an\n"
+                                                   + "event are not seen by the code that posted it, so only list plugins which don't need to\n"
+                                                   + "cancel or modify those events.")
+    private List<String> listenerPlugins = new ArrayList<>();
+
+    @Setting(value = "pool-size", comment = "The amount of threads running asynchronous listeners. (Default: 2)")
+    private int poolSize = 2;
+
+    @Setting(value = "max-queued-events", comment = "The maximum amount of events waiting for their asynchronous listeners. Once reached, the\n"
+                                                    + "asynchronous listeners of further events are skipped until the queue drains. (Default: 10000)")
+    private int maxQueuedEvents = 10000;
+
+    public List<String> getListenerPlugins() {
+        return this.listenerPlugins;
+    }
+
+    public int getPoolSize() {
+        return Math.max(this.poolSize, 1);
+    }
+
+    public int getMaxQueuedEvents() {
+        return Math.max(this.maxQueuedEvents, 1);
+    }
+}
@@ -36,6 +36,19 @@ public class AsyncLightingCategory extends ConfigCategory {
     @Setting(value = "num-threads", comment = "The amount of threads to dedicate for asynchronous lighting updates. (Default: 2)")
     private int numAsyncThreads = 2;
 
+    @Setting(value = "max-queued-batches", comment = "The maximum amount of chunk light batches each world may have waiting for a lighting thread.\n"
+            + "A batch relights every queued position of one chunk, so this bounds the lighting backlog of a world. (Default: 1024)")
+    private int maxQueuedBatches = 1024;
+
+    @Setting(value = "queue-full-action", comment = "What to do with a new light batch while the lighting queue of a world is full.\n"
+            + "'defer' holds the batch on the main thread and submits it once the queue drains, further updates to the chunk are merged into it.\n"
+            + "'synchronous' relights the batch immediately on the main thread. (Default: defer)")
+    private String queueFullAction = "defer";
+
+    @Setting(value = "max-deferred-batches", comment = "The maximum amount of light batches each world may hold on the main thread while its lighting\n"
+            + "queue is full. Once reached, further batches are relit immediately on the main thread. (Default: 4096)")
+    private int maxDeferredBatches = 4096;
+
     public boolean isEnabled() {
         return this.enabled;
     }
@@ -43,4 +56,16 @@ public boolean isEnabled() {
     public int getNumThreads() {
         return this.numAsyncThreads;
     }
+
+    public int getMaxQueuedBatches() {
+        return this.maxQueuedBatches;
+    }
+
+    public int getMaxDeferredBatches() {
+        return this.maxDeferredBatches;
+    }
+
+    public boolean deferWhenQueueFull() {
+        return !"synchronous".equalsIgnoreCase(this.queueFullAction);
+    }
 }
@@ -0,0 +1,78 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class ChunkGCCategory extends ConfigCategory {
+
+    @Setting(value = "policy", comment = "The policy deciding which of the chunks no player is using get queued for unload by the chunk gc. \n"
+                                         + "'inactive' queues all of them. \n"
+                                         + "'lru' keeps up to 'max-idle-chunks' of them, the ones used by a player most recently, \n"
+                                         + "and starts a run as soon as more are loaded. \n"
+                                         + "'idle-entities' keeps the ones containing an entity which was active within 'idle-ticks'. \n"
+                                         + "It requires the 'entity-activation-range' module, 'inactive' is used without it. \n"
+                                         + "'memory-pressure' keeps all of them until the used heap exceeds 'memory-threshold' percent, \n"
+                                         + "and then starts a run right away. \n"
+                                         + "(Default: inactive)")
+    private String policy = "inactive";
+
+    @Setting(value = "chunks-per-tick", comment = "The maximum number of chunks checked by the chunk gc in a single tick, spreading \n"
+                                                  + "each run over several ticks. Set to 0 to check all loaded chunks at once. (Default: 0)")
+    private int chunksPerTick = 0;
+
+    @Setting(value = "max-idle-chunks", comment = "The number of chunks no player is using kept by the 'lru' policy. (Default: 256)")
+    private int maxIdleChunks = 256;
+
+    @Setting(value = "idle-ticks", comment = "The number of ticks since an entity in the chunk was last active after which the \n"
+                                             + "'idle-entities' policy stops keeping a chunk no player is using. (Default: 6000)")
+    private int idleTicks = 6000;
+
+    @Setting(value = "memory-threshold", comment = "The percentage of the maximum heap which has to be in use before the \n"
+                                                   + "'memory-pressure' policy stops keeping chunks no player is using. (Default: 80)")
+    private int memoryThreshold = 80;
+
+    public String getPolicy() {
+        return this.policy;
+    }
+
+    public int getChunksPerTick() {
+        return this.chunksPerTick;
+    }
+
+    public int getMaxIdleChunks() {
+        return this.maxIdleChunks;
+    }
+
+    public int getIdleTicks() {
+        return this.idleTicks;
+    }
+
+    public int getMemoryThreshold() {
+        return this.memoryThreshold;
+    }
+}
@@ -39,6 +39,8 @@ public class EntityActivationRangeCategory extends ConfigCategory {
     private Map<String, Integer> defaultRanges = new HashMap<>();
     @Setting(value = "mods", comment = "Per-mod overrides. Refer to the minecraft default mod for example.")
     private Map<String, EntityActivationModCategory> modList = new HashMap<>();
+    @Setting(value = "throttling", comment = "Adapts activation ranges to the load of the world.")
+    private EntityActivationThrottleCategory throttling = new EntityActivationThrottleCategory();
 
     public EntityActivationRangeCategory() {
         this.defaultRanges.put("ambient", 32);
@@ -59,4 +61,8 @@ public Map<String, Integer> getDefaultRanges() {
     public Map<String, EntityActivationModCategory> getModList() {
         return this.modList;
     }
+
+    public EntityActivationThrottleCategory getThrottling() {
+        return this.throttling;
+    }
 }
\ No newline at end of file
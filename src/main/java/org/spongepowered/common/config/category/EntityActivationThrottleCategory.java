@@ -0,0 +1,93 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import com.google.common.collect.Lists;
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+import java.util.List;
+
+@ConfigSerializable
+public class EntityActivationThrottleCategory extends ConfigCategory {
+
+    @Setting(value = "enabled", comment = "If 'true', activation ranges of the throttled categories shrink and their inactive entities \n"
+                                          + "tick less often while the mean tick time of the world exceeds 'target-mspt'.")
+    private boolean enabled = false;
+
+    @Setting(value = "target-mspt", comment = "The mean world tick time in milliseconds above which entities get throttled further. (Default: 45)")
+    private double targetMspt = 45;
+
+    @Setting(value = "restore-mspt", comment = "The mean world tick time in milliseconds below which the throttling is reduced again. (Default: 35)")
+    private double restoreMspt = 35;
+
+    @Setting(value = "check-interval", comment = "The number of ticks between two adjustments of the throttling. (Default: 100)")
+    private int checkInterval = 100;
+
+    @Setting(value = "steps", comment = "The number of adjustments it takes to go from no throttling to full throttling. (Default: 4)")
+    private int steps = 4;
+
+    @Setting(value = "categories", comment = "The activation categories to throttle. Any of ambient, aquatic, creature, misc and monster.")
+    private List<String> categories = Lists.newArrayList("ambient", "aquatic", "creature", "misc");
+
+    @Setting(value = "min-range-scale", comment = "The fraction of their configured activation range entities keep at full throttling. (Default: 0.25)")
+    private double minRangeScale = 0.25;
+
+    @Setting(value = "max-inactive-tick-interval", comment = "The number of ticks between two ticks of an inactive entity at full throttling. \n"
+                                                             + "Without throttling inactive entities tick every 20 ticks. (Default: 80)")
+    private int maxInactiveTickInterval = 80;
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public double getTargetMspt() {
+        return this.targetMspt;
+    }
+
+    public double getRestoreMspt() {
+        return this.restoreMspt;
+    }
+
+    public int getCheckInterval() {
+        return this.checkInterval;
+    }
+
+    public int getSteps() {
+        return this.steps;
+    }
+
+    public List<String> getCategories() {
+        return this.categories;
+    }
+
+    public double getMinRangeScale() {
+        return this.minRangeScale;
+    }
+
+    public int getMaxInactiveTickInterval() {
+        return this.maxInactiveTickInterval;
+    }
+}
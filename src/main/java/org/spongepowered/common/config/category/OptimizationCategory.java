@@ -55,6 +55,12 @@ public class OptimizationCategory extends ConfigCategory {
     @Setting(value = "async-lighting", comment = "Runs lighting updates asynchronously.")
     private AsyncLightingCategory asyncLightingCategory = new AsyncLightingCategory();
 
+    @Setting(value = "async-chunk-loading", comment = "Reads chunks requested by players asynchronously.")
+    private AsyncChunkLoadingCategory asyncChunkLoadingCategory = new AsyncChunkLoadingCategory();
+
+    @Setting(value = "chunk-save", comment = "Handles how queued chunks are written to their region files.")
+    private ChunkSaveCategory chunkSaveCategory = new ChunkSaveCategory();
+
     @Setting(value = "eigen-redstone", comment = "Uses theosib's redstone algorithms to completely overhaul the way redstone works.")
     private EigenRedstoneCategory eigenRedstonCategory = new EigenRedstoneCategory();
 
@@ -159,6 +165,14 @@ public boolean useAsyncLighting() {
         return this.asyncLightingCategory.isEnabled();
     }
 
+    public AsyncChunkLoadingCategory getAsyncChunkLoadingCategory() {
+        return this.asyncChunkLoadingCategory;
+    }
+
+    public ChunkSaveCategory getChunkSaveCategory() {
+        return this.chunkSaveCategory;
+    }
+
     public EigenRedstoneCategory getEigenRedstoneCategory() {
         return this.eigenRedstonCategory;
     }
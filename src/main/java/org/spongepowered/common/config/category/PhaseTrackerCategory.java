@@ -88,6 +88,18 @@ public class PhaseTrackerCategory extends ConfigCategory {
                                                                + "to resolve the runaway. If verbose is enabled, they will always print.")
     private int maxRunawayCount = 3;
 
+    @Setting(value = "pool-contexts", comment = "If 'true', the phase contexts of the most frequently entered states \n"
+                                              + "(entity, tile entity and block ticks, neighbor notifications, block events \n"
+                                              + "and event listeners) are reused from a small per-state pool on the main \n"
+                                              + "thread instead of being allocated every time the state is entered.")
+    private boolean poolContexts = true;
+
+    @Setting(value = "debug-pooled-contexts", comment = "If 'true', pooled phase contexts are never reused once closed, and \n"
+                                                      + "any access to a closed context throws an exception pointing at where \n"
+                                                      + "it was closed. Useful for tracking down code holding on to a context \n"
+                                                      + "after its phase has completed, at the cost of the pooling itself.")
+    private boolean debugPooledContexts = false;
+
     public boolean isVerbose() {
         return this.isVerbose;
     }
@@ -169,6 +181,14 @@ public int getMaximumRunawayCount() {
         return this.maxRunawayCount;
     }
 
+    public boolean poolContexts() {
+        return this.poolContexts;
+    }
+
+    public boolean debugPooledContexts() {
+        return this.debugPooledContexts;
+    }
+
     public boolean isReportNullSourceBlocks() {
         return reportNullSourceBlocks;
     }
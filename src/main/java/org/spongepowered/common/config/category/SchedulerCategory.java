@@ -0,0 +1,72 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class SchedulerCategory extends ConfigCategory {
+
+    @Setting(value = "async-pool-size", comment = "The maximum amount of threads running asynchronous plugin tasks at the same time.\n"
+                                                  + "If '0', twice the amount of available processors is used. (Default: 0)")
+    private int asyncPoolSize = 0;
+
+    @Setting(value = "async-queue-size", comment = "The amount of asynchronous tasks that can wait for a free thread. Once the queue\n"
+                                                   + "is full, the scheduler stops dispatching new tasks until a thread frees up, and\n"
+                                                   + "tasks submitted from other threads wait for the scheduler to hand them over.\n"
+                                                   + "Changing this on reload replaces the thread pool. (Default: 1024)")
+    private int asyncQueueSize = 1024;
+
+    @Setting(value = "async-virtual-threads", comment = "If 'true', asynchronous tasks are run on virtual threads when the Java runtime\n"
+                                                        + "supports them, in which case 'async-pool-size' and 'async-queue-size' are ignored.\n"
+                                                        + "Falls back to the regular thread pool on runtimes without virtual threads.")
+    private boolean asyncVirtualThreads = false;
+
+    @Setting(value = "sync-tick-budget", comment = "The maximum amount of milliseconds synchronous tasks may run for during a single tick.\n"
+                                                   + "Due tasks that do not fit are carried over to the next tick, taking turns between\n"
+                                                   + "plugins so no single plugin can starve the others. If '0', all due tasks are run\n"
+                                                   + "every tick. (Default: 0)")
+    private int syncTickBudget = 0;
+
+    public int getAsyncPoolSize() {
+        if (this.asyncPoolSize <= 0) {
+            return Runtime.getRuntime().availableProcessors() * 2;
+        }
+        return this.asyncPoolSize;
+    }
+
+    public int getAsyncQueueSize() {
+        return Math.max(this.asyncQueueSize, 1);
+    }
+
+    public boolean useAsyncVirtualThreads() {
+        return this.asyncVirtualThreads;
+    }
+
+    public int getSyncTickBudget() {
+        return this.syncTickBudget;
+    }
+}
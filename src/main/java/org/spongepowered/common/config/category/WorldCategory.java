@@ -81,6 +81,12 @@ public class WorldCategory extends ConfigCategory {
                                                            + "loaded on the world and increases the chance for a drop in tps. (Default: 100)")
     private int maxChunkUnloads = 100;
 
+    @Setting(value = "max-chunk-unload-time", comment = "The maximum number of milliseconds spent unloading queued chunks in a single tick. \n"
+                                                      + "Chunks inactive the longest and furthest away from players are unloaded first. \n"
+                                                      + "At least one chunk is unloaded per tick, set to 0 to only limit the unloads by \n"
+                                                      + "'max-chunk-unloads-per-tick'. (Default: 10)")
+    private int maxChunkUnloadTime = 10;
+
     @Setting(value = "chunk-gc-load-threshold", comment = "The number of newly loaded chunks before triggering a forced cleanup. \n"
                                                         + "Note: When triggered, the loaded chunk threshold will reset and start incrementing. \n"
                                                         + "Disabled by default.")
@@ -207,6 +213,10 @@ public int getMaxChunkUnloads() {
         return this.maxChunkUnloads;
     }
 
+    public int getMaxChunkUnloadTime() {
+        return this.maxChunkUnloadTime;
+    }
+
     public double getItemMergeRadius() {
         return this.itemMergeRadius;
     }
@@ -26,6 +26,7 @@
 
 import ninja.leaping.configurate.objectmapping.Setting;
 import org.spongepowered.common.config.category.PlayerBlockTracker;
+import org.spongepowered.common.config.category.ChunkGCCategory;
 import org.spongepowered.common.config.category.DebugCategory;
 import org.spongepowered.common.config.category.EntityActivationRangeCategory;
 import org.spongepowered.common.config.category.EntityCategory;
@@ -44,6 +45,9 @@ public class GeneralConfigBase extends ConfigBase {
 
     @Setting
     protected WorldCategory world = new WorldCategory();
+    @Setting(value = "chunk-gc", comment = "Decides which chunks no player is using get queued for unload by the chunk gc. \n"
+                                         + "Runs are triggered by 'chunk-gc-tick-interval' and 'chunk-gc-load-threshold' in the world category.")
+    private ChunkGCCategory chunkGC = new ChunkGCCategory();
     @Setting(value = "player-block-tracker")
     private PlayerBlockTracker playerBlockTracker = new PlayerBlockTracker();
     @Setting
@@ -72,6 +76,10 @@ public PlayerBlockTracker getBlockTracking() {
         return this.playerBlockTracker;
     }
 
+    public ChunkGCCategory getChunkGC() {
+        return this.chunkGC;
+    }
+
     public DebugCategory getDebug() {
         return this.debug;
     }
@@ -30,6 +30,7 @@
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import ninja.leaping.configurate.objectmapping.Setting;
+import org.spongepowered.common.config.category.AsyncEventsCategory;
 import org.spongepowered.common.config.category.BrokenModCategory;
 import org.spongepowered.common.config.category.BungeeCordCategory;
 import org.spongepowered.common.config.category.PhaseTrackerCategory;
@@ -40,6 +41,7 @@
 import org.spongepowered.common.config.category.ModuleCategory;
 import org.spongepowered.common.config.category.MovementChecksCategory;
 import org.spongepowered.common.config.category.OptimizationCategory;
+import org.spongepowered.common.config.category.SchedulerCategory;
 import org.spongepowered.common.config.category.SqlCategory;
 import org.spongepowered.common.config.category.MetricsCategory;
 import org.spongepowered.common.config.category.TeleportHelperCategory;
@@ -96,6 +98,12 @@ public class GlobalConfig extends GeneralConfigBase {
     @Setting(value = "metrics")
     private MetricsCategory metricsCategory = new MetricsCategory();
 
+    @Setting(value = "scheduler", comment = "Configuration options related to the plugin task scheduler")
+    private SchedulerCategory scheduler = new SchedulerCategory();
+
+    @Setting(value = "async-events", comment = "Configuration options related to running event listeners off the main thread")
+    private AsyncEventsCategory asyncEvents = new AsyncEventsCategory();
+
     public GlobalConfig() {
         super();
     }
@@ -168,4 +176,12 @@ public MovementChecksCategory getMovementChecks() {
     public MetricsCategory getMetricsCategory() {
         return this.metricsCategory;
     }
+
+    public SchedulerCategory getScheduler() {
+        return this.scheduler;
+    }
+
+    public AsyncEventsCategory getAsyncEvents() {
+        return this.asyncEvents;
+    }
 }
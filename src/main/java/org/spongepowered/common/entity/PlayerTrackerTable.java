@@ -0,0 +1,204 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity;
+
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongMaps;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.Short2LongMap;
+import it.unimi.dsi.fastutil.shorts.Short2LongMaps;
+import it.unimi.dsi.fastutil.shorts.Short2LongOpenHashMap;
+
+import javax.annotation.Nullable;
+
+/**
+ * The owner and notifier indexes of the tracked block positions of a single
+ * chunk. Positions up to y 255 are keyed by their packed {@code short} chunk
+ * position, any position above by a packed {@code int}, like the
+ * {@code pos} and {@code ipos} keys of the chunk NBT.
+ *
+ * <p>Both indexes of a position are packed into a single {@code long}, the
+ * owner in the upper and the notifier in the lower 32 bits, so a tracked
+ * position costs a primitive map slot instead of a boxed key, a map entry
+ * and a {@link PlayerTracker}. An index of {@code -1} means untracked, a
+ * position whose indexes are both untracked is not stored.</p>
+ */
+public final class PlayerTrackerTable {
+
+    /**
+     * The value of positions that are not tracked.
+     */
+    public static final long UNTRACKED = -1L;
+
+    // Created on first use, as most chunks never track anything
+    @Nullable private Short2LongOpenHashMap shortPositions;
+    @Nullable private Int2LongOpenHashMap intPositions;
+
+    public static long pack(int ownerIndex, int notifierIndex) {
+        return (long) ownerIndex << 32 | notifierIndex & 0xFFFFFFFFL;
+    }
+
+    public static int ownerIndex(long tracked) {
+        return (int) (tracked >> 32);
+    }
+
+    public static int notifierIndex(long tracked) {
+        return (int) tracked;
+    }
+
+    public boolean isEmpty() {
+        return (this.shortPositions == null || this.shortPositions.isEmpty()) && (this.intPositions == null || this.intPositions.isEmpty());
+    }
+
+    public boolean containsShort(short pos) {
+        return this.shortPositions != null && this.shortPositions.containsKey(pos);
+    }
+
+    public boolean containsInt(int pos) {
+        return this.intPositions != null && this.intPositions.containsKey(pos);
+    }
+
+    public long getShort(short pos) {
+        return this.shortPositions == null ? UNTRACKED : this.shortPositions.get(pos);
+    }
+
+    public long getInt(int pos) {
+        return this.intPositions == null ? UNTRACKED : this.intPositions.get(pos);
+    }
+
+    public void putShort(short pos, long tracked) {
+        if (tracked == UNTRACKED) {
+            this.removeShort(pos);
+            return;
+        }
+        if (this.shortPositions == null) {
+            this.shortPositions = new Short2LongOpenHashMap();
+            this.shortPositions.defaultReturnValue(UNTRACKED);
+        }
+        this.shortPositions.put(pos, tracked);
+    }
+
+    public void putInt(int pos, long tracked) {
+        if (tracked == UNTRACKED) {
+            this.removeInt(pos);
+            return;
+        }
+        if (this.intPositions == null) {
+            this.intPositions = new Int2LongOpenHashMap();
+            this.intPositions.defaultReturnValue(UNTRACKED);
+        }
+        this.intPositions.put(pos, tracked);
+    }
+
+    public void removeShort(short pos) {
+        if (this.shortPositions != null) {
+            this.shortPositions.remove(pos);
+        }
+    }
+
+    public void removeInt(int pos) {
+        if (this.intPositions != null) {
+            this.intPositions.remove(pos);
+        }
+    }
+
+    /**
+     * Gets an unmodifiable view of the positions keyed by their packed
+     * {@code short} position.
+     *
+     * @return The short keyed positions
+     */
+    public Short2LongMap getShortPositions() {
+        return this.shortPositions == null ? Short2LongMaps.EMPTY_MAP : Short2LongMaps.unmodifiable(this.shortPositions);
+    }
+
+    /**
+     * Gets an unmodifiable view of the positions keyed by their packed
+     * {@code int} position.
+     *
+     * @return The int keyed positions
+     */
+    public Int2LongMap getIntPositions() {
+        return this.intPositions == null ? Int2LongMaps.EMPTY_MAP : Int2LongMaps.unmodifiable(this.intPositions);
+    }
+
+    /**
+     * Copies the tracked positions into flat arrays, which can be handed to
+     * another thread while this table keeps being modified.
+     *
+     * @return The snapshot
+     */
+    public Snapshot snapshot() {
+        final Short2LongMap shortPositions = this.getShortPositions();
+        final Int2LongMap intPositions = this.getIntPositions();
+        final short[] shortKeys = new short[shortPositions.size()];
+        final long[] shortValues = new long[shortKeys.length];
+        int index = 0;
+        for (Short2LongMap.Entry entry : shortPositions.short2LongEntrySet()) {
+            shortKeys[index] = entry.getShortKey();
+            shortValues[index++] = entry.getLongValue();
+        }
+        final int[] intKeys = new int[intPositions.size()];
+        final long[] intValues = new long[intKeys.length];
+        index = 0;
+        for (Int2LongMap.Entry entry : intPositions.int2LongEntrySet()) {
+            intKeys[index] = entry.getIntKey();
+            intValues[index++] = entry.getLongValue();
+        }
+        return new Snapshot(shortKeys, shortValues, intKeys, intValues);
+    }
+
+    /**
+     * An immutable copy of the positions of a {@link PlayerTrackerTable},
+     * the values at an index of the value arrays belong to the key at the
+     * same index of the key arrays.
+     */
+    public static final class Snapshot {
+
+        public final short[] shortKeys;
+        public final long[] shortValues;
+        public final int[] intKeys;
+        public final long[] intValues;
+
+        Snapshot(short[] shortKeys, long[] shortValues, int[] intKeys, long[] intValues) {
+            this.shortKeys = shortKeys;
+            this.shortValues = shortValues;
+            this.intKeys = intKeys;
+            this.intValues = intValues;
+        }
+
+        public PlayerTrackerTable toTable() {
+            final PlayerTrackerTable table = new PlayerTrackerTable();
+            for (int i = 0; i < this.shortKeys.length; i++) {
+                table.putShort(this.shortKeys[i], this.shortValues[i]);
+            }
+            for (int i = 0; i < this.intKeys.length; i++) {
+                table.putInt(this.intKeys[i], this.intValues[i]);
+            }
+            return table;
+        }
+    }
+
+}
@@ -0,0 +1,224 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.AsyncEventsCategory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+
+/**
+ * Runs the listeners of opted in plugins for events posted off the main
+ * thread on a dedicated thread pool.
+ *
+ * <p>Deliveries of the same event class are chained, so they happen one
+ * after another in the order the events were posted, even though they may
+ * run on different threads. The queue depth, queue latency and handler times
+ * are reported by {@code /sponge events}.</p>
+ *
+ * <p>At most {@code async-events.max-queued-events} deliveries wait at any
+ * time. Further deliveries are rejected, their futures fail with a
+ * {@link RejectedExecutionException}, rather than running on the posting
+ * thread.</p>
+ */
+public final class AsyncEventBus {
+
+    private final Set<String> pluginIds;
+    private final int maxQueuedEvents;
+    private final ExecutorService executor;
+    // The last delivery submitted for each event class, removed again once it completes
+    private final Map<Class<?>, CompletableFuture<Boolean>> tails = new ConcurrentHashMap<>();
+
+    // Deliveries submitted which have not started yet
+    private final AtomicInteger queued = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    // The total time deliveries spent waiting to start, in nanoseconds
+    private final LongAdder queueLatency = new LongAdder();
+    private final LongAdder handled = new LongAdder();
+    private final LongAdder handlerTime = new LongAdder();
+    private final AtomicLong maxHandlerTime = new AtomicLong();
+
+    AsyncEventBus(AsyncEventsCategory config) {
+        this.pluginIds = ImmutableSet.copyOf(config.getListenerPlugins());
+        this.maxQueuedEvents = config.getMaxQueuedEvents();
+        // Deliveries waiting on the previous one of their event class are not in the executor's
+        // queue yet, so the bound is enforced on submission. The queue bound is only a safeguard.
+        this.executor = new ThreadPoolExecutor(config.getPoolSize(), config.getPoolSize(), 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(this.maxQueuedEvents), new ThreadFactoryBuilder()
+                .setNameFormat("Sponge Async Event Worker #%d")
+                .setDaemon(true)
+                .build(), new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Gets which of the given listeners belong to plugins running their
+     * listeners asynchronously. Only those listeners are run by this bus,
+     * every other listener still runs on the posting thread.
+     *
+     * @param listeners The listeners of an event
+     * @return Whether each listener runs on this bus, or null if none does
+     */
+    @Nullable
+    boolean[] getAsyncListeners(List<RegisteredListener<?>> listeners) {
+        boolean[] asyncListeners = null;
+        for (int i = 0; i < listeners.size(); i++) {
+            if (this.pluginIds.contains(listeners.get(i).getPlugin().getId())) {
+                if (asyncListeners == null) {
+                    asyncListeners = new boolean[listeners.size()];
+                }
+                asyncListeners[i] = true;
+            }
+        }
+        return asyncListeners;
+    }
+
+    /**
+     * Queues a delivery of an event after all previous deliveries of the same
+     * event class.
+     *
+     * @param eventClass The class of the event
+     * @param delivery Calls the listeners, returns whether the event ended up cancelled
+     * @return A future completed once the delivery ran, or failed if the
+     *     delivery was rejected
+     */
+    CompletableFuture<Boolean> submit(Class<?> eventClass, Supplier<Boolean> delivery) {
+        if (this.queued.incrementAndGet() > this.maxQueuedEvents) {
+            this.queued.decrementAndGet();
+            return this.reject(eventClass);
+        }
+        final long queuedTime = System.nanoTime();
+        final Supplier<Boolean> task = () -> {
+            this.queued.decrementAndGet();
+            this.queueLatency.add(System.nanoTime() - queuedTime);
+            this.delivered.increment();
+            return delivery.get();
+        };
+        final CompletableFuture<Boolean> future;
+        try {
+            future = this.tails.compute(eventClass, (type, tail) -> tail == null
+                ? CompletableFuture.supplyAsync(task, this.executor)
+                : tail.handle((result, error) -> null).thenApplyAsync(ignored -> task.get(), this.executor));
+        } catch (RejectedExecutionException e) {
+            this.queued.decrementAndGet();
+            return this.reject(eventClass);
+        }
+        future.whenComplete((result, error) -> this.tails.remove(eventClass, future));
+        return future;
+    }
+
+    private CompletableFuture<Boolean> reject(Class<?> eventClass) {
+        this.rejected.increment();
+        if (this.rejected.sum() == 1) {
+            SpongeImpl.getLogger().warn("The async event bus is full, asynchronous listeners of {} and further events are skipped "
+                + "until it drains. See /sponge events.", eventClass.getSimpleName());
+        }
+        final CompletableFuture<Boolean> future = new CompletableFuture<>();
+        future.completeExceptionally(new RejectedExecutionException("The async event bus is full"));
+        return future;
+    }
+
+    void onHandled(long handlerTime) {
+        this.handled.increment();
+        this.handlerTime.add(handlerTime);
+        this.maxHandlerTime.accumulateAndGet(handlerTime, Math::max);
+    }
+
+    /**
+     * Gets the amount of deliveries waiting for a free thread or for the
+     * previous delivery of the same event class.
+     *
+     * @return The queue depth
+     */
+    public int getQueuedEventCount() {
+        return this.queued.get();
+    }
+
+    public int getMaxQueuedEventCount() {
+        return this.maxQueuedEvents;
+    }
+
+    /**
+     * Gets the amount of deliveries which were skipped because the queue was
+     * full.
+     *
+     * @return The rejected delivery count
+     */
+    public long getRejectedEventCount() {
+        return this.rejected.sum();
+    }
+
+    public long getDeliveredEventCount() {
+        return this.delivered.sum();
+    }
+
+    /**
+     * Gets the average time between an event being posted and its
+     * asynchronous listeners starting.
+     *
+     * @return The average latency in nanoseconds
+     */
+    public long getAverageQueueLatency() {
+        final long delivered = this.delivered.sum();
+        return delivered == 0 ? 0L : this.queueLatency.sum() / delivered;
+    }
+
+    public long getHandledListenerCount() {
+        return this.handled.sum();
+    }
+
+    /**
+     * Gets the average time a single listener took to handle an event on
+     * this bus.
+     *
+     * @return The average handler time in nanoseconds
+     */
+    public long getAverageHandlerTime() {
+        final long handled = this.handled.sum();
+        return handled == 0 ? 0L : this.handlerTime.sum() / handled;
+    }
+
+    public long getMaxHandlerTime() {
+        return this.maxHandlerTime.get();
+    }
+
+}
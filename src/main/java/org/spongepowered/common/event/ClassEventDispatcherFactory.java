@@ -0,0 +1,161 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.objectweb.asm.Opcodes.AALOAD;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.ATHROW;
+import static org.objectweb.asm.Opcodes.DUP;
+import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.ILOAD;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.NEW;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.V1_6;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.common.event.gen.DefineableClassLoader;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates an {@link EventDispatcher} class per event class and listener
+ * count. All classes are defined in one shared {@link DefineableClassLoader}.
+ * A chain rebuilt by listener (un)registration reuses the class generated for
+ * the same event class and listener count, so re-registering listeners
+ * doesn't define new classes.
+ */
+public final class ClassEventDispatcherFactory implements EventDispatcher.Factory {
+
+    private static final String BASE_DISPATCHER = Type.getInternalName(EventDispatcher.class);
+    private static final String LISTENER_NAME = Type.getInternalName(EventListener.class);
+    private static final String LISTENER_DESCRIPTOR = Type.getDescriptor(EventListener.class);
+    private static final String HANDLE_METHOD_DESCRIPTOR = '(' + Type.getDescriptor(Event.class) + ")V";
+    private static final String DISPATCH_METHOD_DESCRIPTOR = "(I" + Type.getDescriptor(Event.class) + ")V";
+    private static final String CONSTRUCTOR_DESCRIPTOR = "([" + LISTENER_DESCRIPTOR + ")V";
+
+    private final AtomicInteger id = new AtomicInteger();
+    private final DefineableClassLoader classLoader;
+    private final String targetPackage;
+    private final Map<String, Class<? extends EventDispatcher>> classes = new ConcurrentHashMap<>();
+
+    public ClassEventDispatcherFactory(String targetPackage, ClassLoader parent) {
+        checkNotNull(targetPackage, "targetPackage");
+        checkArgument(!targetPackage.isEmpty(), "targetPackage cannot be empty");
+        this.targetPackage = targetPackage + '.';
+        this.classLoader = new DefineableClassLoader(checkNotNull(parent, "parent"));
+    }
+
+    @Override
+    public EventDispatcher create(Class<? extends Event> eventClass, RegisteredListener<?>[] listeners) throws Exception {
+        final EventListener<?>[] delegates = new EventListener<?>[listeners.length];
+        for (int i = 0; i < listeners.length; i++) {
+            delegates[i] = listeners[i].getListener();
+        }
+        final Class<? extends EventDispatcher> dispatcherClass = this.classes.computeIfAbsent(eventClass.getName() + '#' + listeners.length,
+                key -> {
+                    final String name = this.targetPackage + eventClass.getSimpleName() + "Dispatcher_" + this.id.incrementAndGet();
+                    return this.classLoader.defineClass(name, generateClass(name, listeners.length));
+                });
+        return dispatcherClass.getConstructor(EventListener[].class).newInstance((Object) delegates);
+    }
+
+    private static byte[] generateClass(String name, int listenerCount) {
+        name = name.replace('.', '/');
+
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+        MethodVisitor mv;
+        FieldVisitor fv;
+
+        cw.visit(V1_6, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, name, null, BASE_DISPATCHER, null);
+        for (int i = 0; i < listenerCount; i++) {
+            fv = cw.visitField(ACC_PRIVATE + ACC_FINAL, "listener" + i, LISTENER_DESCRIPTOR, null, null);
+            fv.visitEnd();
+        }
+        {
+            mv = cw.visitMethod(ACC_PUBLIC, "<init>", CONSTRUCTOR_DESCRIPTOR, null, null);
+            mv.visitCode();
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitMethodInsn(INVOKESPECIAL, BASE_DISPATCHER, "<init>", "()V", false);
+            for (int i = 0; i < listenerCount; i++) {
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitVarInsn(ALOAD, 1);
+                mv.visitLdcInsn(i);
+                mv.visitInsn(AALOAD);
+                mv.visitFieldInsn(PUTFIELD, name, "listener" + i, LISTENER_DESCRIPTOR);
+            }
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        {
+            // One call site per listener, selected through a tableswitch on the index
+            mv = cw.visitMethod(ACC_PUBLIC, "dispatch", DISPATCH_METHOD_DESCRIPTOR, null, new String[] { "java/lang/Exception" });
+            mv.visitCode();
+            final Label outOfBounds = new Label();
+            final Label[] cases = new Label[listenerCount];
+            for (int i = 0; i < listenerCount; i++) {
+                cases[i] = new Label();
+            }
+            mv.visitVarInsn(ILOAD, 1);
+            mv.visitTableSwitchInsn(0, listenerCount - 1, outOfBounds, cases);
+            for (int i = 0; i < listenerCount; i++) {
+                mv.visitLabel(cases[i]);
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitFieldInsn(GETFIELD, name, "listener" + i, LISTENER_DESCRIPTOR);
+                mv.visitVarInsn(ALOAD, 2);
+                mv.visitMethodInsn(INVOKEINTERFACE, LISTENER_NAME, "handle", HANDLE_METHOD_DESCRIPTOR, true);
+                mv.visitInsn(RETURN);
+            }
+            mv.visitLabel(outOfBounds);
+            mv.visitTypeInsn(NEW, "java/lang/IndexOutOfBoundsException");
+            mv.visitInsn(DUP);
+            mv.visitMethodInsn(INVOKESPECIAL, "java/lang/IndexOutOfBoundsException", "<init>", "()V", false);
+            mv.visitInsn(ATHROW);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        cw.visitEnd();
+
+        return cw.toByteArray();
+    }
+
+}
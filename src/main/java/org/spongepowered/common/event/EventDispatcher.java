@@ -0,0 +1,53 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import org.spongepowered.api.event.Event;
+
+/**
+ * A generated dispatcher for a fixed chain of listeners. Every listener gets
+ * its own call site in the generated class, so the JIT sees a single
+ * receiver type per call instead of one call site shared by every listener
+ * of every event.
+ */
+public abstract class EventDispatcher {
+
+    /**
+     * Passes the event to the listener at the given index of the chain the
+     * dispatcher was generated for.
+     *
+     * @param index The index of the listener
+     * @param event The event
+     * @throws Exception If the listener throws an exception
+     */
+    public abstract void dispatch(int index, Event event) throws Exception;
+
+    interface Factory {
+
+        EventDispatcher create(Class<? extends Event> eventClass, RegisteredListener<?>[] listeners) throws Exception;
+
+    }
+
+}
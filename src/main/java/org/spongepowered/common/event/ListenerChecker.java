@@ -37,10 +37,12 @@
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -53,6 +55,13 @@ public class ListenerChecker {
     private Map<String, FieldData> fields = new HashMap<>();
     private Map<Class<?>, FieldData> fieldClassMap = new HashMap<>();
 
+    // Listener counts for every registered event class, not only the ones backed by a field.
+    // Only touched from registerListenerFor/unregisterListenerFor, which the event manager calls under its lock.
+    private final Map<Class<?>, Integer> listenerCounts = new HashMap<>();
+    // Immutable snapshot of the keys of listenerCounts, read without locking by hasListeners
+    private volatile Set<Class<?>> listenedTypes = Collections.emptySet();
+    // Lazily filled lookup results. Replaced with an empty map whenever listenedTypes changes
+    private volatile Map<Class<?>, Boolean> hasListenersCache = new ConcurrentHashMap<>();
 
     private static String getName(Class<?> clazz) {
         // Properly account for inner classes. Class#getName uses a $
@@ -64,10 +73,58 @@ private static String getName(Class<?> clazz) {
 
     public <T> void registerListenerFor(Class<T> eventClass) {
         this.updateFields(eventClass, true);
+        this.updateListenedTypes(eventClass, true);
     }
 
     public <T> void unregisterListenerFor(Class<T> eventClass) {
         this.updateFields(eventClass, false);
+        this.updateListenedTypes(eventClass, false);
+    }
+
+    /**
+     * Gets whether an event of the given class could currently reach a listener.
+     *
+     * <p>This follows the same rules as the fields of the checked class, but works
+     * for any event class rather than only those with a hand-written field. A listener
+     * registered for a supertype or a subtype of the given class counts as listening.
+     * The result is cached until the next listener is registered or unregistered,
+     * so the lookup does not allocate once warmed up.</p>
+     *
+     * @param eventClass The event class
+     * @return True if a listener may receive an event of the given class
+     */
+    public boolean hasListeners(Class<?> eventClass) {
+        if (ALL_TRUE) {
+            return true;
+        }
+        // Read the cache before the snapshot, updateListenedTypes writes them in the opposite order
+        final Map<Class<?>, Boolean> cache = this.hasListenersCache;
+        Boolean result = cache.get(eventClass);
+        if (result == null) {
+            result = false;
+            for (Class<?> listenedType : this.listenedTypes) {
+                if (listenedType.isAssignableFrom(eventClass) || eventClass.isAssignableFrom(listenedType)) {
+                    result = true;
+                    break;
+                }
+            }
+            cache.put(eventClass, result);
+        }
+        return result;
+    }
+
+    private void updateListenedTypes(Class<?> eventClass, boolean registering) {
+        if (ALL_TRUE) {
+            return;
+        }
+        final int count = this.listenerCounts.getOrDefault(eventClass, 0) + (registering ? 1 : -1);
+        if (count > 0) {
+            this.listenerCounts.put(eventClass, count);
+        } else {
+            this.listenerCounts.remove(eventClass);
+        }
+        this.listenedTypes = Collections.unmodifiableSet(new HashSet<>(this.listenerCounts.keySet()));
+        this.hasListenersCache = new ConcurrentHashMap<>();
     }
 
     public ListenerChecker(Class<?> clazz) {
@@ -37,6 +37,9 @@
 
 import java.util.EnumMap;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
 
 public final class RegisteredListener<T extends Event> implements SpongeEventListener<T>, Comparable<RegisteredListener<?>> {
 
@@ -81,6 +84,10 @@ public Timing getTimingsHandler() {
         return this.listenerTimer;
     }
 
+    EventListener<? super T> getListener() {
+        return this.listener;
+    }
+
     @Override
     public Object getHandle() {
         if (this.listener instanceof SpongeEventListener) {
@@ -102,8 +109,19 @@ public int compareTo(RegisteredListener<?> handler) {
 
     public static final class Cache {
 
+        /**
+         * The amount of posts after which a dispatcher is generated for the
+         * listeners, so rarely posted events don't cost a class each.
+         */
+        private static final int DISPATCHER_THRESHOLD = 100;
+        private static final boolean[] NO_ASYNC_LISTENERS = new boolean[0];
+
         private final List<RegisteredListener<?>> listeners;
         private final EnumMap<Order, List<RegisteredListener<?>>> listenersByOrder;
+        private final AtomicInteger postCount = new AtomicInteger();
+        @Nullable private volatile EventDispatcher dispatcher;
+        // Which listeners are run by the async event bus, null until computed
+        @Nullable private volatile boolean[] asyncListeners;
 
         private static final Order[] ORDERS = Order.values();
 
@@ -127,6 +145,44 @@ public List<RegisteredListener<?>> getListenersByOrder(Order order) {
             return this.listenersByOrder.get(checkNotNull(order, "order"));
         }
 
+        @Nullable
+        EventDispatcher getDispatcher() {
+            return this.dispatcher;
+        }
+
+        /**
+         * Counts a post of the event, returns true exactly once when the
+         * listeners have been posted to often enough to warrant generating
+         * a dispatcher. Posts are no longer counted after that.
+         *
+         * @return Whether a dispatcher should be generated now
+         */
+        boolean countPost() {
+            return !this.listeners.isEmpty() && this.postCount.get() < DISPATCHER_THRESHOLD
+                && this.postCount.incrementAndGet() == DISPATCHER_THRESHOLD;
+        }
+
+        void setDispatcher(EventDispatcher dispatcher) {
+            this.dispatcher = dispatcher;
+        }
+
+        /**
+         * Gets which listeners are run by the given bus, computing it on
+         * first use. Racing threads compute the same value.
+         *
+         * @param bus The async event bus
+         * @return Whether each listener is asynchronous, or null if none is
+         */
+        @Nullable
+        boolean[] getAsyncListeners(AsyncEventBus bus) {
+            boolean[] asyncListeners = this.asyncListeners;
+            if (asyncListeners == null) {
+                asyncListeners = bus.getAsyncListeners(this.listeners);
+                this.asyncListeners = asyncListeners == null ? NO_ASYNC_LISTENERS : asyncListeners;
+            }
+            return asyncListeners == NO_ASYNC_LISTENERS ? null : asyncListeners;
+        }
+
     }
 
 }
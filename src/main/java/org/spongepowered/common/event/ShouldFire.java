@@ -24,6 +24,10 @@
  */
 package org.spongepowered.common.event;
 
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventManager;
+
 public class ShouldFire {
 
     public static boolean PLAYER_CHANGE_CLIENT_SETTINGS_EVENT = false;
@@ -109,4 +113,12 @@ public class ShouldFire {
     public static boolean BREED_ENTITY_EVENT_FIND_MATE = false;
     public static boolean BREED_ENTITY_EVENT_BREED = false;
     public static boolean CHANGE_GAME_MODE_EVENT_TARGET_PLAYER = false;
+
+    // Use hasListeners for events that have no field above. It follows the same
+    // rules as the fields and is kept up to date by the ListenerChecker, so it is
+    // safe to check before building the cause and transactions of an event.
+    public static boolean hasListeners(Class<? extends Event> eventClass) {
+        final EventManager eventManager = Sponge.getEventManager();
+        return !(eventManager instanceof SpongeEventManager) || ((SpongeEventManager) eventManager).checker.hasListeners(eventClass);
+    }
 }
@@ -68,6 +68,8 @@ public final class SpongeCauseStackManager implements CauseStackManager {
 
     private int min_depth = 0;
     private int[] duplicateCauses = new int[100];
+    // Counts every change of the causes, context or frames
+    private int modCount;
     @Nullable private Cause cached_cause;
     @Nullable private EventContext cached_ctx;
     private AtomicBoolean pendingProviders = new AtomicBoolean(false);
@@ -145,6 +147,7 @@ public CauseStackManager pushCause(Object obj) {
         enforceMainThread();
         checkNotNull(obj, "obj");
         this.cached_cause = null;
+        this.modCount++;
         if (this.cause.peek() == obj) {
             // We don't want to be pushing duplicate objects
             // to the root and secondary entry of the cause.
@@ -169,6 +172,7 @@ public CauseStackManager pushCause(Object obj) {
     @Override
     public Object popCause() {
         enforceMainThread();
+        this.modCount++;
         final int size = this.cause.size();
         // First, check for duplicate causes. If there are duplicates,
         // we can artificially "pop" by just peeking.
@@ -203,6 +207,7 @@ public Object peekCause() {
     @Override
     public StackFrame pushCauseFrame() {
         enforceMainThread();
+        this.modCount++;
         // Ensure duplicate causes will be correctly sized.
         int size = this.cause.size();
         if (this.duplicateCauses.length <= size) {
@@ -223,6 +228,7 @@ public StackFrame pushCauseFrame() {
     @Override
     public void popCauseFrame(StackFrame oldFrame) {
         enforceMainThread();
+        this.modCount++;
         checkNotNull(oldFrame, "oldFrame");
         CauseStackFrameImpl frame = this.frames.peek();
         if (frame != oldFrame) {
@@ -330,6 +336,7 @@ public <T> CauseStackManager addContext(EventContextKey<T> key, T value) {
         checkNotNull(key, "key");
         checkNotNull(value, "value");
         this.cached_ctx = null;
+        this.modCount++;
         Object existing = this.ctx.put(key, value);
         if (!this.frames.isEmpty()) {
             CauseStackFrameImpl frame = this.frames.peek();
@@ -356,6 +363,7 @@ public <T> Optional<T> removeContext(EventContextKey<T> key) {
         enforceMainThread();
         checkNotNull(key, "key");
         this.cached_ctx = null;
+        this.modCount++;
         Object existing = this.ctx.remove(key);
         if (existing != null && !this.frames.isEmpty()) {
             CauseStackFrameImpl frame = this.frames.peek();
@@ -366,12 +374,23 @@ public <T> Optional<T> removeContext(EventContextKey<T> key) {
         return Optional.ofNullable((T) existing);
     }
 
+    /**
+     * Gets a count which changes whenever a cause, context value, frame or
+     * phase context provider is pushed or popped.
+     *
+     * @return The modification count
+     */
+    public int getModificationCount() {
+        return this.modCount;
+    }
+
     public int registerPhaseContextProvider(PhaseContext<?> context, BiConsumer<StackFrame, PhaseContext<?>> consumer) {
         checkNotNull(consumer, "Consumer");
         // Reset our cached objects
         this.pendingProviders.compareAndSet(false, true); //I Reset the cache
         this.cached_cause = null; // Reset the cache
         this.cached_ctx = null; // Reset the cache
+        this.modCount++;
         // Since we cannot rely on the PhaseStack being tied to this stack of providers,
         // we have to make the tuple to tie the phase context to provide the consumer.
         this.phaseContextProviders.push(Tuple.of(context, consumer));
@@ -388,6 +407,7 @@ public void popFrameMutator(PhaseContext<?> context) {
             System.err.println("oops. corrupted phase context providers!");
         }
         this.phaseContextProviders.pop();
+        this.modCount++;
         if (this.phaseContextProviders.isEmpty()) {
             // if we're empty, we don't need to bother with the context providers
             // because there's nothing to push.
@@ -501,12 +501,33 @@ public static CollideEntityEvent callCollideEntityEvent(final net.minecraft.worl
         }
     }
 
-    public static ChangeBlockEvent.Pre callChangeBlockEventPre(final ServerWorldBridge worldIn, final BlockPos pos) {
-        return callChangeBlockEventPre(worldIn, ImmutableList.of(new Location<>((World) worldIn, pos.getX(), pos.getY(), pos.getZ())), null);
+    /**
+     * Fires a {@link ChangeBlockEvent.Pre} for a single position, unless nothing
+     * listens to it in which case no event or location is created at all.
+     *
+     * @param worldIn The world
+     * @param pos The position affected
+     * @return True if the event was cancelled
+     */
+    public static boolean callChangeBlockEventPre(final ServerWorldBridge worldIn, final BlockPos pos) {
+        return callChangeBlockEventPre(worldIn, pos, null);
     }
 
-    public static ChangeBlockEvent.Pre callChangeBlockEventPre(final ServerWorldBridge worldIn, final BlockPos pos, final Object source) {
-        return callChangeBlockEventPre(worldIn, ImmutableList.of(new Location<>((World) worldIn, pos.getX(), pos.getY(), pos.getZ())), source);
+    /**
+     * Fires a {@link ChangeBlockEvent.Pre} for a single position, unless nothing
+     * listens to it in which case no event or location is created at all.
+     *
+     * @param worldIn The world
+     * @param pos The position affected
+     * @param source The source of event
+     * @return True if the event was cancelled
+     */
+    public static boolean callChangeBlockEventPre(final ServerWorldBridge worldIn, final BlockPos pos, @Nullable final Object source) {
+        if (!ShouldFire.CHANGE_BLOCK_EVENT_PRE) {
+            return false;
+        }
+        return callChangeBlockEventPre(worldIn, ImmutableList.of(new Location<>((World) worldIn, pos.getX(), pos.getY(), pos.getZ())), source)
+            .isCancelled();
     }
 
 
@@ -619,6 +640,10 @@ public static ChangeBlockEvent.Break callChangeBlockEventModifyLiquidBreak(
     public static boolean handlePistonEvent(
         final ServerWorldBridge world, final WorldServer.ServerBlockEventList list, final Object obj, final BlockPos pos, final Block blockIn,
             final int eventId, final int eventParam) {
+        if (!ShouldFire.CHANGE_BLOCK_EVENT_PRE) {
+            // Skip simulating the piston entirely, nobody would see the result
+            return false;
+        }
         final boolean extending = (eventId == 0);
         final IBlockState blockstate = ((net.minecraft.world.World) world).getBlockState(pos);
         final EnumFacing direction = blockstate.getValue(BlockDirectional.FACING);
@@ -670,6 +695,9 @@ public static NotifyNeighborBlockEvent callNotifyNeighborEvent(final World world
         if (context.state.isWorldGeneration() || context.state.isRestoring()) {
             return null;
         }
+        if (!ShouldFire.NOTIFY_NEIGHBOR_BLOCK_EVENT) {
+            return null;
+        }
         try (final CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame()) {
             final BlockState blockstate = (BlockState) ((net.minecraft.world.World) world).getBlockState(sourcePos);
             final LocatableBlock locatable = new SpongeLocatableBlockBuilder().world(world).position(sourcePos.getX(), sourcePos.getY(), sourcePos.getZ())
@@ -895,6 +923,11 @@ public static Event callMoveEntityEvent(final net.minecraft.entity.Entity entity
         if (deltaChange > 1f / 256 // Micro-optimization, avoids almost negligible position movement from floating point differences.
             || entity.rotationPitch != entity.prevRotationPitch
             || entity.rotationYaw != entity.prevRotationYaw) {
+            // Same check as the position vectors below, done before anything is allocated
+            final boolean moved = context.prevX != entity.posX || context.prevY != entity.posY || context.prevZ != entity.posZ;
+            if (moved ? !ShouldFire.MOVE_ENTITY_EVENT_POSITION : !ShouldFire.ROTATE_ENTITY_EVENT) {
+                return null;
+            }
             try (final CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame()) {
                 frame.pushCause(entity);
                 // yes we have a move event.
@@ -1003,34 +1036,37 @@ public static boolean handleCollideBlockEvent(final Block block, final net.minec
             return false;
         }
 
-        try (final CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame()) {
-            frame.pushCause( entity);
-
-            if (entity instanceof OwnershipTrackedBridge) {
-                final OwnershipTrackedBridge spongeEntity = (OwnershipTrackedBridge) entity;
-                spongeEntity.tracked$getOwnerReference().ifPresent(user -> frame.addContext(EventContextKeys.OWNER, user));
-            }
+        if (ShouldFire.hasListeners(CollideBlockEvent.class)) {
+            try (final CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame()) {
+                frame.pushCause( entity);
 
-            // TODO: Add target side support
-            final CollideBlockEvent event = SpongeEventFactory.createCollideBlockEvent(frame.getCurrentCause(), (BlockState) state,
-                    new Location<>((World) world, VecHelper.toVector3d(pos)), direction);
-            final boolean cancelled = SpongeImpl.postEvent(event);
-            if (!cancelled) {
-                final EntityBridge spongeEntity = (EntityBridge) entity;
-                if (!pos.equals(spongeEntity.getLastCollidedBlockPos())) {
-                    final PhaseContext<?> context = PhaseTracker.getInstance().getCurrentContext();
-                    context.applyNotifierIfAvailable(notifier -> {
-                        ChunkBridge spongeChunk = ((ActiveChunkReferantBridge) entity).bridge$getActiveChunk();
-                        if (spongeChunk == null) {
-                            spongeChunk = (ChunkBridge) world.getChunk(pos);
-                        }
-                        spongeChunk.addTrackedBlockPosition(block, pos, notifier, PlayerTracker.Type.NOTIFIER);
+                if (entity instanceof OwnershipTrackedBridge) {
+                    final OwnershipTrackedBridge spongeEntity = (OwnershipTrackedBridge) entity;
+                    spongeEntity.tracked$getOwnerReference().ifPresent(user -> frame.addContext(EventContextKeys.OWNER, user));
+                }
 
-                    });
+                // TODO: Add target side support
+                final CollideBlockEvent event = SpongeEventFactory.createCollideBlockEvent(frame.getCurrentCause(), (BlockState) state,
+                        new Location<>((World) world, VecHelper.toVector3d(pos)), direction);
+                if (SpongeImpl.postEvent(event)) {
+                    return true;
                 }
             }
-            return cancelled;
         }
+
+        final EntityBridge spongeEntity = (EntityBridge) entity;
+        if (!pos.equals(spongeEntity.getLastCollidedBlockPos())) {
+            final PhaseContext<?> context = PhaseTracker.getInstance().getCurrentContext();
+            context.applyNotifierIfAvailable(notifier -> {
+                ChunkBridge spongeChunk = ((ActiveChunkReferantBridge) entity).bridge$getActiveChunk();
+                if (spongeChunk == null) {
+                    spongeChunk = (ChunkBridge) world.getChunk(pos);
+                }
+                spongeChunk.addTrackedBlockPosition(block, pos, notifier, PlayerTracker.Type.NOTIFIER);
+
+            });
+        }
+        return false;
     }
 
     public static boolean handleCollideImpactEvent(final net.minecraft.entity.Entity projectile, @Nullable final ProjectileSource projectileSource,
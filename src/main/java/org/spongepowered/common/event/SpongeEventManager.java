@@ -28,11 +28,10 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import co.aikar.timings.Timing;
-import org.spongepowered.common.event.tracking.phase.plugin.EventListenerPhaseContext;
 import org.spongepowered.common.relocate.co.aikar.timings.TimingsManager;
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSetMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Multimap;
@@ -54,9 +53,11 @@
 import org.spongepowered.api.plugin.PluginManager;
 import org.spongepowered.asm.util.PrettyPrinter;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.AsyncEventsCategory;
 import org.spongepowered.common.event.filter.FilterFactory;
 import org.spongepowered.common.event.gen.DefineableClassLoader;
 import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.phase.plugin.EventListenerPhaseContext;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.phase.plugin.ListenerPhaseContext;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
@@ -65,7 +66,6 @@
 import org.spongepowered.common.item.inventory.custom.CustomInventoryListener;
 import org.spongepowered.common.util.TypeTokenHelper;
 
-import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.TypeVariable;
@@ -78,6 +78,8 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -91,79 +93,88 @@ public class SpongeEventManager implements EventManager {
 
     private static final TypeVariable<?> GENERIC_EVENT_TYPE = GenericEvent.class.getTypeParameters()[0];
 
+    // Only guards registration, posting never takes this lock
     private final Object lock = new Object();
     protected final Logger logger;
     private final PluginManager pluginManager;
     private final Multimap<Class<?>, RegisteredListener<?>> handlersByEvent = HashMultimap.create();
+    /**
+     * An immutable copy of {@link #handlersByEvent}, republished after every
+     * registration change so handlers can be baked without holding the lock.
+     */
+    private volatile ImmutableSetMultimap<Class<?>, RegisteredListener<?>> handlersSnapshot = ImmutableSetMultimap.of();
     private final Map<ClassLoader, AnnotatedEventListener.Factory> classLoaders = Maps.newHashMap();
     private final Set<Object> registeredListeners = Sets.newHashSet();
 
     public final ListenerChecker checker = new ListenerChecker(ShouldFire.class);
 
+    private final EventDispatcher.Factory dispatcherFactory =
+            new ClassEventDispatcherFactory("org.spongepowered.common.event.dispatcher", SpongeEventManager.class.getClassLoader());
+
     /**
-     * A cache of all the handlers for an event type for quick event posting.
-     * <p>The cache is currently entirely invalidated if handlers are added or
-     * removed.</p>
+     * The baked handlers of every non generic event class posted so far, keyed
+     * by the event class itself so posting doesn't need to allocate a key.
+     * <p>The table is replaced as a whole if handlers are added or removed,
+     * posting threads holding the previous table simply finish with it.</p>
      */
-    protected final LoadingCache<EventType<?>, RegisteredListener.Cache> handlersCache =
-            Caffeine.newBuilder().initialCapacity(150).build(this::bakeHandlers);
+    private volatile Map<Class<?>, RegisteredListener.Cache> handlersByClass = new ConcurrentHashMap<>(150);
+
+    /**
+     * The baked handlers of generic events, which also depend on the generic
+     * type of the event. Replaced together with {@link #handlersByClass}.
+     */
+    private volatile Map<EventType<?>, RegisteredListener.Cache> handlersByType = new ConcurrentHashMap<>();
+
+    @Nullable private volatile AsyncEventBus asyncEventBus;
+    private volatile boolean asyncEventBusInitialized;
 
     @Inject
     public SpongeEventManager(Logger logger, PluginManager pluginManager) {
         this.logger = logger;
         this.pluginManager = checkNotNull(pluginManager, "pluginManager");
-
-        // Caffeine offers no control over the concurrency level of the
-        // ConcurrentHashMap which backs the cache. By default this concurrency
-        // level is 16. We replace the backing map before any use can occur
-        // a new ConcurrentHashMap with a concurrency level of 1
-        try {
-            // Cache impl class is UnboundedLocalLoadingCache which extends
-            // UnboundedLocalManualCache
-
-            // UnboundedLocalManualCache has a field 'cache' with an
-            // UnboundedLocalCache which contains the actual backing map
-            Field innerCache = this.handlersCache.getClass().getSuperclass().getDeclaredField("cache");
-            innerCache.setAccessible(true);
-            Object innerCacheValue = innerCache.get(this.handlersCache);
-            Class<?> innerCacheClass = innerCacheValue.getClass(); // UnboundedLocalCache
-            Field cacheData = innerCacheClass.getDeclaredField("data");
-            cacheData.setAccessible(true);
-            ConcurrentHashMap<Class<? extends Event>, RegisteredListener.Cache> newBackingData = new ConcurrentHashMap<>(150, 0.75f, 1);
-            cacheData.set(innerCacheValue, newBackingData);
-        } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
-            this.logger.warn("Failed to set event cache backing array, type was " + this.handlersCache.getClass().getName());
-            this.logger.warn("  Caused by: " + e.getClass().getName() + ": " + e.getMessage());
-        }
     }
 
     <T extends Event> RegisteredListener.Cache bakeHandlers(EventType<T> eventType) {
         final List<RegisteredListener<?>> handlers = new ArrayList<>();
         final Set<Class<? super T>> types = TypeToken.of(eventType.getType()).getTypes().rawTypes();
-
-        synchronized (this.lock) {
-            for (Class<? super T> type : types) {
-                if (Event.class.isAssignableFrom(type)) {
-                    final Collection<RegisteredListener<?>> listeners = this.handlersByEvent.get(type);
-                    if (GenericEvent.class.isAssignableFrom(type)) {
-                        final TypeToken<?> genericType = eventType.getGenericType();
-                        checkNotNull(genericType);
-                        for (RegisteredListener<?> listener : listeners) {
-                            final TypeToken<?> genericType1 = listener.getEventType().getGenericType();
-                            checkNotNull(genericType1);
-                            if (TypeTokenHelper.isAssignable(genericType, genericType1)) {
-                                handlers.add(listener);
-                            }
+        final ImmutableSetMultimap<Class<?>, RegisteredListener<?>> handlersByEvent = this.handlersSnapshot;
+
+        for (Class<? super T> type : types) {
+            if (Event.class.isAssignableFrom(type)) {
+                final Collection<RegisteredListener<?>> listeners = handlersByEvent.get(type);
+                if (GenericEvent.class.isAssignableFrom(type)) {
+                    final TypeToken<?> genericType = eventType.getGenericType();
+                    checkNotNull(genericType);
+                    for (RegisteredListener<?> listener : listeners) {
+                        final TypeToken<?> genericType1 = listener.getEventType().getGenericType();
+                        checkNotNull(genericType1);
+                        if (TypeTokenHelper.isAssignable(genericType, genericType1)) {
+                            handlers.add(listener);
                         }
-                    } else {
-                        handlers.addAll(listeners);
                     }
+                } else {
+                    handlers.addAll(listeners);
                 }
             }
         }
 
         Collections.sort(handlers);
-        return new RegisteredListener.Cache(handlers);
+        return new RegisteredListener.Cache(ImmutableList.copyOf(handlers));
+    }
+
+    /**
+     * Publishes the current registrations and drops every baked cache. Must be
+     * called while holding the lock.
+     *
+     * <p>The snapshot is written before the tables, and posting threads read
+     * the tables before the snapshot, so a table can never end up holding
+     * handlers baked from an older snapshot than the one it was created
+     * after.</p>
+     */
+    private void publishHandlers() {
+        this.handlersSnapshot = ImmutableSetMultimap.copyOf(this.handlersByEvent);
+        this.handlersByClass = new ConcurrentHashMap<>(150);
+        this.handlersByType = new ConcurrentHashMap<>();
     }
 
     @Nullable
@@ -211,10 +222,10 @@ private void register(List<RegisteredListener<? extends Event>> handlers) {
                     this.checker.registerListenerFor(raw);
                 }
             }
-        }
 
-        if (changed) {
-            this.handlersCache.invalidateAll();
+            if (changed) {
+                publishHandlers();
+            }
         }
     }
 
@@ -361,10 +372,10 @@ private void unregister(Predicate<RegisteredListener<?>> unregister) {
                     this.registeredListeners.remove(handler.getHandle());
                 }
             }
-        }
 
-        if (changed) {
-            this.handlersCache.invalidateAll();
+            if (changed) {
+                publishHandlers();
+            }
         }
     }
 
@@ -389,54 +400,222 @@ public void unregisterPluginListeners(Object pluginObj) {
     protected RegisteredListener.Cache getHandlerCache(Event event) {
         checkNotNull(event, "event");
         final Class<? extends Event> eventClass = event.getClass();
-        final EventType<? extends Event> eventType;
         if (event instanceof GenericEvent) {
-            eventType = new EventType(eventClass, checkNotNull(((GenericEvent) event).getGenericType()));
-        } else {
-            eventType = new EventType(eventClass, null);
+            final Map<EventType<?>, RegisteredListener.Cache> handlersByType = this.handlersByType;
+            final EventType<? extends Event> eventType = new EventType(eventClass, checkNotNull(((GenericEvent) event).getGenericType()));
+            final RegisteredListener.Cache cache = handlersByType.get(eventType);
+            if (cache != null) {
+                return cache;
+            }
+            final RegisteredListener.Cache baked = bakeHandlers(eventType);
+            final RegisteredListener.Cache previous = handlersByType.putIfAbsent(eventType, baked);
+            return previous == null ? baked : previous;
+        }
+        final Map<Class<?>, RegisteredListener.Cache> handlersByClass = this.handlersByClass;
+        final RegisteredListener.Cache cache = handlersByClass.get(eventClass);
+        if (cache != null) {
+            return cache;
         }
-        return this.handlersCache.get(eventType);
+        final RegisteredListener.Cache baked = bakeHandlers(new EventType(eventClass, null));
+        final RegisteredListener.Cache previous = handlersByClass.putIfAbsent(eventClass, baked);
+        return previous == null ? baked : previous;
     }
 
-    @SuppressWarnings("unchecked")
-    private boolean post(Event event, List<RegisteredListener<?>> handlers) {
-        if (!Sponge.getServer().isMainThread()) {
-            // If this event is being posted asynchronously then we don't want
-            // to do any timing or cause stack changes
-            for (@SuppressWarnings("rawtypes") RegisteredListener handler : handlers) {
-                try {
-                    if (event instanceof AbstractEvent) {
-                        ((AbstractEvent) event).currentOrder = handler.getOrder();
+    private void generateDispatcher(Class<? extends Event> eventClass, RegisteredListener.Cache cache) {
+        final List<RegisteredListener<?>> listeners = cache.getListeners();
+        try {
+            cache.setDispatcher(this.dispatcherFactory.create(eventClass, listeners.toArray(new RegisteredListener<?>[0])));
+        } catch (Exception e) {
+            this.logger.warn("Failed to generate the event dispatcher for {}, falling back to regular dispatching", eventClass.getName(), e);
+        }
+    }
+
+    /**
+     * Gets the bus running the listeners of opted in plugins for events
+     * posted off the main thread.
+     *
+     * @return The async event bus, or null if no plugin is opted in
+     */
+    @Nullable
+    public AsyncEventBus getAsyncEventBus() {
+        if (!this.asyncEventBusInitialized) {
+            if (!SpongeImpl.isInitialized()) {
+                // We're likely testing, there is no config to read
+                return null;
+            }
+            synchronized (this) {
+                if (!this.asyncEventBusInitialized) {
+                    final AsyncEventsCategory config = SpongeImpl.getGlobalConfigAdapter().getConfig().getAsyncEvents();
+                    if (!config.getListenerPlugins().isEmpty()) {
+                        this.asyncEventBus = new AsyncEventBus(config);
                     }
-                    handler.handle(event);
-                } catch (Throwable e) {
-                    SpongeImpl.getLogger().error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin(), e);
+                    this.asyncEventBusInitialized = true;
                 }
             }
-            if (event instanceof AbstractEvent) {
-                ((AbstractEvent) event).currentOrder = null;
+        }
+        return this.asyncEventBus;
+    }
+
+    /**
+     * Posts an event off the main thread if some of its listeners run on the
+     * async event bus. The listeners of plugins which didn't opt in are called
+     * right away and in order, the listeners of opted in plugins are queued
+     * on the bus.
+     *
+     * @return A future completed once the queued listeners ran, or null if
+     *     the event was not posted
+     */
+    @Nullable
+    private CompletableFuture<Boolean> postWithAsyncListeners(Event event, RegisteredListener.Cache cache) {
+        if (Sponge.getServer().isMainThread()) {
+            return null;
+        }
+        final AsyncEventBus bus = getAsyncEventBus();
+        if (bus == null) {
+            return null;
+        }
+        final boolean[] asyncListeners = cache.getAsyncListeners(bus);
+        if (asyncListeners == null) {
+            return null;
+        }
+        final List<RegisteredListener<?>> handlers = cache.getListeners();
+        final EventDispatcher dispatcher = cache.getDispatcher();
+        callListenersOffMainThread(event, handlers, dispatcher, asyncListeners, false, null);
+        return bus.submit(event.getClass(), () -> {
+            final Throwable failure = callListenersOffMainThread(event, handlers, dispatcher, asyncListeners, true, bus);
+            if (failure != null) {
+                throw new CompletionException(failure);
             }
             return event instanceof Cancellable && ((Cancellable) event).isCancelled();
+        });
+    }
+
+    /**
+     * Posts an event, including to the listeners of plugins running their
+     * listeners on the async event bus if it is posted off the main thread.
+     *
+     * @param event The event
+     * @return A future completed with whether the event ended up cancelled
+     *     once every listener ran, failed with the first exception thrown by
+     *     an asynchronous listener or if the async event bus is full
+     */
+    public CompletableFuture<Boolean> postAsync(Event event) {
+        final RegisteredListener.Cache cache = getHandlerCache(event);
+        if (cache.countPost()) {
+            generateDispatcher(event.getClass(), cache);
         }
-        TimingsManager.PLUGIN_EVENT_HANDLER.startTimingIfSync();
-        for (@SuppressWarnings("rawtypes") RegisteredListener handler : handlers) {
-            try (CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame();
-                 final PhaseContext<?> context = createPluginContext(handler);
-                 final Timing timings = handler.getTimingsHandler()) {
-                frame.pushCause(handler.getPlugin());
-                if (context != null) {
-                    context.buildAndSwitch();
-                }
-                timings.startTimingIfSync();
+        final CompletableFuture<Boolean> delivery = postWithAsyncListeners(event, cache);
+        if (delivery != null) {
+            return delivery;
+        }
+        return CompletableFuture.completedFuture(post(event, cache.getListeners(), cache.getDispatcher()));
+    }
+
+    /**
+     * Calls the listeners of an event posted off the main thread.
+     *
+     * @return The first exception thrown by a listener, if any
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private static Throwable callListenersOffMainThread(Event event, List<RegisteredListener<?>> handlers, @Nullable EventDispatcher dispatcher,
+            @Nullable boolean[] asyncListeners, boolean async, @Nullable AsyncEventBus bus) {
+        Throwable failure = null;
+        // If this event is being posted asynchronously then we don't want
+        // to do any timing or cause stack changes
+        for (int i = 0; i < handlers.size(); i++) {
+            if (asyncListeners != null && asyncListeners[i] != async) {
+                continue;
+            }
+            @SuppressWarnings("rawtypes") final RegisteredListener handler = handlers.get(i);
+            final long startTime = bus == null ? 0L : System.nanoTime();
+            try {
                 if (event instanceof AbstractEvent) {
                     ((AbstractEvent) event).currentOrder = handler.getOrder();
                 }
-                handler.handle(event);
+                if (dispatcher != null) {
+                    dispatcher.dispatch(i, event);
+                } else {
+                    handler.handle(event);
+                }
             } catch (Throwable e) {
-                // TODO - add some better handling, especially since we have the stakc frame and phase context to boot
-                final PrettyPrinter printer = new PrettyPrinter(60).add("Error with event listener handling").centre().hr();
-                printer.add("A listener threw an exception while being handled, this is usually not a sponge bug.");
-                this.logger.error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin(), e);
+                SpongeImpl.getLogger().error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin(), e);
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+            if (bus != null) {
+                bus.onHandled(System.nanoTime() - startTime);
+            }
+        }
+        if (event instanceof AbstractEvent) {
+            ((AbstractEvent) event).currentOrder = null;
+        }
+        return failure;
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean post(Event event, List<RegisteredListener<?>> handlers, @Nullable EventDispatcher dispatcher) {
+        if (!Sponge.getServer().isMainThread()) {
+            callListenersOffMainThread(event, handlers, dispatcher, null, false, null);
+            return event instanceof Cancellable && ((Cancellable) event).isCancelled();
+        }
+        TimingsManager.PLUGIN_EVENT_HANDLER.startTimingIfSync();
+        // Every listener's phase is closed before the next listener runs, so
+        // the current state is the same for all of them and checked once
+        final boolean allowsListenerPhase = PhaseTracker.getInstance().getCurrentState().allowsEventListener();
+        final SpongeCauseStackManager causeStackManager = SpongeImpl.getCauseStackManager();
+        // Consecutive listeners of the same plugin share the cause frame and the listener phase.
+        // A listener which leaves causes, context or captures behind makes the next listener set
+        // up its own, so nothing one listener did is seen by the next.
+        @Nullable PluginContainer currentPlugin = null;
+        @Nullable CauseStackManager.StackFrame frame = null;
+        @Nullable PhaseContext<?> context = null;
+        int modCount = 0;
+        try {
+            for (int i = 0; i < handlers.size(); i++) {
+                @SuppressWarnings("rawtypes") final RegisteredListener handler = handlers.get(i);
+                if (frame == null || handler.getPlugin() != currentPlugin || causeStackManager.getModificationCount() != modCount
+                    || (context != null && context.notAllCapturesProcessed())) {
+                    if (context != null) {
+                        context.close();
+                        context = null;
+                    }
+                    if (frame != null) {
+                        causeStackManager.popCauseFrame(frame);
+                    }
+                    currentPlugin = handler.getPlugin();
+                    frame = causeStackManager.pushCauseFrame();
+                    frame.pushCause(currentPlugin);
+                    context = createPluginContext(handler, allowsListenerPhase);
+                    if (context != null) {
+                        context.buildAndSwitch();
+                    }
+                    modCount = causeStackManager.getModificationCount();
+                }
+                try (final Timing timings = handler.getTimingsHandler()) {
+                    timings.startTimingIfSync();
+                    if (event instanceof AbstractEvent) {
+                        ((AbstractEvent) event).currentOrder = handler.getOrder();
+                    }
+                    if (dispatcher != null) {
+                        dispatcher.dispatch(i, event);
+                    } else {
+                        handler.handle(event);
+                    }
+                } catch (Throwable e) {
+                    // TODO - add some better handling, especially since we have the stakc frame and phase context to boot
+                    final PrettyPrinter printer = new PrettyPrinter(60).add("Error with event listener handling").centre().hr();
+                    printer.add("A listener threw an exception while being handled, this is usually not a sponge bug.");
+                    this.logger.error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin(), e);
+                }
+            }
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+            if (frame != null) {
+                causeStackManager.popCauseFrame(frame);
             }
         }
         if (event instanceof AbstractEvent) {
@@ -446,8 +625,8 @@ private boolean post(Event event, List<RegisteredListener<?>> handlers) {
     }
 
     @Nullable
-    private EventListenerPhaseContext createPluginContext(RegisteredListener<?> handler) {
-        if (PhaseTracker.getInstance().getCurrentState().allowsEventListener()) {
+    private static EventListenerPhaseContext createPluginContext(RegisteredListener<?> handler, boolean allowsListenerPhase) {
+        if (allowsListenerPhase) {
             return PluginPhase.Listener.GENERAL_LISTENER.createPhaseContext()
                 .source(handler.getPlugin());
         }
@@ -476,12 +655,20 @@ public boolean postServer(Event event) {
     }
 
     public boolean post(Event event, boolean allowClientThread) {
-        return post(event, getHandlerCache(event).getListeners());
+        final RegisteredListener.Cache cache = getHandlerCache(event);
+        if (cache.countPost()) {
+            generateDispatcher(event.getClass(), cache);
+        }
+        if (postWithAsyncListeners(event, cache) != null) {
+            // Only reflects the listeners which ran on this thread
+            return event instanceof Cancellable && ((Cancellable) event).isCancelled();
+        }
+        return post(event, cache.getListeners(), cache.getDispatcher());
     }
 
     public boolean post(Event event, PluginContainer plugin) {
         return post(event, getHandlerCache(event).getListeners().stream()
                 .filter(l -> l.getPlugin().equals(plugin))
-                .collect(Collectors.toList()));
+                .collect(Collectors.toList()), null);
     }
 }
@@ -0,0 +1,157 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.network.Packet;
+import net.minecraft.network.play.server.SPacketBlockChange;
+import net.minecraft.network.play.server.SPacketMultiBlockChange;
+import net.minecraft.server.management.PlayerChunkMapEntry;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IWorldEventListener;
+import net.minecraft.world.ServerWorldEventHandler;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.mixin.core.world.AccessorWorld;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects the client notifications of a batch of processed block
+ * transactions, so they are performed once per position and grouped by
+ * chunk section instead of one by one while the transactions are applied.
+ *
+ * <p>A position changed several times in the same batch, through
+ * intermediary changes, is notified once from its first original state to
+ * its last new state. The flags of all changes are combined. Neighbor
+ * notifications are not batched, as blocks rely on their order.</p>
+ *
+ * <p>The players watching a chunk section are sent a single multi block
+ * change packet for all of its changed positions, instead of each position
+ * being marked for the player chunk map to send at the end of the tick. The
+ * other world listeners, like path finding, are still notified of every
+ * position.</p>
+ */
+final class ClientNotificationBatch {
+
+    private final Map<WorldServer, Long2ObjectLinkedOpenHashMap<Long2ObjectLinkedOpenHashMap<Update>>> worlds = new IdentityHashMap<>(2);
+
+    void add(WorldServer world, BlockPos pos, IBlockState originalState, IBlockState newState, int flags) {
+        final Long2ObjectLinkedOpenHashMap<Long2ObjectLinkedOpenHashMap<Update>> sections =
+            this.worlds.computeIfAbsent(world, key -> new Long2ObjectLinkedOpenHashMap<>());
+        final long sectionKey = sectionKey(pos);
+        Long2ObjectLinkedOpenHashMap<Update> section = sections.get(sectionKey);
+        if (section == null) {
+            section = new Long2ObjectLinkedOpenHashMap<>();
+            sections.put(sectionKey, section);
+        }
+        final long packedPos = pos.toLong();
+        final Update existing = section.get(packedPos);
+        if (existing == null) {
+            section.put(packedPos, new Update(pos.toImmutable(), originalState, newState, flags));
+        } else {
+            existing.newState = newState;
+            existing.flags |= flags;
+        }
+    }
+
+    void flush() {
+        if (this.worlds.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<WorldServer, Long2ObjectLinkedOpenHashMap<Long2ObjectLinkedOpenHashMap<Update>>> entry : this.worlds.entrySet()) {
+            final WorldServer world = entry.getKey();
+            final List<IWorldEventListener> listeners = ((AccessorWorld) world).accessor$getEventListeners();
+            for (Long2ObjectLinkedOpenHashMap<Update> section : entry.getValue().values()) {
+                for (Update update : section.values()) {
+                    // Like World#notifyBlockUpdate, except for the player chunk map, the section is sent below
+                    for (int i = 0; i < listeners.size(); i++) {
+                        final IWorldEventListener listener = listeners.get(i);
+                        if (!(listener instanceof ServerWorldEventHandler)) {
+                            listener.notifyBlockUpdate(world, update.pos, update.originalState, update.newState, update.flags);
+                        }
+                    }
+                }
+                sendSection(world, section);
+            }
+        }
+        this.worlds.clear();
+    }
+
+    private static void sendSection(WorldServer world, Long2ObjectLinkedOpenHashMap<Update> section) {
+        final BlockPos first = section.get(section.firstLongKey()).pos;
+        final PlayerChunkMapEntry entry = world.getPlayerChunkMap().getEntry(first.getX() >> 4, first.getZ() >> 4);
+        if (entry == null || !entry.isSentToPlayers()) {
+            // Players receive the whole chunk once it is sent
+            return;
+        }
+        if (section.size() == 1) {
+            entry.sendPacket(new SPacketBlockChange(world, first));
+        } else {
+            final short[] offsets = new short[section.size()];
+            int index = 0;
+            for (Update update : section.values()) {
+                // The same encoding as PlayerChunkMapEntry#blockChanged
+                offsets[index++] = (short) ((update.pos.getX() & 15) << 12 | (update.pos.getZ() & 15) << 8 | update.pos.getY());
+            }
+            entry.sendPacket(new SPacketMultiBlockChange(offsets.length, offsets, entry.getChunk()));
+        }
+        for (Update update : section.values()) {
+            final IBlockState state = world.getBlockState(update.pos);
+            if (SpongeImplHooks.hasBlockTileEntity(state.getBlock(), state)) {
+                final TileEntity tileEntity = world.getTileEntity(update.pos);
+                final Packet<?> packet = tileEntity == null ? null : tileEntity.getUpdatePacket();
+                if (packet != null) {
+                    entry.sendPacket(packet);
+                }
+            }
+        }
+    }
+
+    private static long sectionKey(BlockPos pos) {
+        // 22 bits for each horizontal section coordinate, 4 bits for the vertical one
+        return ((long) (pos.getX() >> 4) & 0x3FFFFFL) << 26 | ((long) (pos.getZ() >> 4) & 0x3FFFFFL) << 4 | (pos.getY() >> 4) & 0xFL;
+    }
+
+    private static final class Update {
+
+        final BlockPos pos;
+        final IBlockState originalState;
+        IBlockState newState;
+        int flags;
+
+        Update(BlockPos pos, IBlockState originalState, IBlockState newState, int flags) {
+            this.pos = pos;
+            this.originalState = originalState;
+            this.newState = newState;
+            this.flags = flags;
+        }
+    }
+
+}
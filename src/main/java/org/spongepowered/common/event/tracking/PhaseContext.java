@@ -43,6 +43,7 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.block.SpongeBlockSnapshot;
+import org.spongepowered.common.bridge.world.ServerWorldBridge;
 import org.spongepowered.common.event.tracking.context.BlockItemDropsSupplier;
 import org.spongepowered.common.event.tracking.context.BlockItemEntityDropsSupplier;
 import org.spongepowered.common.event.tracking.context.MultiBlockCaptureSupplier;
@@ -131,6 +132,14 @@ public static PhaseContext<?> empty() {
 
     @Nullable private Object source;
 
+    // Pooling, see PhaseContextPool
+    @Nullable PhaseContextPool<P> pool;
+    // Set while the context waits in its pool to be acquired again
+    boolean idle;
+    // Only set with cause-tracker.debug-pooled-contexts, the context is never reused then
+    boolean released;
+    @Nullable StackTraceElement[] releaseTrace;
+
     public P source(Object owner) {
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
         this.source = owner;
@@ -251,6 +260,7 @@ public boolean allowsBulkEntityCaptures() {
     }
 
     public P buildAndSwitch() {
+        checkNotReleased();
         this.isCompleted = true;
         if (SpongeImpl.getGlobalConfigAdapter().getConfig().getPhaseTracker().generateStackTracePerStateEntry()) {
             this.stackTrace = new Exception("Debug Trace").getStackTrace();
@@ -326,6 +336,7 @@ private boolean isNonEmpty(@Nullable ICaptureSupplier supplier) {
 
     @SuppressWarnings("unchecked")
     public <T> Optional<T> getSource(Class<T> sourceClass) {
+        checkNotReleased();
         if (this.source == null) {
             return Optional.empty();
         }
@@ -337,6 +348,7 @@ public <T> Optional<T> getSource(Class<T> sourceClass) {
 
     @Nullable
     public Object getSource() {
+        checkNotReleased();
         return this.source;
     }
 
@@ -346,6 +358,7 @@ public <T> T requireSource(Class<T> targetClass) {
     }
 
     public Optional<User> getOwner() {
+        checkNotReleased();
         return Optional.ofNullable(this.owner);
     }
 
@@ -364,6 +377,7 @@ public boolean applyOwnerIfAvailable(Consumer<User> consumer) {
     }
 
     public Optional<User> getNotifier() {
+        checkNotReleased();
         return Optional.ofNullable(this.notifier);
     }
 
@@ -452,6 +466,7 @@ public List<SpongeBlockSnapshot> getCapturedOriginalBlocksChanged() throws Illeg
      * @throws IllegalStateException
      */
     public MultiBlockCaptureSupplier getCapturedBlockSupplier() throws IllegalStateException {
+        checkNotReleased();
         if (this.blocksSupplier == null) {
             throw TrackingUtil.throwWithContext("Expected to be capturing blocks, but we're not capturing them!", this).get();
         }
@@ -508,6 +523,7 @@ public CaptureBlockPos getCaptureBlockPos() throws IllegalStateException {
     }
 
     public boolean hasCaptures() {
+        checkNotReleased();
         if (this.blocksSupplier != null && !this.blocksSupplier.isEmpty()) {
             return true;
         }
@@ -600,6 +616,13 @@ public boolean isEmpty() {
 
     @Override
     public void close() { // Should never throw an exception
+        if (this.released || this.idle) {
+            PhaseTracker.getInstance()
+                .printMessageWithCaughtException("Closing a closed PhaseContext",
+                    "A pooled phase context was closed twice, the second close is ignored. This is likely an error from sponge.",
+                    createReleasedException());
+            return;
+        }
         if (this.isEmpty()) {
             // We aren't ever supposed to close here...
             PhaseTracker.getInstance()
@@ -613,21 +636,87 @@ public void close() { // Should never throw an exception
             if (this.usedFrame != null) {
                 this.usedFrame.iterator().forEachRemaining(Sponge.getCauseStackManager()::popCauseFrame);
             }
-            return;
-        }
-        if (this.usedFrame == null && SpongeImplHooks.isMainThread()) {
-            // So, this part is interesting... Since the used frame is null, that means
-            // the cause stack manager still has the refernce of this context/phase, we have
-            // to "pop off" the list.
-            SpongeImpl.getCauseStackManager().popFrameMutator(this);
+        } else {
+            if (this.usedFrame == null && SpongeImplHooks.isMainThread()) {
+                // So, this part is interesting... Since the used frame is null, that means
+                // the cause stack manager still has the refernce of this context/phase, we have
+                // to "pop off" the list.
+                SpongeImpl.getCauseStackManager().popFrameMutator(this);
+            }
+            if (this.usedFrame != null) {
+                this.usedFrame.iterator().forEachRemaining(Sponge.getCauseStackManager()::popCauseFrame);
+                this.usedFrame.clear();
+                this.usedFrame = null;
+            }
         }
-        if (this.usedFrame != null) {
-            this.usedFrame.iterator().forEachRemaining(Sponge.getCauseStackManager()::popCauseFrame);
-            this.usedFrame.clear();
-            this.usedFrame = null;
+        if (this.pool != null) {
+            this.pool.release((P) this);
         }
     }
 
+    /**
+     * Called by the {@link PhaseContextPool} when handing out this context
+     * again.
+     */
+    void reacquire() {
+        this.idle = false;
+    }
+
+    /**
+     * Resets this context to the state it was created in, keeping the capture
+     * suppliers the owning state always adds. Contexts with extra fields
+     * need to override this when they are pooled.
+     */
+    protected void reset() {
+        this.neighborNotificationSource = null;
+        this.singleSnapshot = null;
+        this.isCompleted = false;
+        this.stackTrace = null;
+        this.owner = null;
+        this.notifier = null;
+        this.source = null;
+        this.allowsBlockEvents = true;
+        this.allowsEntityEvents = true;
+        this.allowsBulkBlockCaptures = true;
+        this.allowsBulkEntityCaptures = true;
+        this.usedFrame = null;
+        resetSupplier(this.blocksSupplier);
+        resetSupplier(this.capturedItemsSupplier);
+        resetSupplier(this.capturedEntitiesSupplier);
+        resetSupplier(this.capturedItemStackSupplier);
+        resetSupplier(this.blockEntitySpawnSupplier);
+        resetSupplier(this.blockItemDropsSupplier);
+        resetSupplier(this.blockItemEntityDropsSupplier);
+        resetSupplier(this.entityItemDropsSupplier);
+        resetSupplier(this.entityItemEntityDropsSupplier);
+        if (this.captureBlockPos != null) {
+            this.captureBlockPos.setPos(null);
+            this.captureBlockPos.setWorld((ServerWorldBridge) null);
+        }
+    }
+
+    private static void resetSupplier(@Nullable ICaptureSupplier supplier) {
+        if (supplier != null) {
+            supplier.reset();
+        }
+    }
+
+    private void checkNotReleased() {
+        if (this.released) {
+            throw createReleasedException();
+        }
+    }
+
+    private IllegalStateException createReleasedException() {
+        final IllegalStateException exception = new IllegalStateException("PhaseContext of " + this.state + " used after being closed!");
+        if (this.releaseTrace != null) {
+            final Exception closed = new Exception("Context closed here");
+            closed.setStackTrace(this.releaseTrace);
+            exception.initCause(closed);
+        }
+        return exception;
+    }
+
 
     public List<Entity> getCapturedEntitiesOrEmptyList() {
         return this.capturedEntitiesSupplier != null ? this.capturedEntitiesSupplier.orEmptyList() : Collections.emptyList();
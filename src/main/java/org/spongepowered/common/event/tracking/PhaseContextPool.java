@@ -0,0 +1,101 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.SpongeImplHooks;
+
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+
+/**
+ * A pool of {@link PhaseContext}s owned by a single {@link IPhaseState}, so
+ * states entered for every entity, tile entity or block tick don't allocate
+ * a new context and capture suppliers each time.
+ *
+ * <p>Contexts are handed out by {@link #acquire()} and come back on their own
+ * once {@link PhaseContext#close() closed}. Like the {@link PhaseTracker}, the
+ * pool is confined to the main thread, contexts created on any other thread
+ * are regular throwaway contexts.</p>
+ *
+ * <p>Pooling can be turned off entirely through
+ * {@code cause-tracker.pool-contexts}. If
+ * {@code cause-tracker.debug-pooled-contexts} is enabled, closed contexts
+ * are never reused. Any further use of them then fails along with the stack
+ * trace of where they were closed.</p>
+ *
+ * @param <C> The type of context
+ */
+public final class PhaseContextPool<C extends PhaseContext<C>> {
+
+    /**
+     * The maximum amount of idle contexts kept. Only recursion of the same
+     * state needs more than one at a time, so this is rarely reached.
+     */
+    private static final int MAX_IDLE_CONTEXTS = 16;
+
+    private final Supplier<C> factory;
+    private final ArrayDeque<C> idle = new ArrayDeque<>();
+
+    /**
+     * Creates a new pool.
+     *
+     * @param factory Creates a new context, including the captures the state
+     *     always uses, as those are kept when the context is reused
+     */
+    public PhaseContextPool(Supplier<C> factory) {
+        this.factory = factory;
+    }
+
+    public C acquire() {
+        if (!SpongeImplHooks.isMainThread() || !SpongeImpl.getGlobalConfigAdapter().getConfig().getPhaseTracker().poolContexts()) {
+            return this.factory.get();
+        }
+        final C context = this.idle.pollLast();
+        if (context != null) {
+            context.reacquire();
+            return context;
+        }
+        final C created = this.factory.get();
+        created.pool = this;
+        return created;
+    }
+
+    void release(C context) {
+        if (SpongeImpl.getGlobalConfigAdapter().getConfig().getPhaseTracker().debugPooledContexts()) {
+            context.released = true;
+            context.releaseTrace = new Exception("Context closed here").getStackTrace();
+            return;
+        }
+        if (this.idle.size() < MAX_IDLE_CONTEXTS) {
+            // Cleared right away, idle contexts must not keep their source,
+            // owner or captures alive until the state is entered again
+            context.reset();
+            context.idle = true;
+            this.idle.addLast(context);
+        }
+    }
+
+}
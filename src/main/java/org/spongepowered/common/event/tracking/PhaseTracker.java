@@ -807,6 +807,23 @@ public boolean setBlockState(final ServerWorldBridge mixinWorld, final BlockPos
 
         final PhaseContext<?> context = this.stack.peek();
         final IPhaseState<?> phaseState = context.state;
+
+        // Sponge Start - Fast path: when nothing listens to block changes, no transaction is being
+        // processed and blocks are not tracked, there is nothing to capture nor proxy, so skip the
+        // phase state's capturing entirely. The chunk skips its phase context and proxy access
+        // lookups as well. World generation keeps its own handling of block changes.
+        if (!ShouldFire.CHANGE_BLOCK_EVENT && !mixinWorld.bridge$getProxyAccess().hasProxy() && !mixinWorld.bridge$isBlockTrackingEnabled()
+            && !phaseState.isWorldGeneration()) {
+            final IBlockState originalBlockState =
+                ((ChunkBridge) chunk).setBlockStateUntracked(pos, newState, currentState, spongeFlag, phaseState.isRestoring());
+            if (originalBlockState == null) {
+                return false;
+            }
+            this.performBlockChangeUpdates(minecraftWorld, chunk, pos, originalBlockState, newState, spongeFlag, oldLight, oldOpacity);
+            return true;
+        }
+        // Sponge End
+
         final boolean isComplete = phaseState == GeneralPhase.State.COMPLETE;
         // Do a sanity check, if we're not in any phase state that accepts block changes, well, why the hell are
         // we doing any changes?? The changes themselves will still go through, but we want to be as verbose
@@ -830,19 +847,13 @@ public boolean setBlockState(final ServerWorldBridge mixinWorld, final BlockPos
         }
 
         // else { // Sponge - unnecessary formatting
-        // Forge changes the BlockState.getLightOpacity to use Forge's hook.
-        if (SpongeImplHooks.getBlockLightOpacity(newState, minecraftWorld, pos) != oldOpacity || SpongeImplHooks.getChunkPosLight(newState, minecraftWorld, pos) != oldLight) {
-            // Sponge - End
-            minecraftWorld.profiler.startSection("checkLight");
-            minecraftWorld.checkLight(pos);
-            minecraftWorld.profiler.endSection();
-        }
+        this.checkBlockChangeLight(minecraftWorld, pos, newState, oldLight, oldOpacity);
 
         // Sponge Start - At this point, we can stop and check for captures.
         //  by short circuiting here, we avoid additional block processing that would otherwise
         //  have potential side effects (and MixinChunk#setBlockState does a wonderful job at avoiding
         //  unnecessary logic in those cases).
-        if (((IPhaseState) phaseState).doesBulkBlockCapture(context) && ShouldFire.CHANGE_BLOCK_EVENT) {
+        if (ShouldFire.CHANGE_BLOCK_EVENT && ((IPhaseState) phaseState).doesBulkBlockCapture(context)) {
             // Basically at this point, there's nothing left for us to do since
             // MixinChunk will capture the block change, and submit it to be
             // "captured". It's only when there's immediate block event
@@ -850,7 +861,7 @@ public boolean setBlockState(final ServerWorldBridge mixinWorld, final BlockPos
             // that transaction.
             return true;
         }
-        if (((IPhaseState) phaseState).doesBlockEventTracking(context) && ShouldFire.CHANGE_BLOCK_EVENT) {
+        if (ShouldFire.CHANGE_BLOCK_EVENT && ((IPhaseState) phaseState).doesBlockEventTracking(context)) {
             try {
                 // Fall back to performing a singular block capture and throwing an event with all the
                 // repercussions, such as neighbor notifications and whatnot. Entity spawns should also be
@@ -909,6 +920,36 @@ public boolean setBlockState(final ServerWorldBridge mixinWorld, final BlockPos
         }
         // Sponge End - continue with vanilla mechanics
 
+        this.notifyBlockChange(minecraftWorld, chunk, pos, originalBlockState, newState, spongeFlag);
+        return true;
+        // } // Sponge - unnecessary formatting
+
+    }
+
+    /**
+     * Performs the vanilla light check and client and neighbor notifications
+     * of a block change that was neither captured nor tracked.
+     */
+    private void performBlockChangeUpdates(final net.minecraft.world.World minecraftWorld, final Chunk chunk, final BlockPos pos,
+        final IBlockState originalBlockState, final IBlockState newState, final SpongeBlockChangeFlag spongeFlag, final int oldLight,
+        final int oldOpacity) {
+        this.checkBlockChangeLight(minecraftWorld, pos, newState, oldLight, oldOpacity);
+        this.notifyBlockChange(minecraftWorld, chunk, pos, originalBlockState, newState, spongeFlag);
+    }
+
+    private void checkBlockChangeLight(final net.minecraft.world.World minecraftWorld, final BlockPos pos, final IBlockState newState,
+        final int oldLight, final int oldOpacity) {
+        // Forge changes the BlockState.getLightOpacity to use Forge's hook.
+        if (SpongeImplHooks.getBlockLightOpacity(newState, minecraftWorld, pos) != oldOpacity || SpongeImplHooks.getChunkPosLight(newState, minecraftWorld, pos) != oldLight) {
+            // Sponge - End
+            minecraftWorld.profiler.startSection("checkLight");
+            minecraftWorld.checkLight(pos);
+            minecraftWorld.profiler.endSection();
+        }
+    }
+
+    private void notifyBlockChange(final net.minecraft.world.World minecraftWorld, final Chunk chunk, final BlockPos pos,
+        final IBlockState originalBlockState, final IBlockState newState, final SpongeBlockChangeFlag spongeFlag) {
         // Sponge - Use SpongeFlag. Inline world.isRemote since it's checked, and use the BlockChangeFlag#isNotifyClients()) And chunks are never null
         // flags & 2 is replaced with BlockChangeFlag#isNotifyClients
         // !this.isRemote is guaranteed since we are on the server
@@ -929,10 +970,6 @@ public boolean setBlockState(final ServerWorldBridge mixinWorld, final BlockPos
         } else if ( spongeFlag.notifyObservers()) { // Sponge - Replace flags & 16 == 0 with BlockChangeFlag#notifyObservers.
             minecraftWorld.updateObservingBlocksAt(pos, block);
         }
-
-        return true;
-        // } // Sponge - unnecessary formatting
-
     }
 
     /**
@@ -345,15 +345,14 @@ public static void tickWorldProvider(ServerWorldBridge worldServer) {
     public static boolean fireMinecraftBlockEvent(WorldServer worldIn, BlockEventData event) {
         IBlockState currentState = worldIn.getBlockState(event.getPosition());
         final BlockEventDataBridge blockEvent = (BlockEventDataBridge) event;
-        final BlockEventTickContext phaseContext = TickPhase.Tick.BLOCK_EVENT.createPhaseContext();
 
         Object source = blockEvent.getBridge$TileEntity() != null ? blockEvent.getBridge$TileEntity() : blockEvent.getBridge$TickingLocatable();
-        if (source != null) {
-            phaseContext.source(source);
-        } else {
+        if (source == null) {
             // No source present which means we are ignoring the phase state
             return currentState.onBlockEventReceived(worldIn, event.getPosition(), event.getEventID(), event.getEventParameter());
         }
+        // Only acquired once we know the phase is entered, as the context is pooled
+        final BlockEventTickContext phaseContext = TickPhase.Tick.BLOCK_EVENT.createPhaseContext().source(source);
 
         final User user = ((BlockEventDataBridge) event).getBridge$sourceUser();
         if (user != null) {
@@ -614,11 +613,17 @@ private static boolean performBlockAdditions(List<Transaction<BlockSnapshot>> tr
             // from time to time
             return phaseContext.getCapturedBlockSupplier().processTransactions(transactions, phaseContext, noCancelledTransactions, scheduledEvents, currentDepth);
         }
+        // Client notifications are only flushed once all transactions are applied, grouped by
+        // chunk section and once per position. The batch is created by the first notification.
+        ClientNotificationBatch clientNotifications = null;
         for (Transaction<BlockSnapshot> transaction : transactions) {
             if (!transaction.isValid()) {
                 continue;
             }
-            performTransactionProcess(transaction, phaseState, phaseContext, currentDepth);
+            clientNotifications = performTransactionProcess(transaction, phaseState, phaseContext, currentDepth, true, clientNotifications);
+        }
+        if (clientNotifications != null) {
+            clientNotifications.flush();
         }
         phaseContext.getCapturedBlockSupplier().clearProxies();
         return noCancelledTransactions;
@@ -640,6 +645,19 @@ private static boolean performBlockAdditions(List<Transaction<BlockSnapshot>> tr
      * @param currentDepth The current processing depth, to avoid stack overflows
      */
     public static void performTransactionProcess(Transaction<BlockSnapshot> transaction, IPhaseState<?> phaseState, PhaseContext<?> phaseContext, int currentDepth) {
+        performTransactionProcess(transaction, phaseState, phaseContext, currentDepth, false, null);
+    }
+
+    /**
+     * Performs a transaction, see {@link #performTransactionProcess(Transaction, IPhaseState, PhaseContext, int)}.
+     *
+     * @param batchClientNotifications Whether client notifications are queued in a batch instead of sent right away
+     * @param clientNotifications The batch so far, null if no notification was queued yet
+     * @return The batch, null if still no notification was queued
+     */
+    @Nullable
+    private static ClientNotificationBatch performTransactionProcess(Transaction<BlockSnapshot> transaction, IPhaseState<?> phaseState,
+        PhaseContext<?> phaseContext, int currentDepth, boolean batchClientNotifications, @Nullable ClientNotificationBatch clientNotifications) {
         // Handle custom replacements - these need to get actually set onto the chunk, but ignored as far as tracking
         // goes.
         if (transaction.getCustom().isPresent()) {
@@ -662,9 +680,10 @@ public static void performTransactionProcess(Transaction<BlockSnapshot> transact
                 .add("Changed State", newBlockSnapshot.getState())
                 .toString();
             SpongeImpl.getLogger().warn("Unloaded/Missing World for a captured block change! Skipping change: " + transactionForLogging);
-            return;
+            return clientNotifications;
         }
         final ServerWorldBridge mixinWorld = (ServerWorldBridge) worldServer.get();
+        ClientNotificationBatch batch = clientNotifications;
         // Reset any previously set transactions
         final BlockPos pos = oldBlockSnapshot.getBlockPos();
         performBlockEntitySpawns(phaseState, phaseContext, oldBlockSnapshot, pos);
@@ -686,7 +705,7 @@ public static void performTransactionProcess(Transaction<BlockSnapshot> transact
             ((IPhaseState) phaseState).postBlockTransactionApplication(oldBlockSnapshot.blockChange, transaction, phaseContext);
 
             if (originalChangeFlag.isNotifyClients()) { // Always try to notify clients of the change.
-                world.notifyBlockUpdate(pos, originalState, newState, originalChangeFlag.getRawFlag());
+                batch = notifyClients(batchClientNotifications, batch, world, pos, originalState, newState, originalChangeFlag);
             }
 
             performNeighborAndClientNotifications(phaseContext, currentDepth, newBlockSnapshot, mixinWorld, pos, newState, originalChangeFlag);
@@ -702,7 +721,7 @@ public static void performTransactionProcess(Transaction<BlockSnapshot> transact
             if (!processedOriginal) {
                 performOnBlockAdded(phaseState, phaseContext, currentDepth, pos, world, originalChangeFlag, originalState, intermediaryState);
                 if (originalChangeFlag.isNotifyClients()) {
-                    world.notifyBlockUpdate(pos, originalState, intermediaryState, originalChangeFlag.getRawFlag());
+                    batch = notifyClients(batchClientNotifications, batch, world, pos, originalState, intermediaryState, originalChangeFlag);
                 }
                 performNeighborAndClientNotifications(phaseContext, currentDepth, intermediary, mixinWorld, pos, intermediaryState, originalChangeFlag);
                 processedOriginal = true;
@@ -713,14 +732,27 @@ public static void performTransactionProcess(Transaction<BlockSnapshot> transact
             boolean isFinal = !iterator.hasNext();
             performOnBlockAdded(phaseState, phaseContext, currentDepth, pos, world, intermediaryChangeFlag, isFinal ? intermediaryState : previousIntermediary, isFinal ? newState : intermediaryState);
             if (intermediaryChangeFlag.isNotifyClients()) {
-                world.notifyBlockUpdate(pos, isFinal ? intermediaryState :  previousIntermediary, isFinal ? newState : intermediaryState, intermediaryChangeFlag.getRawFlag());
+                batch = notifyClients(batchClientNotifications, batch, world, pos, isFinal ? intermediaryState :  previousIntermediary, isFinal ? newState : intermediaryState, intermediaryChangeFlag);
             }
             performNeighborAndClientNotifications(phaseContext, currentDepth, isFinal ? newBlockSnapshot : intermediary, mixinWorld, pos, isFinal ? newState : intermediaryState, intermediaryChangeFlag);
             if (isFinal) {
-                return;
+                return batch;
             }
             previousIntermediary = intermediaryState;
         }
+        return batch;
+    }
+
+    @Nullable
+    private static ClientNotificationBatch notifyClients(boolean batchClientNotifications, @Nullable ClientNotificationBatch clientNotifications,
+        WorldServer world, BlockPos pos, IBlockState originalState, IBlockState newState, SpongeBlockChangeFlag changeFlag) {
+        if (!batchClientNotifications) {
+            world.notifyBlockUpdate(pos, originalState, newState, changeFlag.getRawFlag());
+            return null;
+        }
+        final ClientNotificationBatch batch = clientNotifications == null ? new ClientNotificationBatch() : clientNotifications;
+        batch.add(world, pos, originalState, newState, changeFlag.getRawFlag());
+        return batch;
     }
 
     private static void performOnBlockAdded(IPhaseState phaseState, PhaseContext<?> phaseContext, int currentDepth, BlockPos pos, WorldServer world,
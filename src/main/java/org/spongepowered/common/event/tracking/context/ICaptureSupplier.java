@@ -28,4 +28,11 @@ public interface ICaptureSupplier {
 
     boolean isEmpty();
 
+    /**
+     * Drops everything captured so far, so the supplier can be reused by a
+     * pooled {@link org.spongepowered.common.event.tracking.PhaseContext}.
+     * Collections previously handed out are left untouched.
+     */
+    void reset();
+
 }
@@ -31,7 +31,9 @@
 import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
-import com.google.common.collect.Multimaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockEventData;
 import net.minecraft.block.state.IBlockState;
@@ -59,14 +61,12 @@
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.function.BiConsumer;
 
 import javax.annotation.Nullable;
@@ -76,11 +76,16 @@ public final class MultiBlockCaptureSupplier implements ICaptureSupplier {
 
     public static final boolean PRINT_TRANSACTIONS = Boolean.valueOf(System.getProperty("sponge.debugBlockTransactions", "false"));
 
-    @Nullable private LinkedListMultimap<BlockPos, SpongeBlockSnapshot> multimap;
+    // Both keyed by BlockPos#toLong, captures of large explosions or piston contraptions
+    // otherwise spend most of their time hashing and boxing block positions. The captured
+    // values are still fully built SpongeBlockSnapshots (see Chunk#createSpongeBlockSnapshot):
+    // transactions, restores and the phase states read them directly, so they cannot be
+    // swapped for a compact record materialized on demand without reworking all of those.
+    @Nullable private Long2ObjectLinkedOpenHashMap<List<SpongeBlockSnapshot>> multimap;
     @Nullable private ListMultimap<BlockPos, BlockEventData> scheduledEvents;
     @Nullable private List<SpongeBlockSnapshot> snapshots;
     @Nullable private LinkedHashMap<WorldServer, SpongeProxyBlockAccess.Proxy> processingWorlds;
-    @Nullable private Set<BlockPos> usedBlocks;
+    @Nullable private LongOpenHashSet usedBlocks;
     private int transactionIndex = -1; // These are used to keep track of which snapshot is being referred to as "most recent change"
     private int snapshotIndex = -1;    // so that we can appropriately cancel or discard or apply specific event transactions
     // We made BlockTransaction a Node and this is a pseudo LinkedList due to the nature of needing
@@ -117,17 +122,18 @@ public boolean put(BlockSnapshot snapshot, IBlockState newState) {
         final SpongeBlockSnapshot backingSnapshot = getBackingSnapshot(snapshot);
         // Get the key of the block position, we know this is a pure block pos and not a mutable one too.
         final BlockPos blockPos = backingSnapshot.getBlockPos();
+        final long packedPos = blockPos.toLong();
         if (this.usedBlocks == null) { // Means we have a first usage. All three fields are null
             // At this point, we know we have not captured anything and
             // can just populate the normal list.
-            this.usedBlocks = new HashSet<>();
+            this.usedBlocks = new LongOpenHashSet();
 
-            this.usedBlocks.add(blockPos);
+            this.usedBlocks.add(packedPos);
             this.addSnapshot(backingSnapshot);
             return true;
         }
         // This isn't our first rodeo...
-        final boolean added = this.usedBlocks.add(blockPos); // add it to the set of positions already used and use the boolean
+        final boolean added = this.usedBlocks.add(packedPos); // add it to the set of positions already used and use the boolean
         if (this.multimap != null) {
             // Means we've already got multiple changes per position once before.
             // Likewise, the used blocks, snapshots and multimap will NOT be null.
@@ -139,12 +145,12 @@ public boolean put(BlockSnapshot snapshot, IBlockState newState) {
                 this.addSnapshot(backingSnapshot);
             }
             // we don't have to
-            this.multimap.put(blockPos, backingSnapshot);
+            this.putMulti(packedPos, backingSnapshot);
 
             // If the position is duplicated, we need to update the original snapshot of the now incoming block change
             // in relation to the original state (so if a block was set to air, then afterwards set to piston head, it should go from break to modify)
             if (!added) {
-                associateBlockChangeForPosition(newState, blockPos);
+                associateBlockChangeForPosition(newState, packedPos);
             }
             return added;
         }
@@ -152,17 +158,17 @@ public boolean put(BlockSnapshot snapshot, IBlockState newState) {
         if (!added) {
             // Ok, means we have a multi change on a same position, now to use the multimap
             // for the first time.
-            this.multimap = LinkedListMultimap.create(); // LinkedListMultimap is insertion order respective, so the backed lists per
+            this.multimap = new Long2ObjectLinkedOpenHashMap<>(this.snapshots.size() + 1); // Linked to keep the insertion order of positions
             // Now to populate it from the previously used list of snapshots...
             for (SpongeBlockSnapshot existing : this.snapshots) { // Ignore snapshots potentially being null, it will never be null at this point.
-                this.multimap.put(existing.getBlockPos(), existing);
+                this.putMulti(existing.getBlockPos().toLong(), existing);
             }
             // And place the snapshot into the multimap.
-            this.multimap.put(blockPos, backingSnapshot);
+            this.putMulti(packedPos, backingSnapshot);
             // Now we can re-evaluate the modified block position
             // If the position is duplicated, we need to update the original snapshot of the now incoming block change
             // in relation to the original state (so if a block was set to air, then afterwards set to piston head, it should go from break to modify)
-            associateBlockChangeForPosition(newState, blockPos);
+            associateBlockChangeForPosition(newState, packedPos);
             return false;
         }
         // At this point, we haven't captured the block position yet.
@@ -172,6 +178,16 @@ public boolean put(BlockSnapshot snapshot, IBlockState newState) {
         return true;
     }
 
+    private void putMulti(long packedPos, SpongeBlockSnapshot snapshot) {
+        List<SpongeBlockSnapshot> list = this.multimap.get(packedPos);
+        if (list == null) {
+            // Most positions are only ever changed once, so keep the lists small
+            list = new ArrayList<>(2);
+            this.multimap.put(packedPos, list);
+        }
+        list.add(snapshot);
+    }
+
     private void addSnapshot(SpongeBlockSnapshot backingSnapshot) {
         if (this.snapshots == null) {
             this.snapshots = new ArrayList<>();
@@ -189,11 +205,11 @@ private void addSnapshot(SpongeBlockSnapshot backingSnapshot) {
      * {@code null}, otherwise it will cause an NPE.</p>
      *
      * @param newState The incoming block change to compare to change
-     * @param blockPos The block position to get the backing list from the multimap
+     * @param packedPos The packed block position to get the backing list from the multimap
      */
     @SuppressWarnings("unchecked")
-    private void associateBlockChangeForPosition(IBlockState newState, BlockPos blockPos) {
-        final List<SpongeBlockSnapshot> list = this.multimap.get(blockPos);
+    private void associateBlockChangeForPosition(IBlockState newState, long packedPos) {
+        final List<SpongeBlockSnapshot> list = this.multimap.get(packedPos);
         if (list != null && !list.isEmpty()) {
             final SpongeBlockSnapshot originalSnapshot = list.get(0);
             final PhaseContext<?> peek = PhaseTracker.getInstance().getCurrentContext();
@@ -264,12 +280,13 @@ private void pruneSingle(final SpongeBlockSnapshot backingSnapshot, final BlockP
             // also means we didn't capture.... wtf is going on at this point?
             throw new IllegalStateException("Expected to remove a single block change that was supposed to be captured....");
         }
-        this.usedBlocks.remove(blockPos);
+        this.usedBlocks.remove(blockPos.toLong());
         this.snapshots.remove(backingSnapshot); // Should be the same snapshot used
     }
 
     private void pruneFromMulti(final SpongeBlockSnapshot backingSnapshot, final BlockPos blockPos) {
-        final List<SpongeBlockSnapshot> snapshots = this.multimap.get(blockPos);
+        final long packedPos = blockPos.toLong();
+        final List<SpongeBlockSnapshot> snapshots = this.multimap.get(packedPos);
         if (snapshots != null) {
             for (final Iterator<SpongeBlockSnapshot> iterator = snapshots.iterator(); iterator.hasNext(); ) {
                 final SpongeBlockSnapshot next = iterator.next();
@@ -280,14 +297,14 @@ private void pruneFromMulti(final SpongeBlockSnapshot backingSnapshot, final Blo
             }
             // If the list view is now empty, we need to prune the position from the multimap
             if (snapshots.isEmpty()) {
-                this.multimap.removeAll(blockPos);
+                this.multimap.remove(packedPos);
                 // And then prune the snapshot from the list of firsts
                 for (final Iterator<SpongeBlockSnapshot> firsts = this.snapshots.iterator(); firsts.hasNext(); ) {
                     final SpongeBlockSnapshot next = firsts.next();
                     if (next.equals(backingSnapshot)) {
                         firsts.remove();
                         // And if it's been found, remove the position from the used blocks as well.
-                        this.usedBlocks.remove(blockPos);
+                        this.usedBlocks.remove(packedPos);
                         break;
                     }
                 }
@@ -335,16 +352,14 @@ public final boolean isEmpty() {
      *
      * @param consumer The consumer to activate
      */
-    @SuppressWarnings("UnstableApiUsage") // Guava marks Multimaps.asMap as Beta features
     public final void acceptAndClearIfNotEmpty(BiConsumer<List<? extends BlockSnapshot>, Map<BlockPos, List<BlockSnapshot>>> consumer) {
         if (this.multimap != null) {
             final List<? extends BlockSnapshot> blockSnapshots = get();
-            // Since multimaps provide a view when asMap is called, we need to recreate the collection
-            // of the map to pass into the consumer
-            final Map<BlockPos, List<SpongeBlockSnapshot>> view = Multimaps.asMap(this.multimap);
-            final Map<BlockPos, List<BlockSnapshot>> map = new LinkedHashMap<>(view.size());
-            for (Map.Entry<BlockPos, List<SpongeBlockSnapshot>> entryView : view.entrySet()) {
-                map.put(entryView.getKey(), new ArrayList<>(entryView.getValue()));
+            // The positions are only unpacked here, since this is the only place the consumer
+            // gets to see them, we need to recreate the collection of the map to pass into the consumer
+            final Map<BlockPos, List<BlockSnapshot>> map = new LinkedHashMap<>(this.multimap.size());
+            for (Long2ObjectMap.Entry<List<SpongeBlockSnapshot>> entry : this.multimap.long2ObjectEntrySet()) {
+                map.put(BlockPos.fromLong(entry.getLongKey()), new ArrayList<>(entry.getValue()));
             }
             this.multimap.clear(); // Clean captured lists before they get potentially contaminated by processing.
             consumer.accept(blockSnapshots, map); // Accept the list and map
@@ -561,6 +576,19 @@ public void clear() {
         this.transactionIndex = -1;
     }
 
+    @Override
+    public void reset() {
+        this.multimap = null;
+        this.scheduledEvents = null;
+        this.snapshots = null;
+        this.processingWorlds = null;
+        this.usedBlocks = null;
+        this.transactionIndex = -1;
+        this.snapshotIndex = -1;
+        this.tail = null;
+        this.head = null;
+    }
+
     public void restoreOriginals() {
         if (this.snapshots != null && !this.snapshots.isEmpty()) {
             for (SpongeBlockSnapshot original : Lists.reverse(this.snapshots)) {
@@ -588,8 +616,8 @@ public Optional<Transaction<BlockSnapshot>> createTransaction(SpongeBlockSnapsho
         // Up until this point, we can create a default Transaction
         if (this.multimap != null) { // But we need to check if there's any intermediary block changes...
             // And because multi is true, we can be sure the multimap is populated at least somewhere.
-            final List<SpongeBlockSnapshot> intermediary = this.multimap.get(blockPos);
-            if (!intermediary.isEmpty() && intermediary.size() > 1) {
+            final List<SpongeBlockSnapshot> intermediary = this.multimap.get(blockPos.toLong());
+            if (intermediary != null && intermediary.size() > 1) {
                 // We need to make a carbon copy of the list since it's technically a key view list
                 // within the multimap, so, if the multimap is cleared, at the very least, the list will
                 // not be cleared. Likewise, we also need to skip over the first element since the snapshots
@@ -613,7 +641,7 @@ public Optional<Transaction<BlockSnapshot>> createTransaction(SpongeBlockSnapsho
     }
 
     public boolean trackEvent(BlockPos pos, BlockEventData blockEventData) {
-        if (this.usedBlocks != null && this.usedBlocks.contains(pos)) {
+        if (this.usedBlocks != null && this.usedBlocks.contains(pos.toLong())) {
             if (this.scheduledEvents == null) {
                 this.scheduledEvents = LinkedListMultimap.create();
             }
@@ -25,10 +25,15 @@
 package org.spongepowered.common.event.tracking.phase.plugin;
 
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.event.tracking.PhaseContextPool;
 import org.spongepowered.common.event.tracking.TrackingUtil;
 
 final class EventListenerPhaseState extends ListenerPhaseState<EventListenerPhaseContext> {
 
+    private final PhaseContextPool<EventListenerPhaseContext> contextPool = new PhaseContextPool<>(() -> new EventListenerPhaseContext(this)
+        .addCaptures()
+        .player());
+
     private boolean hasPrintedEntities = false;
 
     EventListenerPhaseState() {
@@ -37,9 +42,7 @@ final class EventListenerPhaseState extends ListenerPhaseState<EventListenerPhas
 
     @Override
     public EventListenerPhaseContext createPhaseContext() {
-        return new EventListenerPhaseContext(this)
-            .addCaptures()
-            .player();
+        return this.contextPool.acquire();
     }
 
     @Override
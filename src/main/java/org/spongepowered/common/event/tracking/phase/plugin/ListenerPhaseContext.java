@@ -70,6 +70,15 @@ public Object getEvent() {
         return this.object;
     }
 
+    @Override
+    protected void reset() {
+        super.reset();
+        this.object = null;
+        if (this.capturePlayer != null) {
+            this.capturePlayer.player = null;
+        }
+    }
+
     public CapturePlayer getCapturedPlayerSupplier() throws IllegalStateException {
         if (this.capturePlayer == null) {
             throw TrackingUtil.throwWithContext("Expected to be capturing a Player from an event listener, but we're not capturing them!", this)
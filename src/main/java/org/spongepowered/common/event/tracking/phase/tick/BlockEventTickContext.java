@@ -53,4 +53,11 @@ public void setEventSucceeded(boolean eventSucceeded) {
     public boolean getEventSucceeded() {
         return this.eventSucceeded;
     }
+
+    @Override
+    protected void reset() {
+        super.reset();
+        this.wasNotCancelled = true;
+        this.eventSucceeded = false;
+    }
 }
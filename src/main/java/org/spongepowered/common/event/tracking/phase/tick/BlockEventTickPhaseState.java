@@ -48,6 +48,7 @@
 import org.spongepowered.common.block.SpongeBlockSnapshot;
 import org.spongepowered.common.entity.PlayerTracker;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
+import org.spongepowered.common.event.tracking.PhaseContextPool;
 import org.spongepowered.common.event.tracking.TrackingUtil;
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
 import org.spongepowered.common.bridge.block.BlockEventDataBridge;
@@ -61,6 +62,10 @@
 
 class BlockEventTickPhaseState extends TickPhaseState<BlockEventTickContext> {
 
+    private final PhaseContextPool<BlockEventTickContext> contextPool = new PhaseContextPool<>(() -> new BlockEventTickContext()
+        .addBlockCaptures()
+        .addEntityCaptures());
+
     private final BiConsumer<CauseStackManager.StackFrame, BlockEventTickContext> FRAME_MODIFIER =
             super.getFrameModifier().andThen((frame, context) -> {
                 final BlockEventDataBridge blockEventData = context.getSource(BlockEventDataBridge.class).orElse(null);
@@ -79,9 +84,7 @@ class BlockEventTickPhaseState extends TickPhaseState<BlockEventTickContext> {
 
     @Override
     public BlockEventTickContext createPhaseContext() {
-        return new BlockEventTickContext()
-                .addBlockCaptures()
-                .addEntityCaptures();
+        return this.contextPool.acquire();
     }
 
     @Override
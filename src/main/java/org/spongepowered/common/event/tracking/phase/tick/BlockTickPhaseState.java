@@ -48,6 +48,7 @@
 import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseContextPool;
 import org.spongepowered.common.event.tracking.TrackingUtil;
 import org.spongepowered.common.event.tracking.phase.general.ExplosionContext;
 import org.spongepowered.common.bridge.world.ServerWorldBridge;
@@ -59,6 +60,9 @@
 import java.util.function.BiConsumer;
 
 class BlockTickPhaseState extends LocationBasedTickPhaseState<BlockTickContext> {
+
+    private final PhaseContextPool<BlockTickContext> contextPool = new PhaseContextPool<>(() -> new BlockTickContext(this).addCaptures());
+
     private final BiConsumer<CauseStackManager.StackFrame, BlockTickContext> LOCATION_MODIFIER =
         super.getFrameModifier().andThen((frame, context) ->
             {
@@ -79,8 +83,7 @@ public BiConsumer<CauseStackManager.StackFrame, BlockTickContext> getFrameModifi
 
     @Override
     public BlockTickContext createPhaseContext() {
-        return new BlockTickContext(this)
-                .addCaptures();
+        return this.contextPool.acquire();
     }
 
     @Override
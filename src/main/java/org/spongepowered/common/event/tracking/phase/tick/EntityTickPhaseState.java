@@ -50,6 +50,7 @@
 import org.spongepowered.common.bridge.entity.EntityBridge;
 import org.spongepowered.common.entity.EntityUtil;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
+import org.spongepowered.common.event.tracking.PhaseContextPool;
 import org.spongepowered.common.event.tracking.TrackingUtil;
 import org.spongepowered.common.event.tracking.phase.general.ExplosionContext;
 import org.spongepowered.common.util.VecHelper;
@@ -64,6 +65,8 @@
 
 class EntityTickPhaseState extends TickPhaseState<EntityTickContext> {
 
+    private final PhaseContextPool<EntityTickContext> contextPool = new PhaseContextPool<>(() -> new EntityTickContext(this).addCaptures());
+
     private final BiConsumer<CauseStackManager.StackFrame, EntityTickContext> ENTITY_TICK_MODIFIER =
         super.getFrameModifier().andThen((frame, context) -> {
             final Entity tickingEntity = context.getSource(Entity.class)
@@ -236,7 +239,7 @@ private void appendContextOfPossibleEntityDeath(Entity tickingEntity, CauseStack
 
     @Override
     public EntityTickContext createPhaseContext() {
-        return new EntityTickContext(this).addCaptures();
+        return this.contextPool.acquire();
     }
 
     @Override
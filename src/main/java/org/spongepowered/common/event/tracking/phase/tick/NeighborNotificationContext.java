@@ -128,4 +128,15 @@ public int getDepth() {
     public void setDepth(int depth) {
         this.depth = depth;
     }
+
+    @Override
+    protected void reset() {
+        super.reset();
+        this.sourceNotification = null;
+        this.sourceNotifier = null;
+        this.notifiedBlockPos = null;
+        this.notifiedBlockState = null;
+        this.notificationSnapshot = null;
+        this.depth = 0;
+    }
 }
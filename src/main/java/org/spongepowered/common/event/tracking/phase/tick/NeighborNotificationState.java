@@ -36,6 +36,7 @@
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.tracking.IPhaseState;
 import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseContextPool;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.TrackingUtil;
 import org.spongepowered.common.event.tracking.phase.general.ExplosionContext;
@@ -47,6 +48,8 @@
 @SuppressWarnings("unchecked")
 class NeighborNotificationState extends LocationBasedTickPhaseState<NeighborNotificationContext> {
 
+    private final PhaseContextPool<NeighborNotificationContext> contextPool = new PhaseContextPool<>(() -> new NeighborNotificationContext(this).addCaptures());
+
     private final BiConsumer<StackFrame, NeighborNotificationContext> FRAME_MODIFIER =
         ((BiConsumer<StackFrame, NeighborNotificationContext>) IPhaseState.DEFAULT_OWNER_NOTIFIER)
             .andThen((frame, context) -> {
@@ -63,8 +66,7 @@ class NeighborNotificationState extends LocationBasedTickPhaseState<NeighborNoti
 
     @Override
     public NeighborNotificationContext createPhaseContext() {
-        return new NeighborNotificationContext(this)
-                .addCaptures();
+        return this.contextPool.acquire();
     }
 
     @Override
@@ -49,6 +49,7 @@
 import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseContextPool;
 import org.spongepowered.common.event.tracking.TrackingUtil;
 import org.spongepowered.common.event.tracking.phase.general.ExplosionContext;
 import org.spongepowered.common.bridge.tileentity.TileEntityBridge;
@@ -59,6 +60,11 @@
 import java.util.function.BiConsumer;
 
 class TileEntityTickPhaseState extends LocationBasedTickPhaseState<TileEntityTickContext> {
+
+    private final PhaseContextPool<TileEntityTickContext> contextPool = new PhaseContextPool<>(() -> new TileEntityTickContext(this)
+        .addEntityCaptures()
+        .addEntityDropCaptures()
+        .addBlockCaptures());
     private final BiConsumer<StackFrame, TileEntityTickContext> TILE_ENTITY_MODIFIER =
         super.getFrameModifier().andThen((frame, context) ->
             context.getSource(TileEntity.class)
@@ -73,10 +79,7 @@ class TileEntityTickPhaseState extends LocationBasedTickPhaseState<TileEntityTic
 
     @Override
     public TileEntityTickContext createPhaseContext() {
-        return new TileEntityTickContext(this)
-                .addEntityCaptures()
-                .addEntityDropCaptures()
-                .addBlockCaptures();
+        return this.contextPool.acquire();
     }
 
     @Override
@@ -24,10 +24,15 @@
  */
 package org.spongepowered.common.interfaces.world;
 
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
 
+import java.io.IOException;
 import java.nio.file.Path;
 
+import javax.annotation.Nullable;
+
 public interface IMixinAnvilChunkLoader {
 
     // Forge method
@@ -35,4 +40,28 @@ public interface IMixinAnvilChunkLoader {
 
     Path getWorldDir();
 
+    /**
+     * Reads the compound of a chunk from the pending saves or the region
+     * file and updates it with the data fixers, may be called from any
+     * thread.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @return The chunk compound, or null if the chunk wasn't saved
+     * @throws IOException If the region file couldn't be read
+     */
+    @Nullable NBTTagCompound readChunkCompound(int x, int z) throws IOException;
+
+    /**
+     * Creates a chunk from a compound read by {@link #readChunkCompound},
+     * must be called from the main thread.
+     *
+     * @param world The world
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @param compound The chunk compound
+     * @return The chunk, or null if the compound is invalid
+     */
+    @Nullable Chunk readChunkFromCompound(World world, int x, int z, NBTTagCompound compound);
+
 }
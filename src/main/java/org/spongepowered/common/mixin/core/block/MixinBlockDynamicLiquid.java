@@ -64,7 +64,7 @@ public BiConsumer<CauseStackManager.StackFrame, ServerWorldBridge> getTickFrameM
     @Inject(method = "canFlowInto", at = @At("HEAD"), cancellable = true)
     private void onCanFlowInto(net.minecraft.world.World worldIn, BlockPos pos, IBlockState state, CallbackInfoReturnable<Boolean> cir) {
         if (!((WorldBridge) worldIn).isFake() && ShouldFire.CHANGE_BLOCK_EVENT_PRE &&
-            SpongeCommonEventFactory.callChangeBlockEventPre((ServerWorldBridge) worldIn, pos).isCancelled()) {
+            SpongeCommonEventFactory.callChangeBlockEventPre((ServerWorldBridge) worldIn, pos)) {
             cir.setReturnValue(false);
         }
     }
@@ -72,7 +72,7 @@ private void onCanFlowInto(net.minecraft.world.World worldIn, BlockPos pos, IBlo
     @Inject(method = "updateTick", at = @At("HEAD"), cancellable = true)
     private void onUpdateTickHead(net.minecraft.world.World worldIn, BlockPos pos, IBlockState state, Random rand, CallbackInfo ci) {
         if (!((WorldBridge) worldIn).isFake() && ShouldFire.CHANGE_BLOCK_EVENT_PRE) {
-            if (SpongeCommonEventFactory.callChangeBlockEventPre((ServerWorldBridge) worldIn, pos).isCancelled()) {
+            if (SpongeCommonEventFactory.callChangeBlockEventPre((ServerWorldBridge) worldIn, pos)) {
                 ci.cancel();
             }
         }
@@ -37,6 +37,7 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.asm.mixin.injection.callback.LocalCapture;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 
 @Mixin(BlockLiquid.class)
@@ -53,6 +54,9 @@ public abstract class MixinBlockLiquid extends MixinBlock {
         )
     )
     private void impl$CheckForLiquidMixing(World worldIn, BlockPos pos, IBlockState state, CallbackInfoReturnable<Boolean> cir, boolean flag, Integer integer) {
+        if (!ShouldFire.CHANGE_BLOCK_EVENT_MODIFY) {
+            return;
+        }
         IBlockState newState = integer == 0 ? Blocks.OBSIDIAN.getDefaultState() : Blocks.COBBLESTONE.getDefaultState();
         ChangeBlockEvent.Modify event = SpongeCommonEventFactory.callChangeBlockEventModifyLiquidMix(worldIn, pos, newState, null);
         Transaction<BlockSnapshot> transaction = event.getTransactions().get(0);
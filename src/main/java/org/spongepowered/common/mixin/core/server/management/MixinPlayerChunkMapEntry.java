@@ -24,21 +24,32 @@
  */
 package org.spongepowered.common.mixin.core.server.management;
 
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.network.Packet;
 import net.minecraft.network.play.server.SPacketChunkData;
 import net.minecraft.server.management.PlayerChunkMap;
 import net.minecraft.server.management.PlayerChunkMapEntry;
 import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.gen.ChunkProviderServer;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.bridge.server.management.PlayerChunkMapEntryBridge;
+import org.spongepowered.common.bridge.world.ServerChunkProviderBridge;
 import org.spongepowered.common.util.Constants;
 
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
 @Mixin(PlayerChunkMapEntry.class)
 public abstract class MixinPlayerChunkMapEntry implements PlayerChunkMapEntryBridge {
 
@@ -46,9 +57,60 @@ public abstract class MixinPlayerChunkMapEntry implements PlayerChunkMapEntryBri
     @Shadow @Final public ChunkPos pos;
     @Shadow public int changes;
     @Shadow public int changedSectionFilter;
+    @Shadow @Nullable private Chunk chunk;
     @Shadow public abstract void sendPacket(Packet<?> packetIn);
 
     private boolean updateBiomes;
+    // Set while the chunk is read asynchronously, the entry waits for it instead of loading it again
+    private boolean loadingAsync;
+    @Nullable private Consumer<Chunk> asyncLoadCallback;
+
+    // Forge's constructor calls loadChunk(II, Runnable) instead, which already reads the chunk on its ChunkIOExecutor
+    @Redirect(method = "<init>", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/gen/ChunkProviderServer;loadChunk(II)Lnet/minecraft/world/chunk/Chunk;"),
+        expect = 0, require = 0)
+    private Chunk impl$loadChunkAsync(ChunkProviderServer chunkProvider, int x, int z) {
+        final ServerChunkProviderBridge bridge = (ServerChunkProviderBridge) chunkProvider;
+        if (!bridge.isAsyncChunkLoadingEnabled()) {
+            return chunkProvider.loadChunk(x, z);
+        }
+        final Chunk loaded = chunkProvider.getLoadedChunk(x, z);
+        if (loaded != null) {
+            return loaded;
+        }
+        // Chunks closer to a player are read first
+        int priority = Integer.MAX_VALUE;
+        for (EntityPlayer player : chunkProvider.world.playerEntities) {
+            final int dx = (MathHelper.floor(player.posX) >> 4) - x;
+            final int dz = (MathHelper.floor(player.posZ) >> 4) - z;
+            priority = Math.min(priority, dx * dx + dz * dz);
+        }
+        this.loadingAsync = true;
+        this.asyncLoadCallback = chunk -> {
+            this.loadingAsync = false;
+            this.asyncLoadCallback = null;
+            this.chunk = chunk;
+        };
+        bridge.loadChunkAsync(x, z, priority, this.asyncLoadCallback);
+        return null;
+    }
+
+    @Inject(method = "providePlayerChunk", at = @At("HEAD"), cancellable = true)
+    private void impl$waitForAsyncLoad(boolean canGenerate, CallbackInfoReturnable<Boolean> cir) {
+        if (this.loadingAsync) {
+            cir.setReturnValue(false);
+        }
+    }
+
+    @Inject(method = "removePlayer", at = @At(value = "INVOKE", target = "Lnet/minecraft/server/management/PlayerChunkMap;removeEntry(Lnet/minecraft/server/management/PlayerChunkMapEntry;)V"))
+    private void impl$cancelAsyncLoad(EntityPlayerMP player, CallbackInfo ci) {
+        // Nobody is waiting for the chunk anymore
+        if (this.loadingAsync && this.asyncLoadCallback != null) {
+            ((ServerChunkProviderBridge) this.playerChunkMap.getWorldServer().getChunkProvider())
+                .cancelAsyncChunkLoad(this.pos.x, this.pos.z, this.asyncLoadCallback);
+            this.loadingAsync = false;
+            this.asyncLoadCallback = null;
+        }
+    }
 
     @Inject(method = "update", at = @At("HEAD"), cancellable = true)
     private void impl$UpdateBimoes(CallbackInfo ci) {
@@ -26,10 +26,14 @@
 
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IWorldEventListener;
 import net.minecraft.world.World;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
 import org.spongepowered.asm.mixin.gen.Invoker;
 
+import java.util.List;
+
 import javax.annotation.Nullable;
 
 @Mixin(World.class)
@@ -39,5 +43,8 @@ public interface AccessorWorld {
     @Nullable
     TileEntity accessPendingTileEntityAt(BlockPos pos);
 
+    @Accessor("eventListeners")
+    List<IWorldEventListener> accessor$getEventListeners();
+
 
 }
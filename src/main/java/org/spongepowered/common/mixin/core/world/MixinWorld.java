@@ -946,6 +946,16 @@ public void spongeTileEntityActivation() {
 
     }
 
+    /**
+     * Overridden in {@link MixinWorldServer_TileEntityActivation} to wake up
+     * a sleeping tile entity at the changed position.
+     *
+     * @param pos The position of the notified block
+     */
+    public void spongeTileEntityNeighborChanged(BlockPos pos) {
+
+    }
+
     public void entityActivationCheck() {
         // Overridden in MixinWorldServer_Activation
     }
@@ -160,7 +160,6 @@
 import org.spongepowered.common.event.tracking.phase.generation.GenerationPhase;
 import org.spongepowered.common.event.tracking.phase.tick.TickPhase;
 import org.spongepowered.common.interfaces.IMixinNextTickListEntry;
-import org.spongepowered.common.bridge.server.management.PlayerChunkMapBridge;
 import org.spongepowered.common.interfaces.util.math.IMixinBlockPos;
 import org.spongepowered.common.bridge.world.WorldProviderBridge;
 import org.spongepowered.common.bridge.world.ServerWorldBridge;
@@ -177,10 +176,12 @@
 import org.spongepowered.common.world.SpongeLocatableBlockBuilder;
 import org.spongepowered.common.world.WorldManager;
 import org.spongepowered.common.world.border.PlayerBorderListener;
+import org.spongepowered.common.world.gc.ChunkGarbageCollector;
 import org.spongepowered.common.world.gen.SpongeChunkGenerator;
 import org.spongepowered.common.world.gen.SpongeGenerationPopulator;
 import org.spongepowered.common.world.gen.SpongeWorldGenerator;
 import org.spongepowered.common.world.gen.WorldGenConstants;
+import org.spongepowered.common.world.storage.MappedRegionFile;
 import org.spongepowered.common.world.type.SpongeWorldType;
 
 import java.util.ArrayList;
@@ -209,9 +210,11 @@ public abstract class MixinWorldServer extends MixinWorld implements ServerWorld
     private int chunkGCLoadThreshold = 0;
     private int chunkGCTickInterval = Constants.World.CHUNK_GC_TICK_INTERVAL;
     private int chunkLoadCount = 0;
+    @Nullable private ChunkGarbageCollector chunkGarbageCollector;
     private long chunkUnloadDelay = 30000;
     private boolean weatherThunderEnabled = true;
     private boolean weatherIceAndSnowEnabled = true;
+    private boolean blockTrackingEnabled = true;
     private int dimensionId;
     @Nullable private NextTickListEntry tmpScheduledObj;
 
@@ -279,6 +282,7 @@ private void onConstruct(final MinecraftServer server, final ISaveHandler saveHa
         this.chunkGCTickInterval = worldCategory.getTickInterval();
         this.weatherIceAndSnowEnabled = worldCategory.getWeatherIceAndSnow();
         this.weatherThunderEnabled = worldCategory.getWeatherThunder();
+        this.blockTrackingEnabled = ((WorldInfoBridge) this.getWorldInfo()).getConfigAdapter().getConfig().getBlockTracking().isEnabled();
         this.updateEntityTick = 0;
         this.setMemoryViewDistance(this.chooseViewDistanceValue(worldCategory.getViewDistance()));
     }
@@ -363,9 +367,14 @@ private boolean onIsBonusChestEnabled(final WorldSettings settings) {
         this.weatherIceAndSnowEnabled = configAdapter.getConfig().getWorld().getWeatherIceAndSnow();
         this.weatherThunderEnabled = configAdapter.getConfig().getWorld().getWeatherThunder();
         this.chunkUnloadDelay = configAdapter.getConfig().getWorld().getChunkUnloadDelay() * 1000;
+        this.blockTrackingEnabled = configAdapter.getConfig().getBlockTracking().isEnabled();
+        if (this.chunkGarbageCollector != null) {
+            this.chunkGarbageCollector.updateConfig(configAdapter.getConfig().getChunkGC());
+        }
         if (this.getChunkProvider() != null) {
             final int maxChunkUnloads = configAdapter.getConfig().getWorld().getMaxChunkUnloads();
             ((ServerChunkProviderBridge) this.getChunkProvider()).setMaxChunkUnloads(maxChunkUnloads < 1 ? 1 : maxChunkUnloads);
+            ((ServerChunkProviderBridge) this.getChunkProvider()).setMaxChunkUnloadTime(configAdapter.getConfig().getWorld().getMaxChunkUnloadTime());
             ((ServerChunkProviderBridge) this.getChunkProvider()).setDenyChunkRequests(configAdapter.getConfig().getWorld().getDenyChunkRequests());
             for (final net.minecraft.entity.Entity entity : this.loadedEntityList) {
                 if (entity instanceof ActivationCapability) {
@@ -888,7 +897,7 @@ private boolean onAddBlockEvent(final WorldServer.ServerBlockEventList list, fin
                         notifySource = currentContext.getNeighborNotificationSource();
                     }
                     final BlockPos notificationPos = notifySource != null ? VecHelper.toBlockPos(notifySource.getLocation().get()) : pos;
-                    if (SpongeCommonEventFactory.callChangeBlockEventPre(this, notificationPos).isCancelled()) {
+                    if (SpongeCommonEventFactory.callChangeBlockEventPre(this, notificationPos)) {
                         return false;
                     }
                 }
@@ -1066,30 +1075,32 @@ protected net.minecraft.tileentity.TileEntity getQueuedRemovedTileFromProxy(fina
     public void doChunkGC() {
         this.chunkGCTickCount++;
 
-        if (this.chunkLoadCount >= this.chunkGCLoadThreshold && this.chunkGCLoadThreshold > 0) {
-            this.chunkLoadCount = 0;
-        } else if (this.chunkGCTickCount >= this.chunkGCTickInterval && this.chunkGCTickInterval > 0) {
-            this.chunkGCTickCount = 0;
-        } else {
-            return;
-        }
-
-        final ChunkProviderServer chunkProviderServer = this.getChunkProvider();
-        for (final net.minecraft.world.chunk.Chunk chunk : chunkProviderServer.getLoadedChunks()) {
-            final ChunkBridge spongeChunk = (ChunkBridge) chunk;
-            if (chunk.unloadQueued || spongeChunk.isPersistedChunk() || !this.provider.canDropChunk(chunk.x, chunk.z)) {
-                continue;
-            }
-
-            // If a player is currently using the chunk, skip it
-            if (((PlayerChunkMapBridge) this.getPlayerChunkMap()).bridge$isChunkInUse(chunk.x, chunk.z)) {
-                continue;
+        // Sponge - Runs may be spread over several ticks, a new one only starts after the previous one completed.
+        // The retention policy may start runs of its own in between.
+        if (!this.impl$getChunkGarbageCollector().isRunning()) {
+            if (this.chunkLoadCount >= this.chunkGCLoadThreshold && this.chunkGCLoadThreshold > 0) {
+                this.chunkLoadCount = 0;
+            } else if (this.chunkGCTickCount >= this.chunkGCTickInterval && this.chunkGCTickInterval > 0) {
+                this.chunkGCTickCount = 0;
+            } else if (!this.chunkGarbageCollector.shouldStart()) {
+                return;
             }
+            this.chunkGarbageCollector.start();
+        }
+        this.chunkGarbageCollector.tick();
+    }
 
-            // If we reach this point the chunk leaked so queue for unload
-            chunkProviderServer.queueUnload(chunk);
-            SpongeHooks.logChunkGCQueueUnload(chunkProviderServer.world, chunk);
+    private ChunkGarbageCollector impl$getChunkGarbageCollector() {
+        if (this.chunkGarbageCollector == null) {
+            this.chunkGarbageCollector = new ChunkGarbageCollector((WorldServer) (Object) this,
+                ((WorldInfoBridge) this.worldInfo).getConfigAdapter().getConfig().getChunkGC());
         }
+        return this.chunkGarbageCollector;
+    }
+
+    @Override
+    public ChunkGarbageCollector bridge$getChunkGarbageCollector() {
+        return this.impl$getChunkGarbageCollector();
     }
 
 
@@ -1131,6 +1142,8 @@ public void saveAllChunks(final boolean all, @Nullable final IProgressUpdate pro
             }
 
             chunkproviderserver.saveChunks(all);
+            // Sponge - Drop the region file mappings of this world, so they can be released
+            MappedRegionFile.invalidate(this.saveHandler.getWorldDirectory());
             Sponge.getEventManager().post(SpongeEventFactory.createSaveWorldEventPost(currentCause, ((org.spongepowered.api.world.World) this)));
 
             // The chunk GC handles all queuing for chunk unloads so we return here to avoid it during a save.
@@ -1408,7 +1421,7 @@ public boolean destroyBlock(final BlockPos pos, final boolean dropBlock) {
         }
         // Sponge Start - Fire the change block pre here, before we bother with drops. If the pre is cancelled, just don't bother.
         if (ShouldFire.CHANGE_BLOCK_EVENT_PRE) {
-            if (SpongeCommonEventFactory.callChangeBlockEventPre(this, pos).isCancelled()) {
+            if (SpongeCommonEventFactory.callChangeBlockEventPre(this, pos)) {
                 return false;
             }
         }
@@ -1484,6 +1497,7 @@ public void neighborChanged(final BlockPos pos, Block blockIn, final BlockPos ot
         if (chunk == null) {
             return;
         }
+        this.spongeTileEntityNeighborChanged(pos);
         //noinspection ConstantConditions
         if (blockIn == null) {
             // If the block is null, check with the PhaseState to see if it can perform a safe way
@@ -1627,7 +1641,7 @@ private boolean isChunkAvailable(final BlockPos sourcePos) {
 
     @Override
     public void onDestroyBlock(final BlockPos pos, final boolean dropBlock, final CallbackInfoReturnable<Boolean> cir) {
-        if (SpongeCommonEventFactory.callChangeBlockEventPre(this, pos).isCancelled()) {
+        if (SpongeCommonEventFactory.callChangeBlockEventPre(this, pos)) {
             cir.setReturnValue(false);
         }
     }
@@ -2450,6 +2464,11 @@ public long getChunkUnloadDelay() {
         return this.chunkUnloadDelay;
     }
 
+    @Override
+    public boolean bridge$isBlockTrackingEnabled() {
+        return this.blockTrackingEnabled;
+    }
+
     private void setMemoryViewDistance(final int viewDistance) {
         this.playerChunkMap.setPlayerViewRadius(viewDistance);
     }
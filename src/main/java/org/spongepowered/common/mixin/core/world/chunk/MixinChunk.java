@@ -73,6 +73,7 @@
 import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.common.util.Constants;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.entity.PlayerTrackerTable;
 import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.tracking.IPhaseState;
@@ -89,7 +90,6 @@
 import org.spongepowered.common.world.gen.WorldGenConstants;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -340,10 +340,23 @@ public IBlockState setBlockState(final BlockPos pos, final IBlockState state) {
      * @param currentState The current state - passed in from either chunk or world
      * @return The changed block state if not null
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     @Nullable
     public IBlockState setBlockState(final BlockPos pos, final IBlockState newState, final IBlockState currentState, final BlockChangeFlag flag) {
+        return this.impl$setBlockState(pos, newState, currentState, flag, true, false);
+    }
+
+    @Override
+    @Nullable
+    public IBlockState setBlockStateUntracked(final BlockPos pos, final IBlockState newState, final IBlockState currentState,
+        final BlockChangeFlag flag, final boolean isRestoring) {
+        return this.impl$setBlockState(pos, newState, currentState, flag, false, isRestoring);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Nullable
+    private IBlockState impl$setBlockState(final BlockPos pos, final IBlockState newState, final IBlockState currentState, final BlockChangeFlag flag,
+        final boolean tracked, final boolean untrackedRestoring) {
         final int xPos = pos.getX() & 15;
         final int yPos = pos.getY();
         final int zPos = pos.getZ() & 15;
@@ -388,10 +401,15 @@ public IBlockState setBlockState(final BlockPos pos, final IBlockState newState,
         // Sponge Start
         // Set up some default information variables for later processing
         final boolean isFake = ((WorldBridge) this.world).isFake();
+        // Untracked changes are only made while nothing listens to block changes and no transaction
+        // is being processed, so neither the phase state nor the proxy access needs to be consulted.
+        final boolean isTracked = tracked && !isFake;
         final TileEntity existing = this.getTileEntity(pos, net.minecraft.world.chunk.Chunk.EnumCreateEntityType.CHECK);
-        final PhaseContext<?> peek = isFake ? null : PhaseTracker.getInstance().getCurrentContext();
-        final IPhaseState state = isFake ? null : peek.state;
-        final SpongeBlockSnapshot snapshot = (isFake || (!ShouldFire.CHANGE_BLOCK_EVENT || !state.shouldCaptureBlockChangeOrSkip(peek, pos, currentState, newState, flag))) ? null : createSpongeBlockSnapshot(currentState, currentState, pos, flag, existing);
+        final PhaseContext<?> peek = isTracked ? PhaseTracker.getInstance().getCurrentContext() : null;
+        final IPhaseState state = isTracked ? peek.state : null;
+        // Untracked changes are told by the caller whether the phase they are made in is restoring
+        final boolean isRestoring = state != null ? state.isRestoring() : untrackedRestoring;
+        final SpongeBlockSnapshot snapshot = (!isTracked || (!ShouldFire.CHANGE_BLOCK_EVENT || !state.shouldCaptureBlockChangeOrSkip(peek, pos, currentState, newState, flag))) ? null : createSpongeBlockSnapshot(currentState, currentState, pos, flag, existing);
         final BlockTransaction.ChangeBlock transaction;
         final ServerWorldBridge mixinWorld = isFake ? null : (ServerWorldBridge) this.world;
 
@@ -439,7 +457,7 @@ public IBlockState setBlockState(final BlockPos pos, final IBlockState newState,
             } else {
                 transaction = null;
                 // Sponge - Forge adds this change for block changes to only fire events when necessary
-                if (currentBlock != newBlock && (state == null || !state.isRestoring())) { // cache the block break in the event we're capturing tiles
+                if (currentBlock != newBlock && !isRestoring) { // cache the block break in the event we're capturing tiles
                     currentBlock.breakBlock(this.world, pos, currentState);
                 }
                 // Sponge - Add several tile entity hook checks. Mainly for forge added hooks, but these
@@ -502,12 +520,12 @@ public IBlockState setBlockState(final BlockPos pos, final IBlockState newState,
         }
 
         // Sponge Start - Handle block physics only if we're actually the server world
-        if (!isFake && currentState != newState) {
+        if (isTracked && currentState != newState) {
             // Reset the proxy access or add to the proxy state during processing.
             ((ServerWorldBridge) this.world).bridge$getProxyAccess().onChunkChanged(pos, newState);
         }
         if (!isFake && currentBlock != newBlock) {
-            final boolean isBulkCapturing = ShouldFire.CHANGE_BLOCK_EVENT && state.doesBulkBlockCapture(peek);
+            final boolean isBulkCapturing = isTracked && ShouldFire.CHANGE_BLOCK_EVENT && state.doesBulkBlockCapture(peek);
 
             // Sponge start - Ignore block activations during block placement captures unless it's
             // a BlockContainer. Prevents blocks such as TNT from activating when cancelled.
@@ -544,7 +562,8 @@ public IBlockState setBlockState(final BlockPos pos, final IBlockState newState,
                 tileentity = SpongeImplHooks.createTileEntity(newBlock, this.world, newState);
 
                 if (!isFake) { // Surround with a server check
-                    final User owner = peek.getOwner().orElse(null);
+                    // Untracked changes still hand the owner over, only new tile entities need the context
+                    final User owner = (isTracked ? peek : PhaseTracker.getInstance().getCurrentContext()).getOwner().orElse(null);
                     // If current owner exists, transfer it to newly created TE pos
                     // This is required for TE's that get created during move such as pistons and ComputerCraft turtles.
                     if (owner != null) {
@@ -617,6 +636,8 @@ public void setTileEntity(final BlockPos pos, final TileEntity added) {
         this.tileEntities.put(pos, added);
     }
 
+    // Built eagerly for every captured change, tile entity NBT included, as the tile
+    // entity will have changed or been removed by the time a listener reads the snapshot.
     private SpongeBlockSnapshot createSpongeBlockSnapshot(
         final IBlockState state, final IBlockState extended, final BlockPos pos, final BlockChangeFlag updateFlag, @Nullable final TileEntity existing) {
         final SpongeBlockSnapshotBuilder builder = new SpongeBlockSnapshotBuilder();
@@ -642,10 +663,7 @@ private SpongeBlockSnapshot createSpongeBlockSnapshot(
     public void addTrackedBlockPosition(final Block block, final BlockPos pos, final User user, final PlayerTracker.Type trackerType) { }
 
     @Override
-    public Map<Integer, PlayerTracker> getTrackedIntPlayerPositions() { return Collections.emptyMap(); }
-
-    @Override
-    public Map<Short, PlayerTracker> getTrackedShortPlayerPositions() { return Collections.emptyMap(); }
+    public PlayerTrackerTable getTrackedPlayerPositions() { return new PlayerTrackerTable(); }
 
     @Override
     public Optional<User> getBlockOwner(final BlockPos pos) { return Optional.empty(); }
@@ -666,10 +684,7 @@ public void setBlockNotifier(final BlockPos pos, @Nullable final UUID uuid) { }
     public void setBlockCreator(final BlockPos pos, @Nullable final UUID uuid) { }
 
     @Override
-    public void setTrackedIntPlayerPositions(final Map<Integer, PlayerTracker> trackedPositions) { }
-
-    @Override
-    public void setTrackedShortPlayerPositions(final Map<Short, PlayerTracker> trackedPositions) { }
+    public void setTrackedPlayerPositions(final PlayerTrackerTable trackedPositions) { }
 
     // Continuing the rest of the implementation
 
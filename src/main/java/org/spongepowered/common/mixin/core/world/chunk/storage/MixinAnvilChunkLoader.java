@@ -25,12 +25,16 @@
 package org.spongepowered.common.mixin.core.world.chunk.storage;
 
 import com.flowpowered.math.vector.Vector3d;
+import com.google.common.collect.MapMaker;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityList;
 import net.minecraft.entity.item.EntityMinecart;
+import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.datafix.DataFixer;
+import net.minecraft.util.datafix.FixTypes;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
@@ -63,16 +67,27 @@
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
 import org.spongepowered.common.data.util.NbtDataUtil;
-import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.entity.PlayerTrackerTable;
 import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
 import org.spongepowered.common.registry.type.entity.EntityTypeRegistryModule;
 import org.spongepowered.common.util.QueuedChunk;
+import org.spongepowered.common.world.storage.MappedRegionFile;
+import org.spongepowered.common.world.storage.RegionWriteLanes;
 
+import java.io.DataInputStream;
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.annotation.Nullable;
 
 @Mixin(AnvilChunkLoader.class)
 @Implements(@Interface(iface = IMixinAnvilChunkLoader.class, prefix = "loader$"))
@@ -80,7 +95,15 @@ public abstract class MixinAnvilChunkLoader implements IMixinAnvilChunkLoader {
 
     private ConcurrentLinkedQueue<QueuedChunk> queue = new ConcurrentLinkedQueue<>();
     private final Object lock = new Object();
+    // Writes handed to the region write lanes which have not completed yet
+    private final Set<CompletableFuture<Void>> pendingParallelWrites = ConcurrentHashMap.newKeySet();
+    // Keyed by the identity of the level compounds, entries go away along with the compound once written and no longer pending
+    private final Map<NBTTagCompound, PlayerTrackerTable.Snapshot> pendingTrackedPositions = new MapMaker().weakKeys().makeMap();
 
+    // The most chunks handed to the region write lanes per call of writeNextIO
+    private static final int PARALLEL_WRITE_BATCH_SIZE = 512;
+    // How often a queued chunk is written before giving up on it
+    private static final int MAX_WRITE_ATTEMPTS = 5;
     private static final String ENTITY_LIST_CREATE_FROM_NBT =
             "Lnet/minecraft/entity/EntityList;createEntityFromNBT(Lnet/minecraft/nbt/NBTTagCompound;Lnet/minecraft/world/World;)Lnet/minecraft/entity/Entity;";
 
@@ -88,76 +111,100 @@ public abstract class MixinAnvilChunkLoader implements IMixinAnvilChunkLoader {
     @Shadow @Final private Map<ChunkPos, NBTTagCompound> chunksToSave;
     @Shadow @Final private File chunkSaveLocation;
     @Shadow private boolean flushing;
+    @Shadow @Final private DataFixer fixer;
 
     @Shadow
     public abstract void writeChunkData(ChunkPos pos, NBTTagCompound compound);
+    @Shadow @Nullable protected abstract Chunk checkedReadChunkFromNBT(World worldIn, int x, int z, NBTTagCompound compound);
 
+    /**
+     * Only snapshots the tracked block positions of the chunk, they are
+     * encoded into the chunk NBT by the file IO thread in
+     * {@link #writeNextIO()}. Until then the snapshot is kept for the level
+     * compound, so a chunk loaded again from its pending compound still gets
+     * its tracked positions.
+     */
     @Inject(method = "writeChunkToNBT", at = @At(value = "RETURN"))
     public void onWriteChunkToNBT(net.minecraft.world.chunk.Chunk chunkIn, World worldIn, NBTTagCompound compound, CallbackInfo ci) {
         ChunkBridge chunk = (ChunkBridge) chunkIn;
 
-        // Add tracked block positions
-        if (chunk.getTrackedShortPlayerPositions().size() > 0 || chunk.getTrackedIntPlayerPositions().size() > 0) {
-            NBTTagCompound trackedNbt = new NBTTagCompound();
-            NBTTagList positions = new NBTTagList();
-            trackedNbt.setTag(NbtDataUtil.SPONGE_BLOCK_POS_TABLE, positions);
-            compound.setTag(NbtDataUtil.SPONGE_DATA, trackedNbt);
-
-            for (Map.Entry<Short, PlayerTracker> mapEntry : chunk.getTrackedShortPlayerPositions().entrySet()) {
-                Short pos = mapEntry.getKey();
-                Integer ownerUniqueIdIndex = mapEntry.getValue().ownerIndex;
-                Integer notifierUniqueIdIndex = mapEntry.getValue().notifierIndex;
-                NBTTagCompound valueNbt = new NBTTagCompound();
-                valueNbt.setInteger("owner", ownerUniqueIdIndex);
-                valueNbt.setInteger("notifier", notifierUniqueIdIndex);
-                valueNbt.setShort("pos", pos);
-                positions.appendTag(valueNbt);
-            }
+        // Snapshot tracked block positions
+        final PlayerTrackerTable trackedPositions = chunk.getTrackedPlayerPositions();
+        if (!trackedPositions.isEmpty()) {
+            this.pendingTrackedPositions.put(compound, trackedPositions.snapshot());
+        }
+    }
 
-            for (Map.Entry<Integer, PlayerTracker> mapEntry : chunk.getTrackedIntPlayerPositions().entrySet()) {
-                Integer pos = mapEntry.getKey();
-                Integer ownerUniqueIdIndex = mapEntry.getValue().ownerIndex;
-                Integer notifierUniqueIdIndex = mapEntry.getValue().notifierIndex;
-                NBTTagCompound valueNbt = new NBTTagCompound();
-                valueNbt.setInteger("owner", ownerUniqueIdIndex);
-                valueNbt.setInteger("notifier", notifierUniqueIdIndex);
-                valueNbt.setInteger("ipos", pos);
-                positions.appendTag(valueNbt);
-            }
+    private static NBTTagCompound writeTrackedPositions(NBTTagCompound rootCompound, PlayerTrackerTable.Snapshot trackedPositions) {
+        // The pending compounds may be read by the main thread at any time, so the tracked positions
+        // are added to a shallow copy. The existing tags are never modified once queued.
+        final NBTTagCompound level = rootCompound.getCompoundTag(NbtDataUtil.CHUNK_DATA_LEVEL);
+        final NBTTagCompound levelCopy = new NBTTagCompound();
+        for (String key : level.getKeySet()) {
+            levelCopy.setTag(key, level.getTag(key));
         }
+        final NBTTagCompound rootCopy = new NBTTagCompound();
+        for (String key : rootCompound.getKeySet()) {
+            rootCopy.setTag(key, rootCompound.getTag(key));
+        }
+        rootCopy.setTag(NbtDataUtil.CHUNK_DATA_LEVEL, levelCopy);
+
+        NBTTagCompound trackedNbt = new NBTTagCompound();
+        NBTTagList positions = new NBTTagList();
+        trackedNbt.setTag(NbtDataUtil.SPONGE_BLOCK_POS_TABLE, positions);
+        levelCopy.setTag(NbtDataUtil.SPONGE_DATA, trackedNbt);
+
+        for (int i = 0; i < trackedPositions.shortKeys.length; i++) {
+            NBTTagCompound valueNbt = new NBTTagCompound();
+            valueNbt.setInteger("owner", PlayerTrackerTable.ownerIndex(trackedPositions.shortValues[i]));
+            valueNbt.setInteger("notifier", PlayerTrackerTable.notifierIndex(trackedPositions.shortValues[i]));
+            valueNbt.setShort("pos", trackedPositions.shortKeys[i]);
+            positions.appendTag(valueNbt);
+        }
+
+        for (int i = 0; i < trackedPositions.intKeys.length; i++) {
+            NBTTagCompound valueNbt = new NBTTagCompound();
+            valueNbt.setInteger("owner", PlayerTrackerTable.ownerIndex(trackedPositions.intValues[i]));
+            valueNbt.setInteger("notifier", PlayerTrackerTable.notifierIndex(trackedPositions.intValues[i]));
+            valueNbt.setInteger("ipos", trackedPositions.intKeys[i]);
+            positions.appendTag(valueNbt);
+        }
+        return rootCopy;
     }
 
     @Inject(method = "readChunkFromNBT", at = @At(value = "INVOKE", target = "Lnet/minecraft/nbt/NBTTagCompound;getIntArray(Ljava/lang/String;)[I", shift = At.Shift.BEFORE), locals = LocalCapture.CAPTURE_FAILHARD)
     private void onReadChunkFromNBT(World worldIn, NBTTagCompound compound, CallbackInfoReturnable<net.minecraft.world.chunk.Chunk> ci, int chunkX,
       int chunkZ, net.minecraft.world.chunk.Chunk chunkIn) {
-        if (compound.hasKey(NbtDataUtil.SPONGE_DATA)) {
-            final Map<Integer, PlayerTracker> trackedIntPlayerPositions = new HashMap<>();
-            final Map<Short, PlayerTracker> trackedShortPlayerPositions = new HashMap<>();
+        final PlayerTrackerTable.Snapshot pendingPositions = this.pendingTrackedPositions.get(compound);
+        if (pendingPositions != null) {
+            // Loaded from a compound still waiting to be written, which doesn't contain the positions yet
+            ((ChunkBridge) chunkIn).setTrackedPlayerPositions(pendingPositions.toTable());
+        } else if (compound.hasKey(NbtDataUtil.SPONGE_DATA)) {
+            final PlayerTrackerTable trackedPositions = new PlayerTrackerTable();
             final NBTTagList positions = compound.getCompoundTag(NbtDataUtil.SPONGE_DATA).getTagList(NbtDataUtil.SPONGE_BLOCK_POS_TABLE, 10);
             final ChunkBridge chunk = (ChunkBridge) chunkIn;
             for (int i = 0; i < positions.tagCount(); i++) {
                 NBTTagCompound valueNbt = positions.getCompoundTagAt(i);
                 boolean isShortPos = valueNbt.hasKey("pos");
-                PlayerTracker tracker = new PlayerTracker();
+                int ownerIndex = -1;
+                int notifierIndex = -1;
                 if (valueNbt.hasKey("owner")) {
-                    tracker.ownerIndex = valueNbt.getInteger("owner");
+                    ownerIndex = valueNbt.getInteger("owner");
                 } else if (valueNbt.hasKey("uuid")) { // Migrate old data, remove in future
-                    tracker.ownerIndex = valueNbt.getInteger("uuid");
+                    ownerIndex = valueNbt.getInteger("uuid");
                 }
                 if (valueNbt.hasKey("notifier")) {
-                    tracker.notifierIndex = valueNbt.getInteger("notifier");
+                    notifierIndex = valueNbt.getInteger("notifier");
                 }
 
-                if (tracker.notifierIndex != -1 || tracker.ownerIndex != -1) {
-                    if (isShortPos) {
-                        trackedShortPlayerPositions.put(valueNbt.getShort("pos"), tracker);
-                    } else {
-                        trackedIntPlayerPositions.put(valueNbt.getInteger("ipos"), tracker);
-                    }
+                // Positions that track neither an owner nor a notifier are skipped by the table
+                if (isShortPos) {
+                    trackedPositions.putShort(valueNbt.getShort("pos"), PlayerTrackerTable.pack(ownerIndex, notifierIndex));
+                } else {
+                    trackedPositions.putInt(valueNbt.getInteger("ipos"), PlayerTrackerTable.pack(ownerIndex, notifierIndex));
                 }
             }
-            chunk.setTrackedIntPlayerPositions(trackedIntPlayerPositions);
-            chunk.setTrackedShortPlayerPositions(trackedShortPlayerPositions);
+            chunk.setTrackedPlayerPositions(trackedPositions);
         }
     }
 
@@ -214,6 +261,16 @@ private static Entity onReadChunkEntity(NBTTagCompound compound, World world, Ch
         if (this.chunksToSave.containsKey(chunkcoordintpair)) {
             return true;
         }
+
+        // Read the offset table of the mapped region file, which doesn't open or
+        // create the file through the RegionFileCache. Files being written to
+        // are read through their open region file instead.
+        try {
+            final MappedRegionFile regionFile = MappedRegionFile.get(this.chunkSaveLocation, x, z);
+            return regionFile != null && regionFile.hasChunk(x, z);
+        } catch (IOException e) {
+            SpongeImpl.getLogger().debug("Could not map the region file of chunk {}, {}", x, z, e);
+        }
         // Sponge end
 
         return RegionFileCache.getChunkInputStream(this.chunkSaveLocation, x, z) != null;
@@ -243,6 +300,16 @@ protected void addChunkToPending(ChunkPos pos, NBTTagCompound compound) {
      */
     @Overwrite
     public boolean writeNextIO() {
+        // Sponge start - Hand the chunk to the region write lanes if enabled
+        if (SpongeImpl.getGlobalConfigAdapter().getConfig().getOptimizations().getChunkSaveCategory().useParallelRegionWrites()) {
+            return this.writeNextIOParallel();
+        }
+        if (!this.pendingParallelWrites.isEmpty()) {
+            // Parallel writes were just disabled, let them finish so the order of chunk versions is kept
+            this.awaitParallelWrites();
+            return true;
+        }
+        // Sponge end
         QueuedChunk chunk = this.queue.poll();
         if (chunk == null) {
             if (this.flushing) {
@@ -251,51 +318,117 @@ public boolean writeNextIO() {
 
             return false;
         } else {
-            ChunkPos chunkpos = chunk.coords;
-            boolean lvt_3_1_;
-
-            try {
-                // this.field_193415_c.add(chunkpos);
-                NBTTagCompound nbttagcompound = chunk.compound;
-
-                if (nbttagcompound != null) {
-                    int attempts = 0;
-                    Exception laste = null;
-                    while (attempts++ < 5) {
-                        try {
-                            this.writeChunkData(chunkpos, nbttagcompound);
-                            laste = null;
-                            break;
-                        } catch (Exception exception) {
-                            // LOGGER.error((String)"Failed to save chunk",
-                            // (Throwable)exception);
-                            laste = exception;
-                        }
-                        try {
-                            Thread.sleep(10);
-                        } catch (InterruptedException e) {
-                            e.printStackTrace();
-                        }
+            this.writeQueuedChunk(chunk, false);
+            return true;
+        }
+    }
+
+    private boolean writeNextIOParallel() {
+        QueuedChunk chunk = this.queue.poll();
+        if (chunk == null) {
+            // The file IO thread and flushes only consider this loader done once this returns false,
+            // so keep it queued until every write submitted to the lanes has completed.
+            if (!this.pendingParallelWrites.isEmpty()) {
+                this.awaitParallelWrites();
+                return true;
+            }
+            if (this.flushing) {
+                LOGGER.info("ThreadedAnvilChunkStorage ({}): All chunks are saved", new Object[] {this.chunkSaveLocation.getName()});
+            }
+            return false;
+        }
+        // The file IO thread sleeps between calls, so hand over a batch of chunks at once
+        final RegionWriteLanes lanes = RegionWriteLanes.getInstance();
+        int submitted = 0;
+        do {
+            final QueuedChunk queued = chunk;
+            final CompletableFuture<Void> write = lanes.submit(this.chunkSaveLocation, queued.coords.x, queued.coords.z,
+                () -> this.writeQueuedChunk(queued, true));
+            this.pendingParallelWrites.add(write);
+            write.whenComplete((result, throwable) -> this.pendingParallelWrites.remove(write));
+        } while (++submitted < PARALLEL_WRITE_BATCH_SIZE && (chunk = this.queue.poll()) != null);
+        return true;
+    }
+
+    private void awaitParallelWrites() {
+        try {
+            CompletableFuture.allOf(this.pendingParallelWrites.toArray(new CompletableFuture<?>[0])).get(10, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException ignored) {
+            // Failed writes are logged by the lanes, the caller checks again
+        }
+    }
+
+    private void writeQueuedChunk(QueuedChunk chunk, boolean parallel) {
+        ChunkPos chunkpos = chunk.coords;
+
+        try {
+            // this.field_193415_c.add(chunkpos);
+            NBTTagCompound nbttagcompound = chunk.compound;
+
+            if (nbttagcompound != null) {
+                // Sponge - Encode the tracked block positions snapshotted on the main thread
+                final PlayerTrackerTable.Snapshot trackedPositions =
+                    this.pendingTrackedPositions.get(nbttagcompound.getCompoundTag(NbtDataUtil.CHUNK_DATA_LEVEL));
+                final NBTTagCompound toWrite = trackedPositions == null ? nbttagcompound : writeTrackedPositions(nbttagcompound, trackedPositions);
+                // Sponge start - Queue failed writes again instead of retrying right away, and don't lose the chunk silently
+                try {
+                    if (parallel) {
+                        // The region write lanes keep the RegionFileCache from closing the file while writing it
+                        RegionWriteLanes.writeChunk(this.chunkSaveLocation, chunkpos.x, chunkpos.z, toWrite);
+                    } else {
+                        this.writeChunkData(chunkpos, toWrite);
                     }
-                    if (laste != null) {
-                        laste.printStackTrace();
+                } catch (Exception exception) {
+                    synchronized (this.lock) {
+                        // Only the latest version of a chunk is queued again, a newer one is queued after this
+                        // one anyway. Queued under the lock, so a version queued meanwhile stays the last.
+                        if (this.chunksToSave.get(chunkpos) == nbttagcompound) {
+                            if (++chunk.failedWrites < MAX_WRITE_ATTEMPTS) {
+                                LOGGER.warn("Failed to save chunk {} in {}, trying again", chunkpos, this.chunkSaveLocation, exception);
+                                this.queue.add(chunk);
+                                return;
+                            }
+                            LOGGER.error("Failed to save chunk {} in {} after {} attempts, it will not be saved", chunkpos,
+                                this.chunkSaveLocation, MAX_WRITE_ATTEMPTS, exception);
+                        }
                     }
                 }
+                // Sponge end
+            }
 
-                synchronized (this.lock) {
-                    if (this.chunksToSave.get(chunkpos) == nbttagcompound) {
-                        this.chunksToSave.remove(chunkpos);
-                    }
+            synchronized (this.lock) {
+                if (this.chunksToSave.get(chunkpos) == nbttagcompound) {
+                    this.chunksToSave.remove(chunkpos);
                 }
-                // Sponge - This will not equal if a newer version is still
-                // pending
-                lvt_3_1_ = true;
-            } finally {
-                // this.field_193415_c.remove(chunkpos);
             }
+            // Sponge - This will not equal if a newer version is still
+            // pending
+        } finally {
+            // this.field_193415_c.remove(chunkpos);
+        }
+    }
 
-            return lvt_3_1_;
+    // Split from loadChunk for asynchronous chunk loading
+    @Nullable
+    @Override
+    public NBTTagCompound readChunkCompound(int x, int z) throws IOException {
+        final NBTTagCompound compound = this.chunksToSave.get(new ChunkPos(x, z));
+        if (compound != null) {
+            return compound;
+        }
+        final DataInputStream stream = RegionFileCache.getChunkInputStream(this.chunkSaveLocation, x, z);
+        if (stream == null) {
+            return null;
         }
+        return this.fixer.process(FixTypes.CHUNK, CompressedStreamTools.read(stream));
+    }
+
+    @Nullable
+    @Override
+    public Chunk readChunkFromCompound(World world, int x, int z, NBTTagCompound compound) {
+        return this.checkedReadChunkFromNBT(world, x, z, compound);
     }
 
     @Override
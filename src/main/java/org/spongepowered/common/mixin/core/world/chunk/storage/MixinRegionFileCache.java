@@ -0,0 +1,76 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.core.world.chunk.storage;
+
+import net.minecraft.world.chunk.storage.RegionFile;
+import net.minecraft.world.chunk.storage.RegionFileCache;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.world.storage.MappedRegionFile;
+import org.spongepowered.common.world.storage.RegionWriteLanes;
+
+import java.io.File;
+import java.util.concurrent.locks.Lock;
+
+import javax.annotation.Nullable;
+
+@Mixin(RegionFileCache.class)
+public abstract class MixinRegionFileCache {
+
+    // Only accessed within the synchronized clearRegionFileReferences
+    @Nullable private static Lock impl$closingLock;
+
+    private static final String CREATE_OR_LOAD_REGION_FILE =
+            "Lnet/minecraft/world/chunk/storage/RegionFileCache;createOrLoadRegionFile(Ljava/io/File;II)Lnet/minecraft/world/chunk/storage/RegionFile;";
+
+    @Redirect(method = "getChunkOutputStream", at = @At(value = "INVOKE", target = CREATE_OR_LOAD_REGION_FILE))
+    private static RegionFile impl$onRegionFileWrite(File worldDir, int chunkX, int chunkZ) {
+        final RegionFile regionFile = RegionFileCache.createOrLoadRegionFile(worldDir, chunkX, chunkZ);
+        // The file is about to be written, so stop handing out a mapping of it. Files
+        // which are only read through the cache stay mapped.
+        MappedRegionFile.onRegionFileWrite(worldDir, chunkX, chunkZ, regionFile);
+        return regionFile;
+    }
+
+    @Inject(method = "clearRegionFileReferences", at = @At("HEAD"))
+    private static void impl$onRegionFilesClosed(CallbackInfo ci) {
+        // Wait for the region write lanes to finish their current writes
+        impl$closingLock = RegionWriteLanes.lockRegionFilesForClosing();
+        MappedRegionFile.onRegionFilesClosed();
+    }
+
+    @Inject(method = "clearRegionFileReferences", at = @At("RETURN"))
+    private static void impl$onRegionFilesClosedReturn(CallbackInfo ci) {
+        final Lock lock = impl$closingLock;
+        if (lock != null) {
+            impl$closingLock = null;
+            lock.unlock();
+        }
+    }
+
+}
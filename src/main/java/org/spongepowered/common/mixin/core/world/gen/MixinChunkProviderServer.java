@@ -24,9 +24,15 @@
  */
 package org.spongepowered.common.mixin.core.world.gen;
 
+import static com.google.common.base.Preconditions.checkState;
+
 import com.flowpowered.math.vector.Vector3i;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.chunk.storage.IChunkLoader;
@@ -49,6 +55,7 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.bridge.world.ServerChunkProviderBridge;
 import org.spongepowered.common.bridge.world.ServerWorldBridge;
 import org.spongepowered.common.bridge.world.WorldBridge;
@@ -59,14 +66,22 @@
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.phase.generation.GenerationPhase;
 import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
+import org.spongepowered.common.relocate.co.aikar.timings.WorldTimingsHandler;
 import org.spongepowered.common.util.CachedLong2ObjectMap;
 import org.spongepowered.common.world.SpongeEmptyChunk;
+import org.spongepowered.common.world.gc.UnloadCandidateSelector;
+import org.spongepowered.common.world.storage.AsyncChunkLoadQueue;
 import org.spongepowered.common.world.storage.SpongeChunkDataStream;
 import org.spongepowered.common.world.storage.WorldStorageUtil;
 
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
 
 @Mixin(ChunkProviderServer.class)
 public abstract class MixinChunkProviderServer implements WorldStorage, ServerChunkProviderBridge {
@@ -76,6 +91,9 @@ public abstract class MixinChunkProviderServer implements WorldStorage, ServerCh
     private boolean forceChunkRequests = false;
     private long chunkUnloadDelay = 15000;
     private int maxChunkUnloads = 100;
+    private int maxChunkUnloadTime = 10;
+    private final UnloadCandidateSelector<Chunk> unloadCandidateSelector = new UnloadCandidateSelector<>();
+    @Nullable private AsyncChunkLoadQueue asyncChunkLoads;
 
     @Shadow @Final public WorldServer world;
     @Shadow @Final private IChunkLoader chunkLoader;
@@ -103,6 +121,12 @@ private void onConstruct(WorldServer worldObjIn, IChunkLoader chunkLoaderIn, ICh
         this.denyChunkRequests = worldCategory.getDenyChunkRequests();
         this.chunkUnloadDelay = worldCategory.getChunkUnloadDelay() * 1000;
         this.maxChunkUnloads = worldCategory.getMaxChunkUnloads();
+        this.maxChunkUnloadTime = worldCategory.getMaxChunkUnloadTime();
+        // Forge already reads the chunks requested by players on its ChunkIOExecutor
+        if (SpongeImplHooks.isVanilla() && this.chunkLoader instanceof IMixinAnvilChunkLoader
+            && SpongeImpl.getGlobalConfigAdapter().getConfig().getOptimizations().getAsyncChunkLoadingCategory().isEnabled()) {
+            this.asyncChunkLoads = new AsyncChunkLoadQueue((IMixinAnvilChunkLoader) this.chunkLoader);
+        }
     }
 
     @Override
@@ -169,6 +193,61 @@ private Chunk loadChunkForce(int x, int z) {
         return chunk;
     }
 
+    @Override
+    public boolean isAsyncChunkLoadingEnabled() {
+        return this.asyncChunkLoads != null;
+    }
+
+    @Override
+    public void loadChunkAsync(int x, int z, int priority, Consumer<Chunk> callback) {
+        checkState(this.asyncChunkLoads != null, "Asynchronous chunk loading is disabled");
+        this.asyncChunkLoads.request(x, z, priority, callback);
+    }
+
+    @Override
+    public void cancelAsyncChunkLoad(int x, int z, Consumer<Chunk> callback) {
+        if (this.asyncChunkLoads != null) {
+            this.asyncChunkLoads.cancel(x, z, callback);
+        }
+    }
+
+    @Override
+    public int getPendingAsyncChunkLoads() {
+        return this.asyncChunkLoads == null ? 0 : this.asyncChunkLoads.getPendingCount();
+    }
+
+    @Inject(method = "loadChunkFromFile", at = @At("RETURN"))
+    private void impl$completeAsyncChunkLoad(int x, int z, CallbackInfoReturnable<Chunk> cir) {
+        // A pending asynchronous load is outdated once the chunk was loaded synchronously
+        if (this.asyncChunkLoads != null) {
+            this.asyncChunkLoads.complete(x, z, cir.getReturnValue());
+        }
+    }
+
+    // Does the main thread part of loadChunkFromFile and loadChunk for asynchronously read chunks
+    @Nullable
+    private Chunk impl$finishAsyncChunkLoad(int x, int z, @Nullable NBTTagCompound compound) {
+        final Chunk loaded = this.loadedChunks.get(ChunkPos.asLong(x, z));
+        if (loaded != null || compound == null) {
+            return loaded;
+        }
+        final Chunk chunk;
+        try {
+            chunk = ((IMixinAnvilChunkLoader) this.chunkLoader).readChunkFromCompound(this.world, x, z, compound);
+        } catch (Exception e) {
+            SpongeImpl.getLogger().error("Couldn't load chunk {}, {}", x, z, e);
+            return null;
+        }
+        if (chunk != null) {
+            chunk.setLastSaveTime(this.world.getTotalWorldTime());
+            this.chunkGenerator.recreateStructures(chunk, x, z);
+            this.loadedChunks.put(ChunkPos.asLong(x, z), chunk);
+            chunk.onLoad();
+            chunk.populate((ChunkProviderServer) (Object) this, this.chunkGenerator);
+        }
+        return chunk;
+    }
+
     @Redirect(method = "provideChunk", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/gen/ChunkProviderServer;loadChunk(II)Lnet/minecraft/world/chunk/Chunk;"))
     private Chunk impl$ProvideChunkForced(ChunkProviderServer chunkProviderServer, int x, int z) {
         if (!this.denyChunkRequests) {
@@ -229,6 +308,11 @@ public void setMaxChunkUnloads(int maxUnloads) {
         this.maxChunkUnloads = maxUnloads;
     }
 
+    @Override
+    public void setMaxChunkUnloadTime(int maxUnloadTime) {
+        this.maxChunkUnloadTime = maxUnloadTime;
+    }
+
     @Override
     public void setForceChunkRequests(boolean flag) {
         this.forceChunkRequests = flag;
@@ -255,29 +339,39 @@ public long getChunkUnloadDelay() {
     @Overwrite
     public boolean tick()
     {
+        // Sponge start - Add the chunks read asynchronously since the last tick
+        if (this.asyncChunkLoads != null) {
+            final WorldTimingsHandler timings = ((ServerWorldBridge) this.world).bridge$getTimingsHandler();
+            final long budget = TimeUnit.MILLISECONDS.toNanos(
+                SpongeImpl.getGlobalConfigAdapter().getConfig().getOptimizations().getAsyncChunkLoadingCategory().getMaxFinishTime());
+            timings.asyncChunkLoadFinishTimer.startTiming();
+            this.asyncChunkLoads.finishLoads(System.nanoTime() + budget, this::impl$finishAsyncChunkLoad, timings);
+            timings.asyncChunkLoadFinishTimer.stopTiming();
+        }
+        // Sponge end
         if (!this.world.disableLevelSaving && !((WorldBridge) this.world).isFake())
         {
             ((ServerWorldBridge) this.world).bridge$getTimingsHandler().doChunkUnload.startTiming();
-            Iterator<Chunk> iterator = this.loadedChunks.values().iterator();
+            // Sponge start - Unload the chunks inactive the longest and furthest away from players first,
+            // until either the maximum unloads or the time budget of this tick is reached
+            final List<Chunk> candidates = this.impl$getUnloadCandidates(System.currentTimeMillis());
+            final long deadline = this.maxChunkUnloadTime > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.maxChunkUnloadTime) : Long.MAX_VALUE;
             int chunksUnloaded = 0;
-            long now = System.currentTimeMillis();
-            while (chunksUnloaded < this.maxChunkUnloads && iterator.hasNext()) {
-                Chunk chunk = iterator.next();
-                ChunkBridge spongeChunk = (ChunkBridge) chunk;
-                if (chunk != null && chunk.unloadQueued && !spongeChunk.isPersistedChunk()) {
-                    if (this.getChunkUnloadDelay() > 0) {
-                        if ((now - spongeChunk.getScheduledForUnload()) < this.chunkUnloadDelay) {
-                            continue;
-                        }
-                        spongeChunk.setScheduledForUnload(-1);
-                    }
-                    chunk.onUnload();
-                    this.saveChunkData(chunk);
-                    this.saveChunkExtraData(chunk);
-                    iterator.remove();
-                    chunksUnloaded++;
+            for (Chunk chunk : candidates) {
+                if (chunksUnloaded >= this.maxChunkUnloads || (chunksUnloaded > 0 && System.nanoTime() >= deadline)) {
+                    break;
+                }
+                if (this.getChunkUnloadDelay() > 0) {
+                    ((ChunkBridge) chunk).setScheduledForUnload(-1);
                 }
+                chunk.onUnload();
+                // Only builds the chunk compound, compressing and writing it is done by the file IO thread
+                this.saveChunkData(chunk);
+                this.saveChunkExtraData(chunk);
+                this.loadedChunks.remove(ChunkPos.asLong(chunk.x, chunk.z));
+                chunksUnloaded++;
             }
+            // Sponge end
             ((ServerWorldBridge) this.world).bridge$getTimingsHandler().doChunkUnload.stopTiming();
         }
 
@@ -285,6 +379,46 @@ public boolean tick()
         return false;
     }
 
+    private List<Chunk> impl$getUnloadCandidates(long now) {
+        // Only the chunks unloaded this tick are selected, rather than sorting every queued chunk
+        final UnloadCandidateSelector<Chunk> selector = this.unloadCandidateSelector;
+        selector.reset(this.maxChunkUnloads);
+        long[] playerChunks = null;
+        for (Chunk chunk : this.loadedChunks.values()) {
+            final ChunkBridge spongeChunk = (ChunkBridge) chunk;
+            if (chunk == null || !chunk.unloadQueued || spongeChunk.isPersistedChunk()) {
+                continue;
+            }
+            final long scheduled = spongeChunk.getScheduledForUnload();
+            if ((this.getChunkUnloadDelay() > 0 && (now - scheduled) < this.chunkUnloadDelay) || !selector.accepts(scheduled)) {
+                continue;
+            }
+            if (playerChunks == null) {
+                playerChunks = this.impl$getPlayerChunkPositions();
+            }
+            long nearest = Long.MAX_VALUE;
+            for (long playerChunk : playerChunks) {
+                // Unpacks ChunkPos.asLong
+                final long dx = (long) (int) playerChunk - chunk.x;
+                final long dz = (long) (int) (playerChunk >> 32) - chunk.z;
+                nearest = Math.min(nearest, dx * dx + dz * dz);
+            }
+            selector.offer(chunk, scheduled, nearest);
+        }
+        final List<Chunk> candidates = new ArrayList<>(selector.size());
+        selector.drain(candidates::add);
+        return candidates;
+    }
+
+    // The chunks players are in, players sharing a chunk only count once
+    private long[] impl$getPlayerChunkPositions() {
+        final LongOpenHashSet positions = new LongOpenHashSet();
+        for (EntityPlayer player : this.world.playerEntities) {
+            positions.add(ChunkPos.asLong(MathHelper.floor(player.posX) >> 4, MathHelper.floor(player.posZ) >> 4));
+        }
+        return positions.toLongArray();
+    }
+
     // Copy of getLoadedChunk without marking chunk active.
     // This allows the chunk to unload if currently queued.
     @Override
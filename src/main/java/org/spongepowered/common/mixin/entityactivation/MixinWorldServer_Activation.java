@@ -28,13 +28,22 @@
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.common.mixin.core.world.MixinWorld;
 import org.spongepowered.common.mixin.plugin.entityactivation.EntityActivationRange;
+import org.spongepowered.common.mixin.plugin.entityactivation.EntityActivationThrottle;
+import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.ActivationThrottleCapability;
 
 @Mixin(value = WorldServer.class, priority = 1005)
-public abstract class MixinWorldServer_Activation extends MixinWorld {
+public abstract class MixinWorldServer_Activation extends MixinWorld implements ActivationThrottleCapability {
+
+    private final EntityActivationThrottle activationThrottle = new EntityActivationThrottle();
 
     @Override
     public void entityActivationCheck() {
         EntityActivationRange.activateEntities(((net.minecraft.world.World) (Object) this));
     }
 
+    @Override
+    public EntityActivationThrottle activation$getThrottle() {
+        return this.activationThrottle;
+    }
+
 }
@@ -45,27 +45,25 @@
 import org.spongepowered.common.bridge.world.WorldBridge;
 import org.spongepowered.common.bridge.world.ServerWorldBridge;
 import org.spongepowered.common.bridge.world.ServerChunkProviderBridge;
+import org.spongepowered.common.world.lighting.LightingQueue;
+import org.spongepowered.common.world.lighting.QueuedLightUpdates;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 
 @Mixin(value = Chunk.class, priority = 1002)
 public abstract class MixinChunk_Async_Lighting implements ChunkBridge {
 
     // Keeps track of block positions in this chunk currently queued for sky light update
-    private Set<Short> queuedSkyLightingUpdates = ConcurrentHashMap.newKeySet();
+    private final QueuedLightUpdates queuedSkyLightingUpdates = new QueuedLightUpdates();
     // Keeps track of block positions in this chunk currently queued for block light update
-    private Set<Short> queuedBlockLightingUpdates = ConcurrentHashMap.newKeySet();
+    private final QueuedLightUpdates queuedBlockLightingUpdates = new QueuedLightUpdates();
     private AtomicInteger pendingLightUpdates = new AtomicInteger();
     private long lightUpdateTime;
-    private ExecutorService lightExecutorService;
+    private LightingQueue lightingQueue;
     private static final List<Chunk> EMPTY_LIST = Collections.emptyList();
     private static final BlockPos DUMMY_POS = new BlockPos(0, 0, 0);
     private boolean isServerChunk;
@@ -101,7 +99,7 @@ public abstract class MixinChunk_Async_Lighting implements ChunkBridge {
     public void onConstruct(World worldIn, int x, int z, CallbackInfo ci) {
         this.isServerChunk = !((WorldBridge) worldIn).isFake();
         if (this.isServerChunk) {
-            this.lightExecutorService = ((ServerWorldBridge) worldIn).bridge$getLightingExecutor();
+            this.lightingQueue = ((ServerWorldBridge) worldIn).bridge$getLightingQueue();
         }
     }
 
@@ -127,7 +125,7 @@ private void onTickHead(boolean skipRecheckGaps, CallbackInfo ci)
             final List<Chunk> neighbors = this.getSurroundingChunks();
             if (this.isGapLightingUpdated && this.world.provider.hasSkyLight() && !skipRecheckGaps && !neighbors.isEmpty())
             {
-                this.lightExecutorService.execute(() -> {
+                this.lightingQueue.submit(() -> {
                     this.recheckGapsAsync(neighbors);
                 });
                 this.isGapLightingUpdated = false;
@@ -137,7 +135,7 @@ private void onTickHead(boolean skipRecheckGaps, CallbackInfo ci)
 
             if (!this.isLightPopulated && this.isTerrainPopulated && !neighbors.isEmpty())
             {
-                this.lightExecutorService.execute(() -> {
+                this.lightingQueue.submit(() -> {
                     this.checkLightAsync(neighbors);
                 });
                 // set to true to avoid requeuing the same task when not finished
@@ -260,7 +258,7 @@ private boolean onCheckLightWorld(World world, BlockPos pos) {
     @Inject(method = "checkLight", at = @At("HEAD"), cancellable = true)
     private void checkLightHead(CallbackInfo ci) {
         if (this.isServerChunk) {
-            if (this.world.getMinecraftServer().isServerStopped() || this.lightExecutorService.isShutdown()) {
+            if (this.world.getMinecraftServer().isServerStopped() || this.lightingQueue.isShutdown()) {
                 return;
             }
 
@@ -274,17 +272,11 @@ private void checkLightHead(CallbackInfo ci) {
             }
 
             if (SpongeImpl.getServer().isCallingFromMinecraftThread()) {
-                try {
-                    this.lightExecutorService.execute(() -> {
-                        this.checkLightAsync(neighborChunks);
-                    });
-                } catch (RejectedExecutionException e) {
-                    // This could happen if ServerHangWatchdog kills the server
-                    // between the start of the method and the execute() call.
-                    if (!this.world.getMinecraftServer().isServerStopped() && !this.lightExecutorService.isShutdown()) {
-                        throw e;
-                    }
-                }
+                // Only dropped if the ServerHangWatchdog kills the server between the
+                // start of the method and the submission, shutting the queue down.
+                this.lightingQueue.submit(() -> {
+                    this.checkLightAsync(neighborChunks);
+                });
             } else {
                 this.checkLightAsync(neighborChunks);
             }
@@ -501,7 +493,7 @@ private List<Chunk> getSurroundingChunks() {
     @Inject(method = "relightBlock", at = @At("HEAD"), cancellable = true)
     private void onRelightBlock(int x, int y, int z, CallbackInfo ci) {
         if (this.isServerChunk) {
-            this.lightExecutorService.execute(() -> {
+            this.lightingQueue.submit(() -> {
                 this.relightBlockAsync(x, y, z);
             });
             ci.cancel();
@@ -701,13 +693,13 @@ private boolean checkWorldLight(BlockPos pos, List<Chunk> neighbors) {
     }
 
     /**
-     * Gets the list of block positions currently queued for lighting updates.
+     * Gets the block positions currently queued for lighting updates.
      *
      * @param type The light type
-     * @return The list of queued block positions, empty if none
+     * @return The queued block positions
      */
     @Override
-    public Set<Short> getQueuedLightingUpdates(EnumSkyBlock type) {
+    public QueuedLightUpdates getQueuedLightingUpdates(EnumSkyBlock type) {
         if (type == EnumSkyBlock.SKY) {
             return this.queuedSkyLightingUpdates;
         }
@@ -24,7 +24,6 @@
  */
 package org.spongepowered.common.mixin.optimization.world;
 
-import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
@@ -33,6 +32,9 @@
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
@@ -40,10 +42,11 @@
 import org.spongepowered.common.bridge.world.ServerWorldBridge;
 import org.spongepowered.common.bridge.world.ServerChunkProviderBridge;
 import org.spongepowered.common.mixin.core.world.MixinWorld;
+import org.spongepowered.common.world.lighting.LightingQueue;
+import org.spongepowered.common.world.lighting.QueuedLightUpdates;
 
 import java.util.List;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 import javax.annotation.Nullable;
 
@@ -55,8 +58,14 @@ public abstract class MixinWorldServer_Async_Lighting extends MixinWorld impleme
     private static final short XZ_MASK = 0xF;
     private static final short Y_SHORT_MASK = 0xFF;
 
-    private ExecutorService lightExecutorService = 
-                Executors.newFixedThreadPool(SpongeImpl.getGlobalConfigAdapter().getConfig().getOptimizations().getAsyncLightingCategory().getNumThreads(), new ThreadFactoryBuilder().setNameFormat("Sponge - Async Light Thread").build());
+    private static final ThreadLocal<int[]> LIGHT_UPDATE_BLOCK_LIST = ThreadLocal.withInitial(() -> new int[32768]);
+
+    private final LightingQueue lightingQueue = new LightingQueue(SpongeImpl.getGlobalConfigAdapter().getConfig().getOptimizations().getAsyncLightingCategory());
+
+    @Inject(method = "tick", at = @At("HEAD"))
+    private void asyncLighting$flushDeferredLightBatches(CallbackInfo ci) {
+        this.lightingQueue.flushDeferred();
+    }
 
     @Override
     public boolean checkLightFor(EnumSkyBlock lightType, BlockPos pos) {
@@ -65,11 +74,20 @@ public boolean checkLightFor(EnumSkyBlock lightType, BlockPos pos) {
 
     @Override
     public boolean bridge$checkLightAsync(EnumSkyBlock lightType, BlockPos pos, net.minecraft.world.chunk.Chunk currentChunk, List<Chunk> neighbors) {
+        final boolean result = this.impl$relightAsync(lightType, pos, currentChunk, neighbors);
+        // Sponge start - Asynchronous light updates
+        ((ChunkBridge) currentChunk).getQueuedLightingUpdates(lightType).remove(this.blockPosToShort(pos));
+        // Sponge end
+        return result;
+    }
+
+    private boolean impl$relightAsync(EnumSkyBlock lightType, BlockPos pos, net.minecraft.world.chunk.Chunk currentChunk, List<Chunk> neighbors) {
         // Sponge - This check is not needed as neighbors are checked in bridge$updateLightAsync
         if (false && !this.isAreaLoaded(pos, 17, false)) {
             return false;
         } else {
-            final ChunkBridge spongeChunk = (ChunkBridge) currentChunk;
+            // Sponge - use a buffer per light thread, the world's lightUpdateBlockList is shared by all of them
+            final int[] lightUpdateBlockList = LIGHT_UPDATE_BLOCK_LIST.get();
             int i = 0;
             int j = 0;
             //this.theProfiler.startSection("getBrightness"); // Sponge - don't use profiler off of main thread
@@ -80,12 +98,12 @@ public boolean checkLightFor(EnumSkyBlock lightType, BlockPos pos) {
             int k1 = pos.getZ();
 
             if (l > k) {
-                this.lightUpdateBlockList[j++] = 133152;
+                lightUpdateBlockList[j++] = 133152;
             } else if (l < k) {
-                this.lightUpdateBlockList[j++] = 133152 | k << 18;
+                lightUpdateBlockList[j++] = 133152 | k << 18;
 
                 while (i < j) {
-                    int l1 = this.lightUpdateBlockList[i++];
+                    int l1 = lightUpdateBlockList[i++];
                     int i2 = (l1 & 63) - 32 + i1;
                     int j2 = (l1 >> 6 & 63) - 32 + j1;
                     int k2 = (l1 >> 12 & 63) - 32 + k1;
@@ -118,8 +136,8 @@ public boolean checkLightFor(EnumSkyBlock lightType, BlockPos pos) {
                                     i3 = this.getLightForAsync(lightType, blockpos$pooledmutableblockpos, currentChunk, neighbors);
                                     // Sponge end
 
-                                    if (i3 == l2 - l4 && j < this.lightUpdateBlockList.length) {
-                                        this.lightUpdateBlockList[j++] = i4 - i1 + 32 | j4 - j1 + 32 << 6 | k4 - k1 + 32 << 12 | l2 - l4 << 18;
+                                    if (i3 == l2 - l4 && j < lightUpdateBlockList.length) {
+                                        lightUpdateBlockList[j++] = i4 - i1 + 32 | j4 - j1 + 32 << 6 | k4 - k1 + 32 << 12 | l2 - l4 << 18;
                                     }
                                 }
 
@@ -136,7 +154,7 @@ public boolean checkLightFor(EnumSkyBlock lightType, BlockPos pos) {
             //this.theProfiler.startSection("checkedPosition < toCheckCount"); // Sponge - don't use profiler off of main thread
 
             while (i < j) {
-                int i5 = this.lightUpdateBlockList[i++];
+                int i5 = lightUpdateBlockList[i++];
                 int j5 = (i5 & 63) - 32 + i1;
                 int k5 = (i5 >> 6 & 63) - 32 + j1;
                 int l5 = (i5 >> 12 & 63) - 32 + k1;
@@ -151,32 +169,32 @@ public boolean checkLightFor(EnumSkyBlock lightType, BlockPos pos) {
                         int k6 = Math.abs(j5 - i1);
                         int l6 = Math.abs(k5 - j1);
                         int i7 = Math.abs(l5 - k1);
-                        boolean flag = j < this.lightUpdateBlockList.length - 6;
+                        boolean flag = j < lightUpdateBlockList.length - 6;
 
                         if (k6 + l6 + i7 < 17 && flag) {
                             // Sponge start - use thread safe method getLightForAsync
                             if (this.getLightForAsync(lightType, blockpos1.west(), currentChunk, neighbors) < j6) {
-                                this.lightUpdateBlockList[j++] = j5 - 1 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
+                                lightUpdateBlockList[j++] = j5 - 1 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
                             }
 
                             if (this.getLightForAsync(lightType, blockpos1.east(), currentChunk, neighbors) < j6) {
-                                this.lightUpdateBlockList[j++] = j5 + 1 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
+                                lightUpdateBlockList[j++] = j5 + 1 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
                             }
 
                             if (this.getLightForAsync(lightType, blockpos1.down(), currentChunk, neighbors) < j6) {
-                                this.lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 - 1 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
+                                lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 - 1 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
                             }
 
                             if (this.getLightForAsync(lightType, blockpos1.up(), currentChunk, neighbors) < j6) {
-                                this.lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 + 1 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
+                                lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 + 1 - j1 + 32 << 6) + (l5 - k1 + 32 << 12);
                             }
 
                             if (this.getLightForAsync(lightType, blockpos1.north(), currentChunk, neighbors) < j6) {
-                                this.lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 - 1 - k1 + 32 << 12);
+                                lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 - 1 - k1 + 32 << 12);
                             }
 
                             if (this.getLightForAsync(lightType, blockpos1.south(), currentChunk, neighbors) < j6) {
-                                this.lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 + 1 - k1 + 32 << 12);
+                                lightUpdateBlockList[j++] = j5 - i1 + 32 + (k5 - j1 + 32 << 6) + (l5 + 1 - k1 + 32 << 12);
                             }
                             // Sponge end
                         }
@@ -184,15 +202,6 @@ public boolean checkLightFor(EnumSkyBlock lightType, BlockPos pos) {
                 }
             }
 
-            // Sponge start - Asynchronous light updates
-            spongeChunk.getQueuedLightingUpdates(lightType).remove((Short) this.blockPosToShort(pos));
-            spongeChunk.getPendingLightUpdates().decrementAndGet();
-            for (net.minecraft.world.chunk.Chunk neighborChunk : neighbors) {
-                final ChunkBridge neighbor = (ChunkBridge) neighborChunk;
-                neighbor.getPendingLightUpdates().decrementAndGet();
-            }
-
-            // Sponge end
             //this.theProfiler.endSection(); // Sponge - don't use profiler off of main thread
             return true;
         }
@@ -200,7 +209,7 @@ public boolean checkLightFor(EnumSkyBlock lightType, BlockPos pos) {
 
     @Override
     public boolean bridge$updateLightAsync(EnumSkyBlock lightType, BlockPos pos, @Nullable Chunk currentChunk) {
-        if (this.getMinecraftServer().isServerStopped() || this.lightExecutorService.isShutdown()) {
+        if (this.getMinecraftServer().isServerStopped() || this.lightingQueue.isShutdown()) {
             return false;
         }
 
@@ -214,15 +223,92 @@ public boolean checkLightFor(EnumSkyBlock lightType, BlockPos pos) {
         }
 
         final short shortPos = this.blockPosToShort(pos);
-        if (spongeChunk.getQueuedLightingUpdates(lightType).contains(shortPos)) {
+        final QueuedLightUpdates queue = spongeChunk.getQueuedLightingUpdates(lightType);
+        final Chunk chunk = currentChunk;
+        if (!SpongeImpl.getServer().isCallingFromMinecraftThread()) {
+            // Already off the main thread, relight right away instead of batching
+            if (!queue.add(shortPos)) {
+                return false;
+            }
+            final List<Chunk> neighbors = this.impl$getLightNeighbors(spongeChunk);
+            this.impl$markPendingLightUpdate(chunk, neighbors);
+            try {
+                this.bridge$checkLightAsync(lightType, pos, chunk, neighbors);
+            } finally {
+                this.impl$clearPendingLightUpdate(chunk, neighbors);
+            }
+            return true;
+        }
+
+        if (!queue.enqueue(shortPos)) {
+            this.lightingQueue.recordMergedUpdate();
+            return false;
+        }
+        this.lightingQueue.recordQueuedUpdate();
+        spongeChunk.setLightUpdateTime(chunk.getWorld().getTotalWorldTime());
+        if (!queue.schedule()) {
+            // A batch for this chunk is already waiting, it will pick up the position
+            this.lightingQueue.recordMergedUpdate();
+            return true;
+        }
+
+        final List<Chunk> neighbors = this.impl$getLightNeighbors(spongeChunk);
+        this.impl$markPendingLightUpdate(chunk, neighbors);
+
+        if (!this.lightingQueue.submit(() -> this.impl$relightQueuedPositions(lightType, chunk, queue, neighbors))) {
+            this.lightingQueue.recordDroppedUpdates(queue.clear());
+            this.impl$clearPendingLightUpdate(chunk, neighbors);
             return false;
         }
+        return true;
+    }
 
-        final Chunk chunk = currentChunk;
-        spongeChunk.getQueuedLightingUpdates(lightType).add(shortPos);
+    /**
+     * Relights every position queued in the chunk for the light type, sharing
+     * one snapshot of the neighbor chunks between all of them. Positions queued
+     * while the batch runs are drained by the same task.
+     */
+    private void impl$relightQueuedPositions(EnumSkyBlock lightType, Chunk chunk, QueuedLightUpdates queue, List<Chunk> neighbors) {
+        try {
+            short[] positions;
+            while ((positions = queue.drain()).length > 0) {
+                for (short shortPos : positions) {
+                    final BlockPos pos = this.shortToBlockPos(chunk, shortPos);
+                    try {
+                        this.impl$relightAsync(lightType, pos, chunk, neighbors);
+                    } finally {
+                        queue.remove(shortPos);
+                    }
+                }
+                this.lightingQueue.recordRelitUpdates(positions.length);
+            }
+        } finally {
+            this.impl$clearPendingLightUpdate(chunk, neighbors);
+        }
+    }
+
+    // Keeps the chunk and its neighbors from unloading while a light update touches them
+    private void impl$markPendingLightUpdate(Chunk chunk, List<Chunk> neighbors) {
+        final long time = chunk.getWorld().getTotalWorldTime();
+        final ChunkBridge spongeChunk = (ChunkBridge) chunk;
         spongeChunk.getPendingLightUpdates().incrementAndGet();
-        spongeChunk.setLightUpdateTime(chunk.getWorld().getTotalWorldTime());
+        spongeChunk.setLightUpdateTime(time);
+        for (net.minecraft.world.chunk.Chunk neighborChunk : neighbors) {
+            final ChunkBridge neighbor = (ChunkBridge) neighborChunk;
+            neighbor.getPendingLightUpdates().incrementAndGet();
+            neighbor.setLightUpdateTime(time);
+        }
+    }
 
+    private void impl$clearPendingLightUpdate(Chunk chunk, List<Chunk> neighbors) {
+        ((ChunkBridge) chunk).getPendingLightUpdates().decrementAndGet();
+        for (net.minecraft.world.chunk.Chunk neighborChunk : neighbors) {
+            final ChunkBridge neighbor = (ChunkBridge) neighborChunk;
+            neighbor.getPendingLightUpdates().decrementAndGet();
+        }
+    }
+
+    private List<Chunk> impl$getLightNeighbors(ChunkBridge spongeChunk) {
         List<Chunk> neighbors = spongeChunk.getNeighbors();
 
         // add diagonal chunks
@@ -248,28 +334,17 @@ public boolean checkLightFor(EnumSkyBlock lightType, BlockPos pos) {
                 neighbors.add(northWestChunk);
             }
         }
-
-        for (net.minecraft.world.chunk.Chunk neighborChunk : neighbors) {
-            final ChunkBridge neighbor = (ChunkBridge) neighborChunk;
-            neighbor.getPendingLightUpdates().incrementAndGet();
-            neighbor.setLightUpdateTime(chunk.getWorld().getTotalWorldTime());
-        }
-
-        //System.out.println("size = " + ((ThreadPoolExecutor) this.lightExecutorService).getQueue().size());
-        if (SpongeImpl.getServer().isCallingFromMinecraftThread()) {
-            this.lightExecutorService.execute(() -> {
-                this.bridge$checkLightAsync(lightType, pos, chunk, neighbors);
-            });
-        } else {
-            this.bridge$checkLightAsync(lightType, pos, chunk, neighbors);
-        }
-
-        return true;
+        return neighbors;
     }
 
     @Override
     public ExecutorService bridge$getLightingExecutor() {
-        return this.lightExecutorService;
+        return this.lightingQueue.getExecutor();
+    }
+
+    @Override
+    public LightingQueue bridge$getLightingQueue() {
+        return this.lightingQueue;
     }
 
     // Thread safe methods to retrieve a chunk during async light updates
@@ -376,6 +451,13 @@ private short blockPosToShort(BlockPos pos) {
         return serialized;
     }
 
+    private BlockPos shortToBlockPos(Chunk chunk, short serialized) {
+        final int x = (chunk.x << 4) | (serialized & XZ_MASK);
+        final int y = (serialized >> NUM_XZ_BITS) & Y_SHORT_MASK;
+        final int z = (chunk.z << 4) | ((serialized >> (NUM_XZ_BITS + NUM_SHORT_Y_BITS)) & XZ_MASK);
+        return new BlockPos(x, y, z);
+    }
+
     /**
      * Modifies bits in an integer.
      *
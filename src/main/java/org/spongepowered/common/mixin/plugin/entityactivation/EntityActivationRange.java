@@ -51,7 +51,6 @@
 import net.minecraft.entity.projectile.EntityFireball;
 import net.minecraft.entity.projectile.EntityThrowable;
 import net.minecraft.util.math.AxisAlignedBB;
-import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
@@ -74,12 +73,13 @@
 import org.spongepowered.common.bridge.world.WorldInfoBridge;
 import org.spongepowered.common.bridge.world.ServerChunkProviderBridge;
 import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.ActivationCapability;
+import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.ActivationThrottleCapability;
 
 import java.util.Map;
 
 public class EntityActivationRange {
 
-    private static final ImmutableMap<Byte, String> activationTypeMappings = new ImmutableMap.Builder<Byte, String>()
+    static final ImmutableMap<Byte, String> activationTypeMappings = new ImmutableMap.Builder<Byte, String>()
             .put((byte) 1, "monster")
             .put((byte) 2, "creature")
             .put((byte) 3, "aquatic")
@@ -87,13 +87,7 @@ public class EntityActivationRange {
             .put((byte) 5, "misc")
             .build();
 
-    static AxisAlignedBB maxBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB miscBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB creatureBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB monsterBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB aquaticBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB ambientBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
-    static AxisAlignedBB tileEntityBB = new AxisAlignedBB(0, 0, 0, 0, 0, 0);
+    static final PlayerProximityGrid proximityGrid = new PlayerProximityGrid();
     static Map<Byte, Integer> maxActivationRanges = Maps.newHashMap();
 
     /**
@@ -222,49 +216,49 @@ public static void activateEntities(World world) {
             return;
         }
 
-        for (EntityPlayer player : world.playerEntities) {
-
-            int maxRange = 0;
-            for (Integer range : maxActivationRanges.values()) {
-                if (range > maxRange) {
-                    maxRange = range;
-                }
+        int maxRange = 0;
+        for (Integer range : maxActivationRanges.values()) {
+            if (range > maxRange) {
+                maxRange = range;
             }
+        }
+        maxRange = Math.min((((org.spongepowered.api.world.World) world).getViewDistance() << 4) - 8, maxRange);
 
-            maxRange = Math.min((((org.spongepowered.api.world.World) world).getViewDistance() << 4) - 8, maxRange);
-            ((ActivationCapability) player).activation$setActivatedTick(SpongeImpl.getServer().getTickCounter());
-            growBb(maxBB, player.getEntityBoundingBox(), maxRange, 256, maxRange);
-
-            int i = MathHelper.floor(maxBB.minX / 16.0D);
-            int j = MathHelper.floor(maxBB.maxX / 16.0D);
-            int k = MathHelper.floor(maxBB.minZ / 16.0D);
-            int l = MathHelper.floor(maxBB.maxZ / 16.0D);
-
-            for (int i1 = i; i1 <= j; ++i1) {
-                for (int j1 = k; j1 <= l; ++j1) {
-                    WorldServer worldserver = (WorldServer) world;
-                    Chunk chunk = ((ServerChunkProviderBridge) worldserver.getChunkProvider()).getLoadedChunkWithoutMarkingActive(i1, j1);
-                    if (chunk != null) {
-                        activateChunkEntities(player, chunk);
-                    }
-                }
+        final long currentTick = SpongeImpl.getServer().getTickCounter();
+        final EntityActivationThrottle throttle = ((ActivationThrottleCapability) world).activation$getThrottle();
+        throttle.update((WorldServer) world, currentTick);
+        proximityGrid.clear();
+        for (EntityPlayer player : world.playerEntities) {
+            ((ActivationCapability) player).activation$setActivatedTick(currentTick);
+            final AxisAlignedBB bb = player.getEntityBoundingBox();
+            proximityGrid.addPlayer(bb.minX, bb.minZ, bb.maxX, bb.maxZ, maxRange);
+        }
+
+        final ServerChunkProviderBridge chunkProvider = (ServerChunkProviderBridge) ((WorldServer) world).getChunkProvider();
+        for (PlayerProximityGrid.Cell cell : proximityGrid.getCells()) {
+            final Chunk chunk = chunkProvider.getLoadedChunkWithoutMarkingActive(cell.chunkX, cell.chunkZ);
+            if (chunk != null) {
+                activateChunkEntities(cell, chunk, currentTick, throttle);
             }
         }
+        proximityGrid.clear();
     }
 
     /**
      * Checks for the activation state of all entities in this chunk.
      *
+     * @param cell The players near the chunk
      * @param chunk Chunk to check for activation
+     * @param currentTick The current server tick
+     * @param throttle The activation throttle of the world
      */
-    private static void activateChunkEntities(EntityPlayer player, Chunk chunk) {
+    private static void activateChunkEntities(PlayerProximityGrid.Cell cell, Chunk chunk, long currentTick, EntityActivationThrottle throttle) {
         for (int i = 0; i < chunk.getEntityLists().length; ++i) {
 
             for (Object o : chunk.getEntityLists()[i]) {
                 Entity entity = (Entity) o;
                 EntityType type = ((org.spongepowered.api.entity.Entity) entity).getType();
                 final ActivationCapability spongeEntity = (ActivationCapability) entity;
-                long currentTick = SpongeImpl.getServer().getTickCounter();
                 if (!((EntityBridge) entity).shouldTick()) {
                     continue;
                 }
@@ -284,48 +278,11 @@ private static void activateChunkEntities(EntityPlayer player, Chunk chunk) {
                         EntityActivationRange.initializeEntityActivationState(entity);
                         spongeEntity.activation$requiresActivationCacheRefresh(false);
                     }
-                    // check for entity type overrides
-                    byte activationType = spongeEntity.activation$getActivationType();
-                    int bbActivationRange = spongeEntity.activation$getActivationRange();
-
-                    if (activationType == 5) {
-                        growBb(miscBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else if (activationType == 4) {
-                        growBb(ambientBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else if (activationType == 3) {
-                        growBb(aquaticBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else if (activationType == 2) {
-                        growBb(creatureBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    } else {
-                        growBb(monsterBB, player.getEntityBoundingBox(), bbActivationRange, 256, bbActivationRange);
-                    }
 
-                    switch (spongeEntity.activation$getActivationType()) {
-                        case 1:
-                            if (monsterBB.intersects(entity.getEntityBoundingBox())) {
-                                spongeEntity.activation$setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 2:
-                            if (creatureBB.intersects(entity.getEntityBoundingBox())) {
-                                spongeEntity.activation$setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 3:
-                            if (aquaticBB.intersects(entity.getEntityBoundingBox())) {
-                                spongeEntity.activation$setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 4:
-                            if (ambientBB.intersects(entity.getEntityBoundingBox())) {
-                                spongeEntity.activation$setActivatedTick(currentTick);
-                            }
-                            break;
-                        case 5:
-                        default:
-                            if (miscBB.intersects(entity.getEntityBoundingBox())) {
-                                spongeEntity.activation$setActivatedTick(currentTick);
-                            }
+                    final AxisAlignedBB bb = entity.getEntityBoundingBox();
+                    final int range = throttle.getActivationRange(spongeEntity.activation$getActivationType(), spongeEntity.activation$getActivationRange());
+                    if (cell.isInRange(bb.minX, bb.minZ, bb.maxX, bb.maxZ, range)) {
+                        spongeEntity.activation$setActivatedTick(currentTick);
                     }
                 }
             }
@@ -411,8 +368,11 @@ public static boolean checkIfActive(Entity entity) {
 
         // Should this entity tick?
         if (!isActive) {
-            if ((currentTick - spongeEntity.activation$getActivatedTick() - 1) % 20 == 0) {
-                // Check immunities every 20 ticks.
+            final int inactiveTickInterval = entity.world instanceof ActivationThrottleCapability
+                ? ((ActivationThrottleCapability) entity.world).activation$getThrottle().getInactiveTickInterval(spongeEntity.activation$getActivationType())
+                : EntityActivationThrottle.DEFAULT_INACTIVE_TICK_INTERVAL;
+            if ((currentTick - spongeEntity.activation$getActivatedTick() - 1) % inactiveTickInterval == 0) {
+                // Check immunities every inactive tick interval, 20 ticks unless throttled.
                 if (checkEntityImmunities(entity)) {
                     // Triggered some sort of immunity, give 20 full ticks before we check again.
                     spongeEntity.activation$setActivatedTick(currentTick + 20);
@@ -0,0 +1,208 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.plugin.entityactivation;
+
+import net.minecraft.world.WorldServer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.bridge.world.ServerWorldBridge;
+import org.spongepowered.common.bridge.world.WorldInfoBridge;
+import org.spongepowered.common.config.category.EntityActivationThrottleCategory;
+import org.spongepowered.common.interfaces.IMixinMinecraftServer;
+
+import java.util.Map;
+
+/**
+ * Throttles the entities of a world while it is overloaded.
+ *
+ * <p>Every few ticks the mean tick time of the world is compared against the
+ * configured target. While it is above, the throttle level is raised by one
+ * step, shrinking the activation ranges and stretching the interval between
+ * ticks of inactive entities for the configured activation categories. Once
+ * the tick time drops below the restore threshold the level is lowered again
+ * one step at a time.</p>
+ */
+public final class EntityActivationThrottle {
+
+    static final int DEFAULT_INACTIVE_TICK_INTERVAL = 20;
+
+    private final boolean[] throttledTypes = new boolean[6];
+    private long nextCheck;
+    private boolean enabled;
+    private int level;
+    private int steps = 1;
+    private double minRangeScale = 1;
+    private int maxInactiveTickInterval = DEFAULT_INACTIVE_TICK_INTERVAL;
+    private double rangeScale = 1;
+    private int inactiveTickInterval = DEFAULT_INACTIVE_TICK_INTERVAL;
+    private double lastMeanTickTime;
+
+    /**
+     * Adjusts the throttle level if the check interval has passed.
+     *
+     * @param world The world
+     * @param currentTick The current server tick
+     */
+    void update(WorldServer world, long currentTick) {
+        if (currentTick < this.nextCheck) {
+            return;
+        }
+        final EntityActivationThrottleCategory config = ((WorldInfoBridge) world.getWorldInfo()).getConfigAdapter().getConfig()
+            .getEntityActivationRange().getThrottling();
+        this.nextCheck = currentTick + Math.max(1, config.getCheckInterval());
+        this.enabled = config.isEnabled();
+        if (!this.enabled) {
+            this.setLevel(world, 0);
+            return;
+        }
+
+        for (Map.Entry<Byte, String> entry : EntityActivationRange.activationTypeMappings.entrySet()) {
+            this.throttledTypes[entry.getKey()] = config.getCategories().contains(entry.getValue());
+        }
+        this.steps = Math.max(1, config.getSteps());
+        this.minRangeScale = config.getMinRangeScale();
+        this.maxInactiveTickInterval = config.getMaxInactiveTickInterval();
+
+        final long[] tickTimes = ((IMixinMinecraftServer) SpongeImpl.getServer()).getWorldTickTimes(((ServerWorldBridge) world).bridge$getDimensionId());
+        if (tickTimes == null || tickTimes.length == 0) {
+            return;
+        }
+        long total = 0;
+        for (long tickTime : tickTimes) {
+            total += tickTime;
+        }
+        this.lastMeanTickTime = total / (double) tickTimes.length * 1.0e-6d;
+        // Also applied while the level is kept, to pick up changes of the configuration
+        this.setLevel(world, nextLevel(this.level, this.steps, this.lastMeanTickTime, config.getTargetMspt(), config.getRestoreMspt()));
+    }
+
+    /**
+     * Gets the throttle level for the next check interval.
+     *
+     * @param level The current level
+     * @param steps The configured amount of steps
+     * @param meanTickTime The mean tick time of the world, in milliseconds
+     * @param targetMspt The tick time above which the level is raised
+     * @param restoreMspt The tick time below which the level is lowered
+     * @return The new level, between 0 and the amount of steps
+     */
+    static int nextLevel(int level, int steps, double meanTickTime, double targetMspt, double restoreMspt) {
+        final int maxLevel = Math.max(1, steps);
+        if (meanTickTime > targetMspt) {
+            level++;
+        } else if (meanTickTime < restoreMspt) {
+            level--;
+        }
+        return Math.max(0, Math.min(maxLevel, level));
+    }
+
+    /**
+     * Gets the factor activation ranges are scaled by at a throttle level.
+     *
+     * @param level The throttle level
+     * @param steps The configured amount of steps
+     * @param minRangeScale The configured scale at the highest level
+     * @return The range scale, between the minimum scale and 1
+     */
+    static double getRangeScale(int level, int steps, double minRangeScale) {
+        final double minScale = Math.max(0, Math.min(1, minRangeScale));
+        return 1 - getPressure(level, steps) * (1 - minScale);
+    }
+
+    /**
+     * Gets the number of ticks between two ticks of an inactive entity at a
+     * throttle level.
+     *
+     * @param level The throttle level
+     * @param steps The configured amount of steps
+     * @param maxInactiveTickInterval The configured interval at the highest level
+     * @return The inactive tick interval, never below the default interval
+     */
+    static int getInactiveTickInterval(int level, int steps, int maxInactiveTickInterval) {
+        final int maxInterval = Math.max(DEFAULT_INACTIVE_TICK_INTERVAL, maxInactiveTickInterval);
+        return DEFAULT_INACTIVE_TICK_INTERVAL + (int) Math.round(getPressure(level, steps) * (maxInterval - DEFAULT_INACTIVE_TICK_INTERVAL));
+    }
+
+    private static double getPressure(int level, int steps) {
+        final int maxLevel = Math.max(1, steps);
+        return Math.max(0, Math.min(maxLevel, level)) / (double) maxLevel;
+    }
+
+    private void setLevel(WorldServer world, int level) {
+        if ((level == 0) != (this.level == 0)) {
+            SpongeImpl.getLogger().info("{} entity activation throttling for world {}, mean tick time {} ms",
+                level == 0 ? "Stopped" : "Started", world.getWorldInfo().getWorldName(), String.format("%.2f", this.lastMeanTickTime));
+        }
+        this.level = level;
+        this.rangeScale = getRangeScale(level, this.steps, this.minRangeScale);
+        this.inactiveTickInterval = getInactiveTickInterval(level, this.steps, this.maxInactiveTickInterval);
+    }
+
+    /**
+     * Gets the activation range to use for an entity right now.
+     *
+     * @param activationType The activation type of the entity
+     * @param range The configured activation range of the entity
+     * @return The throttled activation range
+     */
+    int getActivationRange(byte activationType, int range) {
+        if (this.level == 0 || !this.isThrottled(activationType)) {
+            return range;
+        }
+        return (int) Math.ceil(range * this.rangeScale);
+    }
+
+    /**
+     * Gets the number of ticks between two ticks of an inactive entity.
+     *
+     * @param activationType The activation type of the entity
+     * @return The inactive tick interval
+     */
+    int getInactiveTickInterval(byte activationType) {
+        if (this.level == 0 || !this.isThrottled(activationType)) {
+            return DEFAULT_INACTIVE_TICK_INTERVAL;
+        }
+        return this.inactiveTickInterval;
+    }
+
+    private boolean isThrottled(byte activationType) {
+        return activationType >= 0 && activationType < this.throttledTypes.length && this.throttledTypes[activationType];
+    }
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public int getLevel() {
+        return this.level;
+    }
+
+    public int getSteps() {
+        return this.steps;
+    }
+
+    public double getLastMeanTickTime() {
+        return this.lastMeanTickTime;
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.plugin.entityactivation;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * A per tick index of the chunks within activation range of a player.
+ *
+ * <p>Every {@link Cell} stores the players whose maximum activation range
+ * covers the chunk along with the smallest and largest distance any entity
+ * inside the chunk can have to its nearest player. Most entities can be
+ * activated or skipped by comparing their range against those two bounds,
+ * only entities in chunks at the edge of a player's range have to be checked
+ * against the individual players.</p>
+ *
+ * <p>Distances follow the activation boxes: the gap between the entity and
+ * player boxes on the x or z axis, whichever is larger, so an entity is in
+ * range if that gap is smaller than its activation range. The vertical range
+ * of an activation box covers the whole world height and is ignored.</p>
+ */
+final class PlayerProximityGrid {
+
+    private final Long2ObjectOpenHashMap<Cell> cells = new Long2ObjectOpenHashMap<>();
+
+    void clear() {
+        this.cells.clear();
+    }
+
+    /**
+     * Adds a player to every chunk its maximum activation box overlaps.
+     *
+     * @param minX The minimum x of the player's bounding box
+     * @param minZ The minimum z of the player's bounding box
+     * @param maxX The maximum x of the player's bounding box
+     * @param maxZ The maximum z of the player's bounding box
+     * @param maxRange The largest activation range of the world
+     */
+    void addPlayer(double minX, double minZ, double maxX, double maxZ, int maxRange) {
+        final int minChunkX = MathHelper.floor((minX - maxRange) / 16.0D);
+        final int maxChunkX = MathHelper.floor((maxX + maxRange) / 16.0D);
+        final int minChunkZ = MathHelper.floor((minZ - maxRange) / 16.0D);
+        final int maxChunkZ = MathHelper.floor((maxZ + maxRange) / 16.0D);
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                final long key = ChunkPos.asLong(chunkX, chunkZ);
+                Cell cell = this.cells.get(key);
+                if (cell == null) {
+                    cell = new Cell(chunkX, chunkZ);
+                    this.cells.put(key, cell);
+                }
+                cell.addPlayer(minX, minZ, maxX, maxZ);
+            }
+        }
+    }
+
+    Collection<Cell> getCells() {
+        return this.cells.values();
+    }
+
+    static final class Cell {
+
+        final int chunkX;
+        final int chunkZ;
+        private final double minX;
+        private final double minZ;
+        private final double maxX;
+        private final double maxZ;
+        // Player bounding boxes as minX, minZ, maxX, maxZ
+        private double[] players = new double[16];
+        private int playerCount;
+        // The distance to the nearest player is at least this for every entity in the chunk
+        private double lowerBound = Double.POSITIVE_INFINITY;
+        // ... and at most this
+        private double upperBound = Double.POSITIVE_INFINITY;
+
+        Cell(int chunkX, int chunkZ) {
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+            this.minX = chunkX << 4;
+            this.minZ = chunkZ << 4;
+            this.maxX = this.minX + 16;
+            this.maxZ = this.minZ + 16;
+        }
+
+        void addPlayer(double minX, double minZ, double maxX, double maxZ) {
+            final int index = this.playerCount * 4;
+            if (index == this.players.length) {
+                this.players = Arrays.copyOf(this.players, index * 2);
+            }
+            this.players[index] = minX;
+            this.players[index + 1] = minZ;
+            this.players[index + 2] = maxX;
+            this.players[index + 3] = maxZ;
+            this.playerCount++;
+
+            this.lowerBound = Math.min(this.lowerBound, distance(this.minX, this.minZ, this.maxX, this.maxZ, minX, minZ, maxX, maxZ));
+            final double farthestX = Math.max(minX - this.minX, this.maxX - maxX);
+            final double farthestZ = Math.max(minZ - this.minZ, this.maxZ - maxZ);
+            this.upperBound = Math.min(this.upperBound, Math.max(farthestX, farthestZ));
+        }
+
+        int getPlayerCount() {
+            return this.playerCount;
+        }
+
+        /**
+         * Checks whether an entity box is within the given activation range
+         * of any player of this chunk.
+         *
+         * @return True if a player is in range
+         */
+        boolean isInRange(double minX, double minZ, double maxX, double maxZ, int range) {
+            // The bounds only hold for boxes inside the chunk column
+            if (minX >= this.minX && maxX <= this.maxX && minZ >= this.minZ && maxZ <= this.maxZ) {
+                if (range <= this.lowerBound) {
+                    return false;
+                }
+                if (range > this.upperBound) {
+                    return true;
+                }
+            }
+            final double[] players = this.players;
+            for (int i = 0, end = this.playerCount * 4; i < end; i += 4) {
+                if (distance(minX, minZ, maxX, maxZ, players[i], players[i + 1], players[i + 2], players[i + 3]) < range) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    static double distance(double minX, double minZ, double maxX, double maxZ,
+            double otherMinX, double otherMinZ, double otherMaxX, double otherMaxZ) {
+        final double gapX = Math.max(otherMinX - maxX, minX - otherMaxX);
+        final double gapZ = Math.max(otherMinZ - maxZ, minZ - otherMaxZ);
+        return Math.max(gapX, gapZ);
+    }
+}
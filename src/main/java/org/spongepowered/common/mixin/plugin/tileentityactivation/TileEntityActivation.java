@@ -25,6 +25,10 @@
 package org.spongepowered.common.mixin.plugin.tileentityactivation;
 
 import com.flowpowered.math.vector.Vector3i;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanMap;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.server.management.PlayerChunkMap;
 import net.minecraft.server.management.PlayerChunkMapEntry;
@@ -46,10 +50,18 @@
 import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
 import org.spongepowered.common.bridge.tileentity.TileEntityBridge;
 import org.spongepowered.common.bridge.world.WorldInfoBridge;
+import org.spongepowered.common.bridge.world.ServerChunkProviderBridge;
 import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.ActivationCapability;
+import org.spongepowered.common.mixin.plugin.tileentityactivation.interfaces.SleepingTileEntityChunk;
+import org.spongepowered.common.mixin.plugin.tileentityactivation.interfaces.SleepingTileEntityWorld;
 import org.spongepowered.common.util.VecHelper;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
 
 public class TileEntityActivation {
 
@@ -129,17 +141,22 @@ public static void initializeTileEntityActivationState(TileEntity tileEntity) {
     public static void activateTileEntities(WorldServer world) {
         final PlayerChunkMap playerChunkMap = world.getPlayerChunkMap();
         for (PlayerChunkMapEntry playerChunkMapEntry : playerChunkMap.entries) {
+            final Chunk chunk = playerChunkMapEntry.chunk;
+            if (chunk == null || chunk.unloadQueued) {
+                continue;
+            }
+            if (((ChunkBridge) chunk).isPersistedChunk()) {
+                // Tile entities in persisted chunks always tick
+                wakeTileEntities(world, chunk);
+                continue;
+            }
             for (EntityPlayer player : playerChunkMapEntry.players) {
-                final Chunk chunk = playerChunkMapEntry.chunk;
-                if (chunk == null || chunk.unloadQueued || ((ChunkBridge) chunk).isPersistedChunk()) {
-                    continue;
-                }
-
                 activateChunkTileEntities(player, chunk);
             }
         }
-    }
 
+        updateSleepingTileEntities(world);
+    }
 
     /**
      * Checks for the activation state of all tileentities in this chunk.
@@ -165,6 +182,7 @@ private static void activateChunkTileEntities(EntityPlayer player, Chunk chunk)
             if (currentTick > ((ActivationCapability) tileEntity).activation$getActivatedTick()) {
                 if (spongeTileEntity.activation$getDefaultActivationState()) {
                     ((ActivationCapability) tileEntity).activation$setActivatedTick(currentTick);
+                    wakeTileEntity(tileEntity);
                     continue;
                 }
 
@@ -178,6 +196,7 @@ private static void activateChunkTileEntities(EntityPlayer player, Chunk chunk)
                 int blockDistance = Math.round(tilePos.distance(playerPos));
                 if (blockDistance <= bbActivationRange) {
                     ((ActivationCapability) tileEntity).activation$setActivatedTick(currentTick);
+                    wakeTileEntity(tileEntity);
                 }
             }
         }
@@ -225,6 +244,233 @@ public static boolean checkIfActive(TileEntity tileEntity) {
         return isActive;
     }
 
+    /**
+     * Puts a tileentity which is inactive because no player is in range to
+     * sleep. Sleeping tileentities are taken out of the world's ticking list
+     * until a player comes in range or a neighbor changes, so they do not cost
+     * an activation check every tick.
+     *
+     * <p>Only neighbor changes wake up a sleeping tileentity besides players,
+     * see {@link #onNeighborChanged}. A sleeping tileentity won't notice
+     * anything else, like items being put into it by a tileentity which is
+     * still ticking, until a player comes in range again.</p>
+     *
+     * @param tileEntity The inactive tileentity
+     */
+    public static void sleepIfOutOfRange(TileEntity tileEntity) {
+        final World world = tileEntity.getWorld();
+        if (world == null || world.isRemote || !(world instanceof SleepingTileEntityWorld) || !(tileEntity instanceof ITickable)) {
+            return;
+        }
+        final ChunkBridge activeChunk = ((ActiveChunkReferantBridge) tileEntity).bridge$getActiveChunk();
+        if (activeChunk == null || !activeChunk.isActive() || activeChunk.isPersistedChunk()) {
+            return;
+        }
+        if (shouldSleep((ActivationCapability) tileEntity, SpongeImpl.getServer().getTickCounter())) {
+            ((SleepingTileEntityWorld) world).activation$getPendingSleepChanges().put(tileEntity, true);
+        }
+    }
+
+    /**
+     * Gets whether the inactive tileentity was skipped because no player is
+     * in range, rather than because of its tick rate.
+     *
+     * @param tileEntity The inactive tileentity
+     * @param currentTick The current tick
+     * @return Whether the tileentity may sleep
+     */
+    static boolean shouldSleep(ActivationCapability tileEntity, long currentTick) {
+        return !tileEntity.activation$getDefaultActivationState() && tileEntity.activation$getActivatedTick() < currentTick;
+    }
+
+    /**
+     * Wakes up the tileentity at the given position for at least the next
+     * tick if it is sleeping.
+     *
+     * <p>This is called for the block being notified of a neighbor change, so
+     * only the tileentity at the notified position wakes up. Neither the
+     * tileentity of the changed block nor any other tileentity of the chunk
+     * do, and block changes which don't notify their neighbors wake up
+     * nothing. The woken tileentity falls asleep again once it is skipped
+     * while still out of range.</p>
+     *
+     * @param world The world
+     * @param pos The position of the notified block
+     */
+    public static void onNeighborChanged(WorldServer world, BlockPos pos) {
+        final Chunk chunk = ((ServerChunkProviderBridge) world.getChunkProvider()).getLoadedChunkWithoutMarkingActive(pos.getX() >> 4, pos.getZ() >> 4);
+        if (chunk == null || ((SleepingTileEntityChunk) chunk).activation$getSleepingTileEntities().isEmpty()) {
+            return;
+        }
+        final TileEntity tileEntity = chunk.getTileEntity(pos, Chunk.EnumCreateEntityType.CHECK);
+        if (tileEntity != null && ((SleepingTileEntityChunk) chunk).activation$getSleepingTileEntities().contains(tileEntity)) {
+            ((ActivationCapability) tileEntity).activation$setActivatedTick(SpongeImpl.getServer().getTickCounter() + 1);
+            wakeTileEntity(tileEntity);
+        }
+    }
+
+    /**
+     * Drops a sleeping tileentity that is being removed from its chunk. It
+     * is not in the ticking list, so the world's tileentity loop would never
+     * remove it from the loaded tileentities.
+     *
+     * @param chunk The chunk of the tileentity
+     * @param tileEntity The removed tileentity
+     */
+    public static void onTileEntityRemoved(Chunk chunk, TileEntity tileEntity) {
+        onTileEntityRemoved(((SleepingTileEntityChunk) chunk).activation$getSleepingTileEntities(), chunk.getWorld().loadedTileEntityList, tileEntity);
+    }
+
+    static void onTileEntityRemoved(Set<TileEntity> sleeping, List<TileEntity> loadedTileEntities, TileEntity tileEntity) {
+        if (sleeping.remove(tileEntity)) {
+            loadedTileEntities.remove(tileEntity);
+        }
+    }
+
+    /**
+     * Wakes up the sleeping tileentities whose type has different activation
+     * settings after the config of the world was reloaded. They may not be
+     * allowed to sleep anymore, and a sleeping tileentity only notices the
+     * new settings once a player comes in range again.
+     *
+     * @param world The world
+     */
+    public static void onConfigReloaded(WorldServer world) {
+        final Reference2BooleanMap<TileEntity> pendingChanges = ((SleepingTileEntityWorld) world).activation$getPendingSleepChanges();
+        // Whether the settings of each type changed, checked once per type
+        final Reference2BooleanMap<TileEntityType> changedTypes = new Reference2BooleanOpenHashMap<>();
+        for (Chunk chunk : world.getChunkProvider().getLoadedChunks()) {
+            for (TileEntity tileEntity : ((SleepingTileEntityChunk) chunk).activation$getSleepingTileEntities()) {
+                final TileEntityType type = ((org.spongepowered.api.block.tileentity.TileEntity) tileEntity).getType();
+                final boolean changed;
+                if (changedTypes.containsKey(type)) {
+                    changed = changedTypes.getBoolean(type);
+                } else {
+                    changed = refreshActivationState(tileEntity);
+                    changedTypes.put(type, changed);
+                }
+                if (changed) {
+                    pendingChanges.put(tileEntity, false);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the activation settings of the tileentity from the config again.
+     *
+     * @param tileEntity The tileentity
+     * @return Whether the settings changed
+     */
+    private static boolean refreshActivationState(TileEntity tileEntity) {
+        final ActivationCapability spongeTileEntity = (ActivationCapability) tileEntity;
+        final int range = spongeTileEntity.activation$getActivationRange();
+        final int tickRate = spongeTileEntity.activation$getSpongeTickRate();
+        final boolean defaultState = spongeTileEntity.activation$getDefaultActivationState();
+        initializeTileEntityActivationState(tileEntity);
+        spongeTileEntity.activation$requiresActivationCacheRefresh(false);
+        return range != spongeTileEntity.activation$getActivationRange()
+            || tickRate != spongeTileEntity.activation$getSpongeTickRate()
+            || defaultState != spongeTileEntity.activation$getDefaultActivationState();
+    }
+
+    private static void wakeTileEntity(TileEntity tileEntity) {
+        final World world = tileEntity.getWorld();
+        if (!(world instanceof SleepingTileEntityWorld)) {
+            return;
+        }
+        final Reference2BooleanMap<TileEntity> pendingChanges = ((SleepingTileEntityWorld) world).activation$getPendingSleepChanges();
+        final ChunkBridge activeChunk = ((ActiveChunkReferantBridge) tileEntity).bridge$getActiveChunk();
+        if (pendingChanges.containsKey(tileEntity)
+            || activeChunk != null && ((SleepingTileEntityChunk) activeChunk).activation$getSleepingTileEntities().contains(tileEntity)) {
+            pendingChanges.put(tileEntity, false);
+        }
+    }
+
+    private static void wakeTileEntities(WorldServer world, Chunk chunk) {
+        final Set<TileEntity> sleeping = ((SleepingTileEntityChunk) chunk).activation$getSleepingTileEntities();
+        if (!sleeping.isEmpty()) {
+            final Reference2BooleanMap<TileEntity> pendingChanges = ((SleepingTileEntityWorld) world).activation$getPendingSleepChanges();
+            for (TileEntity tileEntity : sleeping) {
+                pendingChanges.put(tileEntity, false);
+            }
+        }
+    }
+
+    /**
+     * Moves the tileentities put to sleep or woken up since the last call
+     * between the world's ticking list and their chunk's sleep list.
+     *
+     * @param world The world
+     */
+    private static void updateSleepingTileEntities(WorldServer world) {
+        applySleepChanges(((SleepingTileEntityWorld) world).activation$getPendingSleepChanges(), world.tickableTileEntities, tileEntity -> {
+            final ChunkBridge activeChunk = ((ActiveChunkReferantBridge) tileEntity).bridge$getActiveChunk();
+            if (activeChunk == null || !activeChunk.isChunkLoaded()) {
+                // Unloaded along with its chunk
+                return null;
+            }
+            return ((SleepingTileEntityChunk) activeChunk).activation$getSleepingTileEntities();
+        });
+    }
+
+    static void applySleepChanges(Reference2BooleanMap<TileEntity> pendingChanges, List<TileEntity> tickableTileEntities,
+        Function<TileEntity, Set<TileEntity>> sleepingTileEntities) {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+        final Set<TileEntity> fallingAsleep = new ReferenceOpenHashSet<>();
+        for (Reference2BooleanMap.Entry<TileEntity> entry : pendingChanges.reference2BooleanEntrySet()) {
+            final TileEntity tileEntity = entry.getKey();
+            @Nullable final Set<TileEntity> sleeping = sleepingTileEntities.apply(tileEntity);
+            if (sleeping == null) {
+                continue;
+            }
+            if (entry.getBooleanValue()) {
+                if (!tileEntity.isInvalid() && sleeping.add(tileEntity)) {
+                    fallingAsleep.add(tileEntity);
+                }
+            } else if (sleeping.remove(tileEntity)) {
+                // Invalid tileentities are added back too, the tileentity loop removes them from the loaded list
+                tickableTileEntities.add(tileEntity);
+            }
+        }
+        pendingChanges.clear();
+        if (!fallingAsleep.isEmpty()) {
+            tickableTileEntities.removeAll(fallingAsleep);
+        }
+    }
+
+    /**
+     * Counts the ticking tileentities of the world by type.
+     *
+     * @param world The world
+     * @return The number of ticking tileentities per type
+     */
+    public static Map<TileEntityType, Integer> getTickingTileEntityCounts(WorldServer world) {
+        final Object2IntOpenHashMap<TileEntityType> counts = new Object2IntOpenHashMap<>();
+        for (TileEntity tileEntity : world.tickableTileEntities) {
+            counts.addTo(((org.spongepowered.api.block.tileentity.TileEntity) tileEntity).getType(), 1);
+        }
+        return counts;
+    }
+
+    /**
+     * Counts the sleeping tileentities of the world by type.
+     *
+     * @param world The world
+     * @return The number of sleeping tileentities per type
+     */
+    public static Map<TileEntityType, Integer> getSleepingTileEntityCounts(WorldServer world) {
+        final Object2IntOpenHashMap<TileEntityType> counts = new Object2IntOpenHashMap<>();
+        for (Chunk chunk : world.getChunkProvider().getLoadedChunks()) {
+            for (TileEntity tileEntity : ((SleepingTileEntityChunk) chunk).activation$getSleepingTileEntities()) {
+                counts.addTo(((org.spongepowered.api.block.tileentity.TileEntity) tileEntity).getType(), 1);
+            }
+        }
+        return counts;
+    }
+
     public static void addTileEntityToConfig(World world, SpongeTileEntityType type) {
         final SpongeConfig<WorldConfig> worldConfigAdapter = ((WorldInfoBridge) world.getWorldInfo()).getConfigAdapter();
         final SpongeConfig<GlobalConfig> globalConfigAdapter = SpongeImpl.getGlobalConfigAdapter();
@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.mixin.tileentityactivation;
 
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import net.minecraft.util.ITickable;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
@@ -40,11 +41,43 @@
 import org.spongepowered.common.bridge.world.WorldInfoBridge;
 import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.ActivationCapability;
 import org.spongepowered.common.mixin.plugin.tileentityactivation.TileEntityActivation;
+import org.spongepowered.common.mixin.plugin.tileentityactivation.interfaces.SleepingTileEntityChunk;
+
+import java.util.Map;
+import java.util.Set;
 
 @Mixin(Chunk.class)
-public class MixinChunk_TileEntityActivation {
+public class MixinChunk_TileEntityActivation implements SleepingTileEntityChunk {
 
     @Shadow @Final private World world;
+    @Shadow @Final private Map<BlockPos, net.minecraft.tileentity.TileEntity> tileEntities;
+
+    private final Set<net.minecraft.tileentity.TileEntity> sleepingTileEntities = new ReferenceOpenHashSet<>();
+
+    @Override
+    public Set<net.minecraft.tileentity.TileEntity> activation$getSleepingTileEntities() {
+        return this.sleepingTileEntities;
+    }
+
+    @Inject(method = "addTileEntity(Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/tileentity/TileEntity;)V", at = @At("HEAD"))
+    private void onAddTileEntityDropSleeping(BlockPos pos, net.minecraft.tileentity.TileEntity tileEntityIn, CallbackInfo ci) {
+        if (!this.sleepingTileEntities.isEmpty()) {
+            final net.minecraft.tileentity.TileEntity replaced = this.tileEntities.get(pos);
+            if (replaced != null && replaced != tileEntityIn) {
+                TileEntityActivation.onTileEntityRemoved((Chunk) (Object) this, replaced);
+            }
+        }
+    }
+
+    @Inject(method = "removeTileEntity", at = @At("HEAD"))
+    private void onRemoveTileEntityDropSleeping(BlockPos pos, CallbackInfo ci) {
+        if (!this.sleepingTileEntities.isEmpty()) {
+            final net.minecraft.tileentity.TileEntity removed = this.tileEntities.get(pos);
+            if (removed != null) {
+                TileEntityActivation.onTileEntityRemoved((Chunk) (Object) this, removed);
+            }
+        }
+    }
 
     @Inject(method = "addTileEntity(Lnet/minecraft/util/math/BlockPos;Lnet/minecraft/tileentity/TileEntity;)V", at = @At("RETURN"))
     private void onAddTileEntityActivateCheck(BlockPos pos, net.minecraft.tileentity.TileEntity tileEntityIn, CallbackInfo ci) {
@@ -49,6 +49,7 @@ public static boolean shouldTickTile(ITickable tickable) {
         if (!canUpdate) {
             ((ActivationCapability) tileEntity).activation$incrementSpongeTicksExisted();
             ((ActivationCapability) tileEntity).activation$inactiveTick();
+            TileEntityActivation.sleepIfOutOfRange(tileEntity);
             return false;
         }
         return true;
@@ -24,17 +24,34 @@
  */
 package org.spongepowered.common.mixin.tileentityactivation;
 
+import it.unimi.dsi.fastutil.objects.Reference2BooleanMap;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanOpenHashMap;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.WorldServer;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.common.mixin.core.world.MixinWorld;
 import org.spongepowered.common.mixin.plugin.tileentityactivation.TileEntityActivation;
+import org.spongepowered.common.mixin.plugin.tileentityactivation.interfaces.SleepingTileEntityWorld;
 
 @Mixin(value = WorldServer.class)
-public abstract class MixinWorldServer_TileEntityActivation extends MixinWorld {
+public abstract class MixinWorldServer_TileEntityActivation extends MixinWorld implements SleepingTileEntityWorld {
+
+    private final Reference2BooleanMap<TileEntity> pendingSleepChanges = new Reference2BooleanOpenHashMap<>();
 
     @Override
     public void spongeTileEntityActivation() {
         TileEntityActivation.activateTileEntities((WorldServer) (Object) this);
     }
 
+    @Override
+    public void spongeTileEntityNeighborChanged(BlockPos pos) {
+        TileEntityActivation.onNeighborChanged((WorldServer) (Object) this, pos);
+    }
+
+    @Override
+    public Reference2BooleanMap<TileEntity> activation$getPendingSleepChanges() {
+        return this.pendingSleepChanges;
+    }
+
 }
@@ -54,6 +54,7 @@
 import org.spongepowered.common.config.SpongeConfig;
 import org.spongepowered.common.config.type.WorldConfig;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.entity.PlayerTrackerTable;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.phase.generation.GenerationPhase;
 import org.spongepowered.common.profile.SpongeProfileManager;
@@ -61,7 +62,6 @@
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.SpongeUsernameCache;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -80,8 +80,7 @@ public abstract class MixinChunk_Tracker implements ChunkBridge {
 
 
     @Nullable private UserStorageService userStorageService;
-    private Map<Integer, PlayerTracker> trackedIntBlockPositions = new HashMap<>();
-    private Map<Short, PlayerTracker> trackedShortBlockPositions = new HashMap<>();
+    private PlayerTrackerTable trackedBlockPositions = new PlayerTrackerTable();
 
     @Inject(method = "<init>(Lnet/minecraft/world/World;II)V", at = @At("RETURN"))
     private void tracker$setUpUserService(@Nullable final World worldIn, final int x, final int z, final CallbackInfo ci) {
@@ -136,41 +135,34 @@ public void addTrackedBlockPosition(final Block block, final BlockPos pos, final
         final int indexForUniqueId = worldInfo.getIndexForUniqueId(user.getUniqueId());
         if (pos.getY() <= 255) {
             final short blockPos = MixinChunk_Tracker.blockPosToShort(pos);
-            final PlayerTracker playerTracker = this.trackedShortBlockPositions.get(blockPos);
-            if (playerTracker != null) {
-                if (trackerType == PlayerTracker.Type.OWNER) {
-                    playerTracker.ownerIndex = indexForUniqueId;
-                    playerTracker.notifierIndex = indexForUniqueId;
-                } else {
-                    playerTracker.notifierIndex = indexForUniqueId;
-                }
+            if (this.trackedBlockPositions.containsShort(blockPos)) {
+                final long tracked = this.trackedBlockPositions.getShort(blockPos);
+                this.trackedBlockPositions.putShort(blockPos, trackerType == PlayerTracker.Type.OWNER
+                    ? PlayerTrackerTable.pack(indexForUniqueId, indexForUniqueId)
+                    : PlayerTrackerTable.pack(PlayerTrackerTable.ownerIndex(tracked), indexForUniqueId));
             } else {
-                this.trackedShortBlockPositions.put(blockPos, new PlayerTracker(indexForUniqueId, trackerType));
+                this.trackedBlockPositions.putShort(blockPos, MixinChunk_Tracker.tracker$packNew(indexForUniqueId, trackerType));
             }
         } else {
             final int blockPos = MixinChunk_Tracker.blockPosToInt(pos);
-            final PlayerTracker playerTracker = this.trackedIntBlockPositions.get(blockPos);
-            if (playerTracker != null) {
-                if (trackerType == PlayerTracker.Type.OWNER) {
-                    playerTracker.ownerIndex = indexForUniqueId;
-                    playerTracker.notifierIndex = indexForUniqueId;
-                } else {
-                    playerTracker.notifierIndex = indexForUniqueId;
-                }
+            if (this.trackedBlockPositions.containsInt(blockPos)) {
+                final long tracked = this.trackedBlockPositions.getInt(blockPos);
+                this.trackedBlockPositions.putInt(blockPos, trackerType == PlayerTracker.Type.OWNER
+                    ? PlayerTrackerTable.pack(indexForUniqueId, indexForUniqueId)
+                    : PlayerTrackerTable.pack(PlayerTrackerTable.ownerIndex(tracked), indexForUniqueId));
             } else {
-                this.trackedIntBlockPositions.put(blockPos, new PlayerTracker(indexForUniqueId, trackerType));
+                this.trackedBlockPositions.putInt(blockPos, MixinChunk_Tracker.tracker$packNew(indexForUniqueId, trackerType));
             }
         }
     }
 
-    @Override
-    public Map<Integer, PlayerTracker> getTrackedIntPlayerPositions() {
-        return this.trackedIntBlockPositions;
+    private static long tracker$packNew(final int index, final PlayerTracker.Type trackerType) {
+        return trackerType == PlayerTracker.Type.OWNER ? PlayerTrackerTable.pack(index, -1) : PlayerTrackerTable.pack(-1, index);
     }
 
     @Override
-    public Map<Short, PlayerTracker> getTrackedShortPlayerPositions() {
-        return this.trackedShortBlockPositions;
+    public PlayerTrackerTable getTrackedPlayerPositions() {
+        return this.trackedBlockPositions;
     }
 
     @Override
@@ -179,16 +171,14 @@ public Optional<User> getBlockOwner(final BlockPos pos) {
             return Optional.empty();
         }
         final int intKey = MixinChunk_Tracker.blockPosToInt(pos);
-        final PlayerTracker intTracker = this.trackedIntBlockPositions.get(intKey);
-        if (intTracker != null) {
-            final int notifierIndex = intTracker.ownerIndex;
-            return this.tracker$getValidatedUser(intKey, notifierIndex);
+        if (this.trackedBlockPositions.containsInt(intKey)) {
+            final int ownerIndex = PlayerTrackerTable.ownerIndex(this.trackedBlockPositions.getInt(intKey));
+            return this.tracker$getValidatedUser(pos, ownerIndex);
         } else {
             final short shortKey = MixinChunk_Tracker.blockPosToShort(pos);
-            final PlayerTracker shortTracker = this.trackedShortBlockPositions.get(shortKey);
-            if (shortTracker != null) {
-                final int notifierIndex = shortTracker.ownerIndex;
-                return this.tracker$getValidatedUser(shortKey, notifierIndex);
+            if (this.trackedBlockPositions.containsShort(shortKey)) {
+                final int ownerIndex = PlayerTrackerTable.ownerIndex(this.trackedBlockPositions.getShort(shortKey));
+                return this.tracker$getValidatedUser(pos, ownerIndex);
             }
         }
 
@@ -201,16 +191,14 @@ public Optional<UUID> getBlockOwnerUUID(final BlockPos pos) {
             return Optional.empty();
         }
         final int key = MixinChunk_Tracker.blockPosToInt(pos);
-        final PlayerTracker intTracker = this.trackedIntBlockPositions.get(key);
-        if (intTracker != null) {
-            final int ownerIndex = intTracker.ownerIndex;
-            return this.tracker$getValidatedUUID(key, ownerIndex);
+        if (this.trackedBlockPositions.containsInt(key)) {
+            final int ownerIndex = PlayerTrackerTable.ownerIndex(this.trackedBlockPositions.getInt(key));
+            return this.tracker$getValidatedUUID(pos, ownerIndex);
         } else {
             final short shortKey = MixinChunk_Tracker.blockPosToShort(pos);
-            final PlayerTracker shortTracker = this.trackedShortBlockPositions.get(shortKey);
-            if (shortTracker != null) {
-                final int ownerIndex = shortTracker.ownerIndex;
-                return this.tracker$getValidatedUUID(shortKey, ownerIndex);
+            if (this.trackedBlockPositions.containsShort(shortKey)) {
+                final int ownerIndex = PlayerTrackerTable.ownerIndex(this.trackedBlockPositions.getShort(shortKey));
+                return this.tracker$getValidatedUUID(pos, ownerIndex);
             }
         }
 
@@ -223,14 +211,12 @@ public Optional<User> getBlockNotifier(final BlockPos pos) {
             return Optional.empty();
         }
         final int intKey = MixinChunk_Tracker.blockPosToInt(pos);
-        final PlayerTracker intTracker = this.trackedIntBlockPositions.get(intKey);
-        if (intTracker != null) {
-            return this.tracker$getValidatedUser(intKey, intTracker.notifierIndex);
+        if (this.trackedBlockPositions.containsInt(intKey)) {
+            return this.tracker$getValidatedUser(pos, PlayerTrackerTable.notifierIndex(this.trackedBlockPositions.getInt(intKey)));
         } else {
             final short shortKey = MixinChunk_Tracker.blockPosToShort(pos);
-            final PlayerTracker shortTracker = this.trackedShortBlockPositions.get(shortKey);
-            if (shortTracker != null) {
-                return this.tracker$getValidatedUser(shortKey, shortTracker.notifierIndex);
+            if (this.trackedBlockPositions.containsShort(shortKey)) {
+                return this.tracker$getValidatedUser(pos, PlayerTrackerTable.notifierIndex(this.trackedBlockPositions.getShort(shortKey)));
             }
         }
 
@@ -243,22 +229,20 @@ public Optional<UUID> getBlockNotifierUUID(final BlockPos pos) {
             return Optional.empty();
         }
         final int key = MixinChunk_Tracker.blockPosToInt(pos);
-        final PlayerTracker intTracker = this.trackedIntBlockPositions.get(key);
-        if (intTracker != null) {
-            return this.tracker$getValidatedUUID(key, intTracker.notifierIndex);
+        if (this.trackedBlockPositions.containsInt(key)) {
+            return this.tracker$getValidatedUUID(pos, PlayerTrackerTable.notifierIndex(this.trackedBlockPositions.getInt(key)));
         } else {
             final short shortKey = MixinChunk_Tracker.blockPosToShort(pos);
-            final PlayerTracker shortTracker = this.trackedShortBlockPositions.get(shortKey);
-            if (shortTracker != null) {
-                return this.tracker$getValidatedUUID(shortKey, shortTracker.notifierIndex);
+            if (this.trackedBlockPositions.containsShort(shortKey)) {
+                return this.tracker$getValidatedUUID(pos, PlayerTrackerTable.notifierIndex(this.trackedBlockPositions.getShort(shortKey)));
             }
         }
 
         return Optional.empty();
     }
 
-    private Optional<User> tracker$getValidatedUser(final int key, final int ownerIndex) {
-        final Optional<UUID> uuid = this.tracker$getValidatedUUID(key, ownerIndex);
+    private Optional<User> tracker$getValidatedUser(final BlockPos pos, final int ownerIndex) {
+        final Optional<UUID> uuid = this.tracker$getValidatedUUID(pos, ownerIndex);
         if (uuid.isPresent()) {
             final UUID userUniqueId = uuid.get();
             // get player if online
@@ -272,12 +256,13 @@ public Optional<UUID> getBlockNotifierUUID(final BlockPos pos) {
         return Optional.empty();
     }
 
-    private Optional<UUID> tracker$getValidatedUUID(final int key, final int ownerIndex) {
+    private Optional<UUID> tracker$getValidatedUUID(final BlockPos pos, final int ownerIndex) {
         final UUID uuid = (((WorldInfoBridge) this.world.getWorldInfo()).getUniqueIdForIndex(ownerIndex)).orElse(null);
         if (uuid != null) {
             // Verify id is valid and not invalid
             if (SpongeImpl.getGlobalConfigAdapter().getConfig().getWorld().getInvalidLookupUuids().contains(uuid)) {
-                this.trackedIntBlockPositions.remove(key);
+                this.trackedBlockPositions.removeInt(MixinChunk_Tracker.blockPosToInt(pos));
+                this.trackedBlockPositions.removeShort(MixinChunk_Tracker.blockPosToShort(pos));
                 return Optional.empty();
             }
             // player is not online, get or create user from storage
@@ -310,26 +295,15 @@ public void setBlockNotifier(final BlockPos pos, @Nullable final UUID uuid) {
         if (((WorldBridge) this.world).isFake()) {
             return;
         }
+        final int notifierIndex = uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo()).getIndexForUniqueId(uuid);
         if (pos.getY() <= 255) {
             final short blockPos = MixinChunk_Tracker.blockPosToShort(pos);
-            final PlayerTracker shortTracker = this.trackedShortBlockPositions.get(blockPos);
-            if (shortTracker != null) {
-                shortTracker.notifierIndex = uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo()).getIndexForUniqueId(uuid);
-            } else {
-                this.trackedShortBlockPositions.put(blockPos,
-                        new PlayerTracker(uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo()).getIndexForUniqueId(uuid),
-                                PlayerTracker.Type.NOTIFIER));
-            }
+            final int ownerIndex = PlayerTrackerTable.ownerIndex(this.trackedBlockPositions.getShort(blockPos));
+            this.trackedBlockPositions.putShort(blockPos, PlayerTrackerTable.pack(ownerIndex, notifierIndex));
         } else {
             final int blockPos = MixinChunk_Tracker.blockPosToInt(pos);
-            final PlayerTracker intTracker = this.trackedIntBlockPositions.get(blockPos);
-            if (intTracker != null) {
-                intTracker.notifierIndex = uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo()).getIndexForUniqueId(uuid);
-            } else {
-                this.trackedIntBlockPositions.put(blockPos,
-                        new PlayerTracker(uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo()).getIndexForUniqueId(uuid),
-                                PlayerTracker.Type.NOTIFIER));
-            }
+            final int ownerIndex = PlayerTrackerTable.ownerIndex(this.trackedBlockPositions.getInt(blockPos));
+            this.trackedBlockPositions.putInt(blockPos, PlayerTrackerTable.pack(ownerIndex, notifierIndex));
         }
     }
 
@@ -339,35 +313,21 @@ public void setBlockCreator(final BlockPos pos, @Nullable final UUID uuid) {
         if (((WorldBridge) this.world).isFake()) {
             return;
         }
+        final int ownerIndex = uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo()).getIndexForUniqueId(uuid);
         if (pos.getY() <= 255) {
             final short blockPos = MixinChunk_Tracker.blockPosToShort(pos);
-            final PlayerTracker shortTracker = this.trackedShortBlockPositions.get(blockPos);
-            if (shortTracker != null) {
-                shortTracker.ownerIndex = uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo()).getIndexForUniqueId(uuid);
-            } else {
-                this.trackedShortBlockPositions.put(blockPos, new PlayerTracker(uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo())
-                        .getIndexForUniqueId(uuid), PlayerTracker.Type.OWNER));
-            }
+            final int notifierIndex = PlayerTrackerTable.notifierIndex(this.trackedBlockPositions.getShort(blockPos));
+            this.trackedBlockPositions.putShort(blockPos, PlayerTrackerTable.pack(ownerIndex, notifierIndex));
         } else {
             final int blockPos = MixinChunk_Tracker.blockPosToInt(pos);
-            final PlayerTracker intTracker = this.trackedIntBlockPositions.get(blockPos);
-            if (intTracker != null) {
-                intTracker.ownerIndex = uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo()).getIndexForUniqueId(uuid);
-            } else {
-                this.trackedIntBlockPositions.put(blockPos, new PlayerTracker(uuid == null ? -1 : ((WorldInfoBridge) this.world.getWorldInfo())
-                        .getIndexForUniqueId(uuid), PlayerTracker.Type.OWNER));
-            }
+            final int notifierIndex = PlayerTrackerTable.notifierIndex(this.trackedBlockPositions.getInt(blockPos));
+            this.trackedBlockPositions.putInt(blockPos, PlayerTrackerTable.pack(ownerIndex, notifierIndex));
         }
     }
 
     @Override
-    public void setTrackedIntPlayerPositions(final Map<Integer, PlayerTracker> trackedPositions) {
-        this.trackedIntBlockPositions = trackedPositions;
-    }
-
-    @Override
-    public void setTrackedShortPlayerPositions(final Map<Short, PlayerTracker> trackedPositions) {
-        this.trackedShortBlockPositions = trackedPositions;
+    public void setTrackedPlayerPositions(final PlayerTrackerTable trackedPositions) {
+        this.trackedBlockPositions = trackedPositions;
     }
 
     /**
@@ -66,6 +66,9 @@ public class WorldTimingsHandler {
     public final Timing syncChunkLoadTileEntitiesTimer;
     public final Timing syncChunkLoadTileTicksTimer;
     public final Timing syncChunkLoadPostTimer;
+    public final Timing asyncChunkLoadFinishTimer;
+    // Records the time from requesting a chunk until it's loaded, not main thread time
+    private final TimingHandler asyncChunkLoadLatency;
 
     // Tracking
     public final Timing causeTrackerBlockTimer;
@@ -108,6 +111,8 @@ public WorldTimingsHandler(World world) {
         this.syncChunkLoadTileEntitiesTimer = SpongeTimingsFactory.ofSafe(name + "chunkLoad - TileEntities");
         this.syncChunkLoadTileTicksTimer = SpongeTimingsFactory.ofSafe(name + "chunkLoad - TileTicks");
         this.syncChunkLoadPostTimer = SpongeTimingsFactory.ofSafe(name + "chunkLoad - Post");
+        this.asyncChunkLoadFinishTimer = SpongeTimingsFactory.ofSafe(name + "asyncChunkLoad - Finish");
+        this.asyncChunkLoadLatency = SpongeTimingsFactory.ofSafe(name + "asyncChunkLoad - Latency");
 
         this.tracker1 = SpongeTimingsFactory.ofSafe(name + "tracker stage 1");
         this.tracker2 = SpongeTimingsFactory.ofSafe(name + "tracker stage 2");
@@ -121,4 +126,16 @@ public WorldTimingsHandler(World world) {
 
         this.chunkPopulate = SpongeTimingsFactory.ofSafe(name + "chunkPopulate");
     }
+
+    /**
+     * Records the latency of an asynchronous chunk load, from the request
+     * until the chunk was added to the world.
+     *
+     * @param latency The latency in nanoseconds
+     */
+    public void recordAsyncChunkLoadLatency(long latency) {
+        if (this.asyncChunkLoadLatency.isEnabled()) {
+            this.asyncChunkLoadLatency.addDiff(latency);
+        }
+    }
 }
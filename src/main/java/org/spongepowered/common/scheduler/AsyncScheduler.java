@@ -24,123 +24,192 @@
  */
 package org.spongepowered.common.scheduler;
 
-import org.spongepowered.api.scheduler.Task;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.SchedulerCategory;
 
-import java.util.Set;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.annotation.Nullable;
 
 public class AsyncScheduler extends SchedulerBase {
 
-    // Adjustable timeout for pending Tasks
-    private long minimumTimeout = Long.MAX_VALUE;
-    private long lastProcessingTimestamp;
-    // Locking mechanism
-    private final Lock lock = new ReentrantLock();
-    private final Condition condition = this.lock.newCondition();
-    // The dynamic thread pooling executor of asynchronous tasks.
-    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Thread thread;
+    // The bounded pool running the asynchronous tasks, created from the
+    // config the first time a task is dispatched.
+    @Nullable private volatile ExecutorService executor;
+    // The settings the executor was created with, to tell whether a reload
+    // can resize the pool or has to replace it.
+    private boolean virtualThreads;
+    private int queueSize;
+    // Tasks submitted by other threads while the pool was saturated, handed
+    // over to the pool by the scheduler thread.
+    private final Queue<Runnable> overflow = new ConcurrentLinkedQueue<>();
 
     AsyncScheduler() {
         super(ScheduledTask.TaskSynchronicity.ASYNCHRONOUS);
 
-        Thread thread = new Thread(AsyncScheduler.this::mainLoop);
-        thread.setName("Sponge Async Scheduler Thread");
-        thread.setDaemon(true);
-        thread.start();
+        this.thread = new Thread(AsyncScheduler.this::mainLoop);
+        this.thread.setName("Sponge Async Scheduler Thread");
+        this.thread.setDaemon(true);
+        this.thread.start();
     }
 
-    ExecutorService getExecutor() {
-        return this.executor;
-    }
-
-    private void mainLoop() {
-        this.lastProcessingTimestamp = System.nanoTime();
-        while (true) {
-            recalibrateMinimumTimeout();
-            this.runTick();
+    private ExecutorService createExecutor(SchedulerCategory config) {
+        this.virtualThreads = config.useAsyncVirtualThreads();
+        this.queueSize = config.getAsyncQueueSize();
+        if (this.virtualThreads) {
+            try {
+                return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            } catch (ReflectiveOperationException e) {
+                SpongeImpl.getLogger().warn("Virtual threads are not supported by this Java runtime, falling back to a thread pool "
+                    + "for asynchronous tasks.");
+            }
         }
+        final int poolSize = config.getAsyncPoolSize();
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(this.queueSize),
+            new ThreadFactoryBuilder().setNameFormat("Sponge Async Scheduler Worker #%d").setDaemon(true).build(),
+            new BackpressurePolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 
-    private void recalibrateMinimumTimeout() {
-        this.lock.lock();
-        try {
-            Set<Task> tasks = this.getScheduledTasks();
-            this.minimumTimeout = Long.MAX_VALUE;
-            long now = System.nanoTime();
-            for (Task tmpTask : tasks) {
-                ScheduledTask task = (ScheduledTask) tmpTask;
-                // Recalibrate the wait delay for processing tasks before new
-                // tasks cause the scheduler to process pending tasks.
-                if (task.offset == 0 && task.period == 0) {
-                    this.minimumTimeout = 0;
+    ExecutorService getExecutor() {
+        ExecutorService executor = this.executor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = this.executor;
+                if (executor == null) {
+                    executor = this.createExecutor(SpongeImpl.getGlobalConfigAdapter().getConfig().getScheduler());
+                    this.executor = executor;
                 }
-                // The time since the task last executed or was added to the map
-                long timeSinceLast = now - task.getTimestamp();
+            }
+        }
+        return executor;
+    }
 
-                if (task.offset > 0 && task.getState() == ScheduledTask.ScheduledTaskState.WAITING) {
-                    // There is an offset and the task hasn't run yet
-                    this.minimumTimeout = Math.min(task.offset - timeSinceLast, this.minimumTimeout);
-                }
-                if (task.period > 0 && task.getState().isActive) {
-                    // The task repeats and has run after the initial delay
-                    this.minimumTimeout = Math.min(task.period - timeSinceLast, this.minimumTimeout);
-                }
-                if (this.minimumTimeout <= 0) {
-                    break;
+    /**
+     * Applies the scheduler settings of the reloaded global config. A changed
+     * pool size is applied to the running pool, any other change replaces the
+     * executor, letting the old one finish the tasks it already accepted.
+     */
+    synchronized void onConfigReloaded() {
+        final ExecutorService executor = this.executor;
+        if (executor == null) {
+            return;
+        }
+        final SchedulerCategory config = SpongeImpl.getGlobalConfigAdapter().getConfig().getScheduler();
+        if (config.useAsyncVirtualThreads() == this.virtualThreads && (this.virtualThreads || config.getAsyncQueueSize() == this.queueSize)) {
+            if (executor instanceof ThreadPoolExecutor) {
+                final ThreadPoolExecutor pool = (ThreadPoolExecutor) executor;
+                final int poolSize = config.getAsyncPoolSize();
+                // The core size may never exceed the maximum size
+                if (poolSize > pool.getMaximumPoolSize()) {
+                    pool.setMaximumPoolSize(poolSize);
+                    pool.setCorePoolSize(poolSize);
+                } else {
+                    pool.setCorePoolSize(poolSize);
+                    pool.setMaximumPoolSize(poolSize);
                 }
             }
-            if (!tasks.isEmpty()) {
-                long latency = System.nanoTime() - this.lastProcessingTimestamp;
-                this.minimumTimeout -= (latency <= 0) ? 0 : latency;
-                this.minimumTimeout = (this.minimumTimeout < 0) ? 0 : this.minimumTimeout;
-            }
-        } finally {
-            this.lock.unlock();
+            return;
         }
+        this.executor = this.createExecutor(config);
+        executor.shutdown();
     }
 
-    @Override
-    protected void preTick() {
-        this.lock.lock();
-        try {
-            this.condition.await(this.minimumTimeout, TimeUnit.NANOSECONDS);
-        } catch (InterruptedException ignored) {
-            // The taskMap has been modified; there is work to do.
-            // Continue on without handling the Exception.
-        } catch (IllegalMonitorStateException e) {
-            SpongeImpl.getLogger().error("The scheduler internal state machine suffered a catastrophic error", e);
+    private void mainLoop() {
+        while (true) {
+            this.runTick();
         }
     }
 
     @Override
-    protected void postTick() {
-        this.lastProcessingTimestamp = System.nanoTime();
+    protected void preTick() {
+        // Park until the earliest deadline, new tasks unpark the thread
+        // in case they are due earlier.
+        Thread.interrupted();
+        this.drainOverflow();
+        if (!this.overflow.isEmpty()) {
+            return;
+        }
+        final long deadline = this.peekDeadline();
+        if (deadline == Long.MAX_VALUE) {
+            LockSupport.park(this);
+        } else {
+            final long timeout = deadline - System.nanoTime();
+            if (timeout > 0) {
+                LockSupport.parkNanos(this, timeout);
+            }
+        }
     }
 
-    @Override
-    protected void finallyPostTick() {
-        this.lock.unlock();
+    private void drainOverflow() {
+        Runnable runnable;
+        while ((runnable = this.overflow.poll()) != null) {
+            this.getExecutor().execute(runnable);
+        }
     }
 
     @Override
     protected void executeTaskRunnable(ScheduledTask task, Runnable runnable) {
-        this.executor.submit(runnable);
+        final PluginTaskMetrics metrics = this.getMetrics(task.getOwner());
+        final long queuedTimestamp = System.nanoTime();
+        metrics.onQueued();
+        try {
+            this.getExecutor().execute(() -> {
+                metrics.onStart(queuedTimestamp);
+                try {
+                    runnable.run();
+                } finally {
+                    metrics.onFinish();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            metrics.onRejected();
+            throw e;
+        }
     }
 
     @Override
     protected void addTask(ScheduledTask task) {
-        this.lock.lock();
-        try {
-            super.addTask(task);
-            this.condition.signalAll();
-        } finally {
-            this.lock.unlock();
+        super.addTask(task);
+        LockSupport.unpark(this.thread);
+    }
+
+    /**
+     * Applies backpressure once the task queue of the pool is full. The
+     * scheduler thread waits for a free slot, which stops it from dispatching
+     * further tasks. Tasks submitted directly to the executor by any other
+     * thread, most likely the server thread, are never run by the submitting
+     * thread but left for the scheduler thread to hand over, as are tasks
+     * rejected by an executor replaced on reload.
+     */
+    private final class BackpressurePolicy implements RejectedExecutionHandler {
+
+        @Override
+        public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+            if (executor.isShutdown() || Thread.currentThread() != AsyncScheduler.this.thread) {
+                AsyncScheduler.this.overflow.add(runnable);
+                LockSupport.unpark(AsyncScheduler.this.thread);
+                return;
+            }
+            try {
+                executor.getQueue().put(runnable);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException(e);
+            }
         }
     }
 
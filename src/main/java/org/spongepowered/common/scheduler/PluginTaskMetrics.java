@@ -0,0 +1,221 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import org.spongepowered.api.plugin.PluginContainer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters about the tasks of a single plugin in one of the schedulers.
+ * All counters can be updated from any thread.
+ */
+public final class PluginTaskMetrics {
+
+    /**
+     * The upper bounds (exclusive) of the execution time histogram buckets,
+     * in nanoseconds. The last bucket holds everything above the last bound.
+     */
+    private static final long[] EXECUTION_BUCKET_BOUNDS = {
+        TimeUnit.MICROSECONDS.toNanos(100),
+        TimeUnit.MICROSECONDS.toNanos(500),
+        TimeUnit.MILLISECONDS.toNanos(1),
+        TimeUnit.MILLISECONDS.toNanos(2),
+        TimeUnit.MILLISECONDS.toNanos(5),
+        TimeUnit.MILLISECONDS.toNanos(10),
+        TimeUnit.MILLISECONDS.toNanos(50),
+    };
+
+    private final PluginContainer plugin;
+    // Tasks handed to the executor which have not started yet
+    private final AtomicInteger queued = new AtomicInteger();
+    // Tasks currently running
+    private final AtomicInteger active = new AtomicInteger();
+    private final LongAdder started = new LongAdder();
+    // The total time tasks spent waiting for a free thread, in nanoseconds
+    private final LongAdder queueLatency = new LongAdder();
+    // How late tasks were dispatched compared to their intended start, in nanoseconds
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder startDrift = new LongAdder();
+    private final AtomicLong maxStartDrift = new AtomicLong();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder executionTime = new LongAdder();
+    private final AtomicLong maxExecutionTime = new AtomicLong();
+    private final LongAdder[] executionHistogram = new LongAdder[EXECUTION_BUCKET_BOUNDS.length + 1];
+    // Executions of repeating tasks which took longer than their interval
+    private final LongAdder overruns = new LongAdder();
+    // Due tasks carried over to the next tick because the tick budget ran out
+    private final LongAdder deferrals = new LongAdder();
+
+    PluginTaskMetrics(PluginContainer plugin) {
+        this.plugin = plugin;
+        for (int i = 0; i < this.executionHistogram.length; i++) {
+            this.executionHistogram[i] = new LongAdder();
+        }
+    }
+
+    public PluginContainer getPlugin() {
+        return this.plugin;
+    }
+
+    public int getQueuedTaskCount() {
+        return this.queued.get();
+    }
+
+    public int getActiveTaskCount() {
+        return this.active.get();
+    }
+
+    public long getStartedTaskCount() {
+        return this.started.sum();
+    }
+
+    /**
+     * Gets the average time a task of this plugin waited between being
+     * dispatched by the scheduler and actually starting.
+     *
+     * @return The average latency in nanoseconds
+     */
+    public long getAverageQueueLatency() {
+        final long started = this.started.sum();
+        return started == 0 ? 0L : this.queueLatency.sum() / started;
+    }
+
+    /**
+     * Gets the average time between the moment tasks of this plugin were
+     * supposed to start and the moment the scheduler dispatched them.
+     *
+     * @return The average drift in nanoseconds
+     */
+    public long getAverageStartDrift() {
+        final long dispatched = this.dispatched.sum();
+        return dispatched == 0 ? 0L : this.startDrift.sum() / dispatched;
+    }
+
+    public long getMaxStartDrift() {
+        return this.maxStartDrift.get();
+    }
+
+    public long getExecutedTaskCount() {
+        return this.executed.sum();
+    }
+
+    public long getAverageExecutionTime() {
+        final long executed = this.executed.sum();
+        return executed == 0 ? 0L : this.executionTime.sum() / executed;
+    }
+
+    public long getMaxExecutionTime() {
+        return this.maxExecutionTime.get();
+    }
+
+    /**
+     * Gets the amount of times a repeating task of this plugin took longer
+     * to execute than its interval.
+     *
+     * @return The amount of overruns
+     */
+    public long getOverrunCount() {
+        return this.overruns.sum();
+    }
+
+    /**
+     * Gets the amount of times a due task of this plugin had to wait for
+     * the next tick because the synchronous tick budget was used up.
+     *
+     * @return The amount of deferrals
+     */
+    public long getDeferralCount() {
+        return this.deferrals.sum();
+    }
+
+    /**
+     * Gets the upper bounds of the execution time histogram buckets, in
+     * nanoseconds. The histogram has one bucket more than there are bounds,
+     * holding all executions above the last bound.
+     *
+     * @return The bucket bounds
+     */
+    public static long[] getExecutionHistogramBounds() {
+        return EXECUTION_BUCKET_BOUNDS.clone();
+    }
+
+    public long[] getExecutionHistogram() {
+        final long[] histogram = new long[this.executionHistogram.length];
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] = this.executionHistogram[i].sum();
+        }
+        return histogram;
+    }
+
+    void onDispatch(long drift) {
+        this.dispatched.increment();
+        if (drift > 0) {
+            this.startDrift.add(drift);
+            this.maxStartDrift.accumulateAndGet(drift, Math::max);
+        }
+    }
+
+    void onExecuted(long executionTime, long interval) {
+        this.executed.increment();
+        this.executionTime.add(executionTime);
+        this.maxExecutionTime.accumulateAndGet(executionTime, Math::max);
+        int bucket = 0;
+        while (bucket < EXECUTION_BUCKET_BOUNDS.length && executionTime >= EXECUTION_BUCKET_BOUNDS[bucket]) {
+            bucket++;
+        }
+        this.executionHistogram[bucket].increment();
+        if (interval > 0 && executionTime > interval) {
+            this.overruns.increment();
+        }
+    }
+
+    void onDeferred(int count) {
+        this.deferrals.add(count);
+    }
+
+    void onQueued() {
+        this.queued.incrementAndGet();
+    }
+
+    void onStart(long queuedTimestamp) {
+        this.queued.decrementAndGet();
+        this.active.incrementAndGet();
+        this.started.increment();
+        this.queueLatency.add(System.nanoTime() - queuedTimestamp);
+    }
+
+    void onRejected() {
+        this.queued.decrementAndGet();
+    }
+
+    void onFinish() {
+        this.active.decrementAndGet();
+    }
+
+}
@@ -36,6 +36,8 @@
 import java.util.function.Consumer;
 import java.util.concurrent.TimeUnit;
 
+import javax.annotation.Nullable;
+
 /**
  * An internal representation of a {@link Task} created by a plugin.
  */
@@ -54,6 +56,11 @@ public class ScheduledTask implements Task {
     private final TaskSynchronicity syncType;
     private final String stringRepresentation;
     private Timing taskTimer;
+    // Bookkeeping owned by the ScheduledTaskQueue this task is waiting in
+    long deadline;
+    long sequence;
+    @Nullable volatile ScheduledTaskQueue queue;
+    boolean countedAsCancelled;
 
     // Internal Task state. Not for user-service use.
     public enum ScheduledTaskState {
@@ -129,10 +136,15 @@ public long getInterval() {
     @Override
     public boolean cancel() {
         boolean success = false;
-        if (this.getState() != ScheduledTask.ScheduledTaskState.RUNNING) {
+        final ScheduledTaskState previous = this.getState();
+        if (previous != ScheduledTask.ScheduledTaskState.RUNNING) {
             success = true;
         }
         this.setState(ScheduledTask.ScheduledTaskState.CANCELED);
+        final ScheduledTaskQueue queue = this.queue;
+        if (previous != ScheduledTaskState.CANCELED && queue != null) {
+            queue.onCancelled(this);
+        }
         return success;
     }
 
@@ -174,6 +186,26 @@ long nextExecutionTimestamp() {
         return this.timestamp + this.offset;
     }
 
+    /**
+     * Gets whether the timestamp of this task is currently measured in ticks,
+     * which depends on whether it is still waiting for the initial delay.
+     *
+     * @return True if the current time base is ticks
+     */
+    boolean usesTicks() {
+        return this.state == ScheduledTaskState.WAITING ? this.delayIsTicks : this.intervalIsTicks;
+    }
+
+    /**
+     * Gets the interval of this task in nanoseconds, regardless of whether
+     * the interval was given in ticks.
+     *
+     * @return The interval in nanoseconds
+     */
+    long getIntervalNanos() {
+        return this.intervalIsTicks ? this.period * SpongeScheduler.TICK_DURATION_NS : this.period;
+    }
+
     void setTimestamp(long timestamp) {
         this.timestamp = timestamp;
     }
@@ -0,0 +1,129 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * A deadline ordered queue of {@link ScheduledTask}s sharing a single time
+ * base (either ticks or nanoseconds). A scheduler tick only has to look at
+ * the head of the queue to find out which tasks are due, instead of walking
+ * every pending task.
+ *
+ * <p>Cancelled tasks are not removed eagerly, cancelling only marks them so
+ * that {@link ScheduledTask#cancel()} stays O(1). They are handed back to the
+ * scheduler when they reach the head of the queue, or all at once when they
+ * make up more than half of the queue.</p>
+ */
+final class ScheduledTaskQueue {
+
+    private static final Comparator<ScheduledTask> DEADLINE_ORDER = (first, second) -> {
+        final int result = Long.compare(first.deadline, second.deadline);
+        return result != 0 ? result : Long.compare(first.sequence, second.sequence);
+    };
+
+    private final PriorityQueue<ScheduledTask> queue = new PriorityQueue<>(DEADLINE_ORDER);
+    private long sequenceNumber = 0L;
+    private int cancelledTasks = 0;
+
+    /**
+     * Enqueues the task to be due at the given deadline.
+     *
+     * @param task The task
+     * @param deadline The timestamp at which the task becomes due
+     */
+    synchronized void offer(ScheduledTask task, long deadline) {
+        task.deadline = deadline;
+        task.sequence = this.sequenceNumber++;
+        task.queue = this;
+        this.queue.offer(task);
+    }
+
+    /**
+     * Drains every task whose deadline is at or before the given timestamp
+     * into the sink, in deadline order.
+     *
+     * @param now The current timestamp in this queue's time base
+     * @param sink The collection to add the due tasks to
+     */
+    synchronized void pollDue(long now, Collection<ScheduledTask> sink) {
+        if (this.cancelledTasks > this.queue.size() / 2) {
+            this.purge(sink);
+        }
+        ScheduledTask head;
+        while ((head = this.queue.peek()) != null && head.deadline <= now) {
+            this.queue.poll();
+            this.detach(head);
+            sink.add(head);
+        }
+    }
+
+    /**
+     * Gets the deadline of the task at the head of the queue.
+     *
+     * @return The earliest deadline, or {@link Long#MAX_VALUE} if empty
+     */
+    synchronized long peekDeadline() {
+        final ScheduledTask head = this.queue.peek();
+        return head == null ? Long.MAX_VALUE : head.deadline;
+    }
+
+    synchronized int size() {
+        return this.queue.size() - this.cancelledTasks;
+    }
+
+    synchronized void onCancelled(ScheduledTask task) {
+        // Only count tasks still waiting in this queue, and each of them once,
+        // the task may have been polled or cancelled twice concurrently.
+        if (task.queue == this && !task.countedAsCancelled) {
+            task.countedAsCancelled = true;
+            this.cancelledTasks++;
+        }
+    }
+
+    private void purge(Collection<ScheduledTask> sink) {
+        this.queue.removeIf(task -> {
+            if (task.countedAsCancelled) {
+                this.detach(task);
+                sink.add(task);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    // Must be called while holding the lock of this queue, like every
+    // access to the cancelled task count.
+    private void detach(ScheduledTask task) {
+        if (task.countedAsCancelled) {
+            task.countedAsCancelled = false;
+            this.cancelledTasks--;
+        }
+        task.queue = null;
+    }
+
+}
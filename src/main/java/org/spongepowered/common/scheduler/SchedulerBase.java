@@ -35,6 +35,10 @@
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -44,8 +48,14 @@
 
 abstract class SchedulerBase {
 
-    // The simple queue of all pending (and running) ScheduledTasks
+    // All pending (and running) ScheduledTasks, for lookups by id
     private final Map<UUID, ScheduledTask> taskMap = Maps.newConcurrentMap();
+    // The real time (nanosecond based) deadline queue
+    private final ScheduledTaskQueue queue = new ScheduledTaskQueue();
+    // Reused between ticks, only touched by the thread running the tick
+    private final List<ScheduledTask> dueTasks = new ArrayList<>();
+    private volatile int lastDueTaskCount = 0;
+    private final Map<PluginContainer, PluginTaskMetrics> metrics = Maps.newConcurrentMap();
     private long sequenceNumber = 0L;
     private final String taskNameFmt;
 
@@ -72,15 +82,83 @@ protected long getTimestamp(ScheduledTask task) {
         return System.nanoTime();
     }
 
+    /**
+     * Gets the queue the task should wait in for its next execution, based
+     * on the time base {@link #getTimestamp(ScheduledTask)} uses for the
+     * current state of the task.
+     *
+     * @param task The task
+     * @return The queue for the task
+     */
+    protected ScheduledTaskQueue getQueue(ScheduledTask task) {
+        return this.queue;
+    }
+
+    /**
+     * Drains all tasks that are due from the queues of this scheduler.
+     *
+     * @param sink The collection to add the due tasks to
+     */
+    protected void pollDueTasks(Collection<ScheduledTask> sink) {
+        this.queue.pollDue(System.nanoTime(), sink);
+    }
+
+    /**
+     * Gets the earliest real time deadline of any queued task.
+     *
+     * @return The deadline in nanoseconds, or {@link Long#MAX_VALUE} if no
+     *     task is queued
+     */
+    protected long peekDeadline() {
+        return this.queue.peekDeadline();
+    }
+
+    /**
+     * Gets the number of tasks waiting in the queues of this scheduler.
+     *
+     * @return The queue depth
+     */
+    protected int getQueuedTaskCount() {
+        return this.queue.size();
+    }
+
+    /**
+     * Gets the number of tasks that were due during the last tick.
+     *
+     * @return The number of due tasks
+     */
+    protected int getLastDueTaskCount() {
+        return this.lastDueTaskCount;
+    }
+
+    /**
+     * Gets the task metrics of the given plugin in this scheduler.
+     *
+     * @param plugin The plugin
+     * @return The metrics of the plugin
+     */
+    protected PluginTaskMetrics getMetrics(PluginContainer plugin) {
+        return this.metrics.computeIfAbsent(plugin, PluginTaskMetrics::new);
+    }
+
+    protected Collection<PluginTaskMetrics> getMetrics() {
+        return Collections.unmodifiableCollection(this.metrics.values());
+    }
+
     /**
      * Adds the task to the task map, will attempt to process the task on the
-     * next call to {@link #runTick}.
+     * next call to {@link #runTick} after its offset has passed.
      *
      * @param task The task to add
      */
     protected void addTask(ScheduledTask task) {
         task.setTimestamp(this.getTimestamp(task));
         this.taskMap.put(task.getUniqueId(), task);
+        this.enqueue(task);
+    }
+
+    private void enqueue(ScheduledTask task) {
+        this.getQueue(task).offer(task, task.nextExecutionTimestamp());
     }
 
     /**
@@ -103,15 +181,17 @@ protected Set<Task> getScheduledTasks() {
     }
 
     /**
-     * Process all tasks in the map.
+     * Process all tasks that are due.
      */
     protected final void runTick() {
         this.preTick();
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.startTimingIfSync();
         try {
-            this.taskMap.values().forEach(this::processTask);
+            this.pollDueTasks(this.dueTasks);
+            this.lastDueTaskCount = this.processDueTasks(this.dueTasks);
             this.postTick();
         } finally {
+            this.dueTasks.clear();
             this.finallyPostTick();
         }
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.stopTimingIfSync();
@@ -137,41 +217,56 @@ protected void finallyPostTick() {
     }
 
     /**
-     * Processes the task.
+     * Processes the tasks polled from the queues during this tick.
+     *
+     * @param dueTasks The due tasks, in deadline order
+     * @return The amount of tasks that were started
+     */
+    protected int processDueTasks(List<ScheduledTask> dueTasks) {
+        int started = 0;
+        for (ScheduledTask task : dueTasks) {
+            if (this.processTask(task)) {
+                started++;
+            }
+        }
+        return started;
+    }
+
+    /**
+     * Processes a task that has been polled from its queue, the task is due
+     * unless it has been cancelled in the meantime.
      *
      * @param task The task to process
+     * @return True if the task was started
      */
-    protected void processTask(ScheduledTask task) {
+    protected boolean processTask(ScheduledTask task) {
         // If the task is now slated to be cancelled, we just remove it as if it
         // no longer exists.
         if (task.getState() == ScheduledTask.ScheduledTaskState.CANCELED) {
             this.removeTask(task);
-            return;
+            return false;
         }
-        long threshold = Long.MAX_VALUE;
-        // Figure out if we start a delayed Task after threshold ticks or, start
-        // it after the interval (period) of the repeating task parameter.
-        if (task.getState() == ScheduledTask.ScheduledTaskState.WAITING) {
-            threshold = task.offset;
-        } else if (task.getState() == ScheduledTask.ScheduledTaskState.RUNNING) {
-            threshold = task.period;
-        }
-        // This moment is 'now'
-        long now = this.getTimestamp(task);
-        // So, if the current time minus the timestamp of the task is greater
-        // than the delay to wait before starting the task, then start the task.
+        // Record how late the task is dispatched, in the time base of its
+        // queue before the state switch may change it.
+        final long drift = this.getTimestamp(task) - task.deadline;
+        this.getMetrics(task.getOwner()).onDispatch(task.usesTicks() ? drift * SpongeScheduler.TICK_DURATION_NS : drift);
         // Repeating tasks get a reset-timestamp each time they are set RUNNING
         // If the task has a period of 0 (zero) this task will not repeat, and
         // is removed after we start it.
-        if (threshold <= (now - task.getTimestamp())) {
-            task.setState(ScheduledTask.ScheduledTaskState.SWITCHING);
-            task.setTimestamp(this.getTimestamp(task));
-            startTask(task);
-            // If task is one time shot, remove it from the map.
-            if (task.period == 0L) {
-                this.removeTask(task);
-            }
+        task.setState(ScheduledTask.ScheduledTaskState.SWITCHING);
+        task.setTimestamp(this.getTimestamp(task));
+        startTask(task);
+        // If task is one time shot, remove it from the map, otherwise queue
+        // it up for the next interval.
+        if (task.period == 0L) {
+            this.removeTask(task);
+        } else if (task.getState() == ScheduledTask.ScheduledTaskState.CANCELED) {
+            // The task cancelled itself while it was running
+            this.removeTask(task);
+        } else {
+            this.enqueue(task);
         }
+        return true;
     }
 
     /**
@@ -188,12 +283,14 @@ protected void startTask(final ScheduledTask task) {
                 if (context != null) {
                     context.buildAndSwitch();
                 }
+                final long start = System.nanoTime();
                 try {
                     task.getConsumer().accept(task);
                 } catch (Throwable t) {
                     SpongeImpl.getLogger().error("The Scheduler tried to run the task {} owned by {}, but an error occured.", task.getName(),
                         task.getOwner(), t);
                 }
+                this.getMetrics(task.getOwner()).onExecuted(System.nanoTime() - start, task.getIntervalNanos());
             }
         });
     }
@@ -42,6 +42,7 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.interfaces.entity.player.IMixinInventoryPlayer;
 
+import java.util.Collection;
 import java.util.Iterator;
 import java.util.Optional;
 import java.util.Set;
@@ -182,6 +183,47 @@ void submit(ScheduledTask task) {
         getDelegate(task).addTask(task);
     }
 
+    /**
+     * Gets the number of tasks waiting for their next execution.
+     *
+     * @param async Whether to query the asynchronous scheduler
+     * @return The queue depth
+     */
+    public int getQueuedTaskCount(boolean async) {
+        return async ? this.asyncScheduler.getQueuedTaskCount() : this.syncScheduler.getQueuedTaskCount();
+    }
+
+    /**
+     * Gets the number of tasks that were due during the last tick of the
+     * scheduler.
+     *
+     * @param async Whether to query the asynchronous scheduler
+     * @return The number of due tasks
+     */
+    public int getLastDueTaskCount(boolean async) {
+        return async ? this.asyncScheduler.getLastDueTaskCount() : this.syncScheduler.getLastDueTaskCount();
+    }
+
+    /**
+     * Gets the amount of due synchronous tasks that did not fit in the tick
+     * budget and are waiting for the next tick.
+     *
+     * @return The amount of deferred tasks
+     */
+    public int getDeferredSyncTaskCount() {
+        return this.syncScheduler.getDeferredTaskCount();
+    }
+
+    /**
+     * Gets the per plugin task metrics of a scheduler.
+     *
+     * @param async Whether to query the asynchronous scheduler
+     * @return The metrics of every plugin that submitted tasks
+     */
+    public Collection<PluginTaskMetrics> getTaskMetrics(boolean async) {
+        return async ? this.asyncScheduler.getMetrics() : this.syncScheduler.getMetrics();
+    }
+
     /**
      * Ticks the synchronous scheduler.
      */
@@ -198,6 +240,13 @@ public void tickSyncScheduler() {
         }
     }
 
+    /**
+     * Applies the scheduler settings of the reloaded global config.
+     */
+    public void onConfigReloaded() {
+        this.asyncScheduler.onConfigReloaded();
+    }
+
     public <T> CompletableFuture<T> submitAsyncTask(Callable<T> callable) {
         return Functional.asyncFailableFuture(callable, this.asyncScheduler.getExecutor());
     }
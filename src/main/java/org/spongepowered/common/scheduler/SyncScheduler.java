@@ -25,15 +25,31 @@
 package org.spongepowered.common.scheduler;
 
 import org.spongepowered.api.Sponge;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.event.tracking.phase.plugin.BasicPluginContext;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
 
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
 import javax.annotation.Nullable;
 
 public class SyncScheduler extends SchedulerBase {
 
     // The number of ticks elapsed since this scheduler began.
     private volatile long counter = 0L;
+    // The tick based deadline queue
+    private final ScheduledTaskQueue tickQueue = new ScheduledTaskQueue();
+    // Due tasks waiting for their turn, per plugin in round-robin order
+    private final Map<PluginContainer, Deque<ScheduledTask>> deferredTasks = new LinkedHashMap<>();
+    private volatile int deferredTaskCount = 0;
 
     SyncScheduler() {
         super(ScheduledTask.TaskSynchronicity.SYNCHRONOUS);
@@ -65,6 +81,70 @@ protected long getTimestamp(ScheduledTask task) {
         return 0L;
     }
 
+    @Override
+    protected ScheduledTaskQueue getQueue(ScheduledTask task) {
+        if (task.usesTicks()) {
+            return this.tickQueue;
+        }
+        return super.getQueue(task);
+    }
+
+    @Override
+    protected void pollDueTasks(Collection<ScheduledTask> sink) {
+        this.tickQueue.pollDue(this.counter, sink);
+        super.pollDueTasks(sink);
+    }
+
+    @Override
+    protected int getQueuedTaskCount() {
+        return this.tickQueue.size() + super.getQueuedTaskCount();
+    }
+
+    /**
+     * Gets the amount of due tasks that did not fit in the tick budget and
+     * are waiting for the next tick.
+     *
+     * @return The amount of deferred tasks
+     */
+    int getDeferredTaskCount() {
+        return this.deferredTaskCount;
+    }
+
+    @Override
+    protected int processDueTasks(List<ScheduledTask> dueTasks) {
+        final long budget = TimeUnit.MILLISECONDS.toNanos(SpongeImpl.getGlobalConfigAdapter().getConfig().getScheduler().getSyncTickBudget());
+        if (budget <= 0 && this.deferredTasks.isEmpty()) {
+            return super.processDueTasks(dueTasks);
+        }
+        // Tasks deferred during previous ticks keep their place, plugins
+        // which were cut off last tick are at the front of the rotation.
+        for (ScheduledTask task : dueTasks) {
+            this.deferredTasks.computeIfAbsent(task.getOwner(), plugin -> new ArrayDeque<>()).add(task);
+        }
+        final long start = System.nanoTime();
+        int started = 0;
+        while (!this.deferredTasks.isEmpty() && (budget <= 0 || System.nanoTime() - start < budget)) {
+            final Iterator<Map.Entry<PluginContainer, Deque<ScheduledTask>>> iterator = this.deferredTasks.entrySet().iterator();
+            final Map.Entry<PluginContainer, Deque<ScheduledTask>> entry = iterator.next();
+            iterator.remove();
+            final ScheduledTask task = entry.getValue().poll();
+            if (!entry.getValue().isEmpty()) {
+                // Move the plugin to the back of the rotation
+                this.deferredTasks.put(entry.getKey(), entry.getValue());
+            }
+            if (this.processTask(task)) {
+                started++;
+            }
+        }
+        int deferred = 0;
+        for (Map.Entry<PluginContainer, Deque<ScheduledTask>> entry : this.deferredTasks.entrySet()) {
+            this.getMetrics(entry.getKey()).onDeferred(entry.getValue().size());
+            deferred += entry.getValue().size();
+        }
+        this.deferredTaskCount = deferred;
+        return started;
+    }
+
     @Override
     protected void executeTaskRunnable(ScheduledTask task, Runnable runnable) {
         try (BasicPluginContext context = createContext(task)) {
@@ -134,6 +134,35 @@ public SpongeFuture<?> scheduleWithFixedDelay(Runnable command, long initialDela
         return this.scheduleAtFixedRate(command, initialDelay, delay, unit);
     }
 
+    /**
+     * Gets the amount of tasks of the plugin that are waiting for a free
+     * thread.
+     *
+     * @return The amount of queued tasks
+     */
+    public int getQueuedTaskCount() {
+        return this.scheduler.getMetrics(this.plugin).getQueuedTaskCount();
+    }
+
+    /**
+     * Gets the amount of tasks of the plugin that are currently running.
+     *
+     * @return The amount of active tasks
+     */
+    public int getActiveTaskCount() {
+        return this.scheduler.getMetrics(this.plugin).getActiveTaskCount();
+    }
+
+    /**
+     * Gets the average time tasks of the plugin waited for a free thread.
+     *
+     * @param unit The unit to return the latency in
+     * @return The average latency
+     */
+    public long getAverageQueueLatency(TimeUnit unit) {
+        return unit.convert(this.scheduler.getMetrics(this.plugin).getAverageQueueLatency(), TimeUnit.NANOSECONDS);
+    }
+
     private Task.Builder createTask(Runnable command) {
         return this.taskBuilderProvider.get().execute(command);
     }
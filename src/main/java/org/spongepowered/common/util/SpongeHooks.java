@@ -66,6 +66,8 @@
 import org.spongepowered.common.bridge.world.ServerWorldBridge;
 import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.ActivationCapability;
 import org.spongepowered.common.mixin.plugin.entitycollisions.interfaces.CollisionsCapability;
+import org.spongepowered.common.mixin.plugin.tileentityactivation.TileEntityActivation;
+import org.spongepowered.common.mixin.plugin.tileentityactivation.interfaces.SleepingTileEntityWorld;
 import org.spongepowered.common.registry.type.BlockTypeRegistryModule;
 import org.spongepowered.common.registry.type.block.TileEntityTypeRegistryModule;
 import org.spongepowered.common.registry.type.entity.EntityTypeRegistryModule;
@@ -506,8 +508,12 @@ public static void refreshActiveConfigs() {
                     ((TrackableBridge) tileEntity).refreshTrackerStates();
                 }
             }
+            if (world instanceof SleepingTileEntityWorld) {
+                TileEntityActivation.onConfigReloaded(world);
+            }
         }
         ConfigTeleportHelperFilter.invalidateCache();
+        SpongeImpl.getScheduler().onConfigReloaded();
     }
 
     public static void populatePluginsInMetricsConfig() {
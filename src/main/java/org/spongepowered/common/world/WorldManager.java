@@ -84,6 +84,7 @@
 import org.spongepowered.common.bridge.world.WorldSettingsBridge;
 import org.spongepowered.common.bridge.world.ServerChunkProviderBridge;
 import org.spongepowered.common.util.SpongeHooks;
+import org.spongepowered.common.world.storage.MappedRegionFile;
 
 import java.io.DataInputStream;
 import java.io.IOException;
@@ -557,6 +558,7 @@ public static boolean unloadWorld(WorldServer worldServer, boolean checkConfig,
                     ((org.spongepowered.api.world.World) worldServer).getDimension().getType().getId(), dimensionId);
                 worldByDimensionId.remove(dimensionId);
                 weakWorldByWorld.remove(worldServer);
+                MappedRegionFile.invalidate(worldServer.getSaveHandler().getWorldDirectory());
                 ((IMixinMinecraftServer) server).removeWorldTickTimes(dimensionId);
                 reorderWorldsVanillaFirst();
             }
@@ -0,0 +1,222 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.gc;
+
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.gen.ChunkProviderServer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.bridge.server.management.PlayerChunkMapBridge;
+import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
+import org.spongepowered.common.config.category.ChunkGCCategory;
+import org.spongepowered.common.util.SpongeHooks;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * Queues the loaded chunks of a world for unload which no player is using
+ * and which the configured {@link ChunkRetentionPolicy} doesn't keep. A run
+ * checks the chunks loaded when it started, optionally spread over several
+ * ticks, and counts why chunks were kept.
+ */
+public final class ChunkGarbageCollector {
+
+    private static final ChunkRetentionReason[] REASONS = ChunkRetentionReason.values();
+    // Runs started by the policy are at least this many ticks apart, the chunks queued
+    // by a run are only unloaded over the following ticks
+    private static final int MIN_POLICY_RUN_INTERVAL = 100;
+
+    private final WorldServer world;
+    private ChunkRetentionPolicy policy;
+    private int chunksPerTick;
+    // The last server tick each chunk was seen in use by a player, or loaded
+    private final Long2LongMap lastUsed = new Long2LongOpenHashMap();
+
+    @Nullable private long[] run;
+    private int cursor;
+    private final int[] retaining = new int[REASONS.length];
+    private int releasing;
+    private final int[] retained = new int[REASONS.length];
+    private int released;
+    private long lastStarted = -MIN_POLICY_RUN_INTERVAL;
+
+    public ChunkGarbageCollector(WorldServer world, ChunkGCCategory category) {
+        this.world = world;
+        this.updateConfig(category);
+    }
+
+    public void updateConfig(ChunkGCCategory category) {
+        this.policy = ChunkRetentionPolicies.create(category);
+        this.chunksPerTick = category.getChunksPerTick();
+    }
+
+    public boolean isRunning() {
+        return this.run != null;
+    }
+
+    /**
+     * Gets whether the policy wants a run to start now, before the world
+     * config would start one.
+     *
+     * @return Whether to start a run
+     */
+    public boolean shouldStart() {
+        if (this.run != null) {
+            return false;
+        }
+        final long now = SpongeImpl.getServer().getTickCounter();
+        if (now - this.lastStarted < MIN_POLICY_RUN_INTERVAL) {
+            return false;
+        }
+        final int required = this.retained[ChunkRetentionReason.PERSISTED.ordinal()]
+            + this.retained[ChunkRetentionReason.UNDROPPABLE.ordinal()]
+            + this.retained[ChunkRetentionReason.IN_USE.ordinal()];
+        return this.policy.shouldStartRun(now, this.world.getChunkProvider().loadedChunks.size(), required);
+    }
+
+    /**
+     * Starts a new run over the currently loaded chunks, does nothing if a
+     * run is still in progress.
+     */
+    public void start() {
+        if (this.run != null) {
+            return;
+        }
+        final long now = SpongeImpl.getServer().getTickCounter();
+        this.lastStarted = now;
+        final ChunkProviderServer chunkProvider = this.world.getChunkProvider();
+        final PlayerChunkMapBridge playerChunkMap = (PlayerChunkMapBridge) this.world.getPlayerChunkMap();
+        final long[] keys = new long[chunkProvider.loadedChunks.size()];
+        final long[] idleLastUsed = new long[keys.length];
+        final LongSet loaded = new LongOpenHashSet(keys.length);
+        int count = 0;
+        int idleCount = 0;
+        for (Chunk chunk : chunkProvider.loadedChunks.values()) {
+            final long key = ChunkPos.asLong(chunk.x, chunk.z);
+            keys[count++] = key;
+            loaded.add(key);
+            if (playerChunkMap.bridge$isChunkInUse(chunk.x, chunk.z) || !this.lastUsed.containsKey(key)) {
+                this.lastUsed.put(key, now);
+            } else {
+                idleLastUsed[idleCount++] = this.lastUsed.get(key);
+            }
+        }
+        // Forget the chunks unloaded since the last run
+        for (LongIterator iterator = this.lastUsed.keySet().iterator(); iterator.hasNext(); ) {
+            if (!loaded.contains(iterator.nextLong())) {
+                iterator.remove();
+            }
+        }
+        final long[] idle = new long[idleCount];
+        System.arraycopy(idleLastUsed, 0, idle, 0, idleCount);
+        this.policy.beginRun(now, idle);
+        this.run = keys;
+        this.cursor = 0;
+        this.releasing = 0;
+        Arrays.fill(this.retaining, 0);
+    }
+
+    /**
+     * Checks the next chunks of the current run.
+     */
+    public void tick() {
+        final long[] run = this.run;
+        if (run == null) {
+            return;
+        }
+        final long now = SpongeImpl.getServer().getTickCounter();
+        final ChunkProviderServer chunkProvider = this.world.getChunkProvider();
+        final PlayerChunkMapBridge playerChunkMap = (PlayerChunkMapBridge) this.world.getPlayerChunkMap();
+        final int end = this.chunksPerTick <= 0 ? run.length : Math.min(run.length, this.cursor + this.chunksPerTick);
+        for (; this.cursor < end; this.cursor++) {
+            final Chunk chunk = chunkProvider.loadedChunks.get(run[this.cursor]);
+            // Skip chunks unloaded or already queued since the run started
+            if (chunk == null || chunk.unloadQueued) {
+                continue;
+            }
+            final ChunkRetentionReason reason = this.getRetentionReason(chunk, now, playerChunkMap);
+            if (reason != null) {
+                this.retaining[reason.ordinal()]++;
+                continue;
+            }
+            chunkProvider.queueUnload(chunk);
+            SpongeHooks.logChunkGCQueueUnload(this.world, chunk);
+            this.releasing++;
+        }
+        if (this.cursor >= run.length) {
+            this.run = null;
+            System.arraycopy(this.retaining, 0, this.retained, 0, this.retained.length);
+            this.released = this.releasing;
+        }
+    }
+
+    @Nullable
+    private ChunkRetentionReason getRetentionReason(Chunk chunk, long now, PlayerChunkMapBridge playerChunkMap) {
+        if (((ChunkBridge) chunk).isPersistedChunk()) {
+            return ChunkRetentionReason.PERSISTED;
+        }
+        if (!this.world.provider.canDropChunk(chunk.x, chunk.z)) {
+            return ChunkRetentionReason.UNDROPPABLE;
+        }
+        if (playerChunkMap.bridge$isChunkInUse(chunk.x, chunk.z)) {
+            return ChunkRetentionReason.IN_USE;
+        }
+        final long key = ChunkPos.asLong(chunk.x, chunk.z);
+        return this.policy.retain(chunk, now, this.lastUsed.containsKey(key) ? this.lastUsed.get(key) : now);
+    }
+
+    /**
+     * Gets the number of chunks kept by the last completed run, by reason.
+     *
+     * @return The kept chunks
+     */
+    public Map<ChunkRetentionReason, Integer> getRetainedChunks() {
+        final Map<ChunkRetentionReason, Integer> retained = new EnumMap<>(ChunkRetentionReason.class);
+        for (ChunkRetentionReason reason : REASONS) {
+            retained.put(reason, this.retained[reason.ordinal()]);
+        }
+        return retained;
+    }
+
+    /**
+     * Gets the number of chunks queued for unload by the last completed run.
+     *
+     * @return The queued chunks
+     */
+    public int getReleasedChunks() {
+        return this.released;
+    }
+
+}
@@ -0,0 +1,196 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.gc;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.util.ClassInheritanceMultiMap;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.ChunkGCCategory;
+import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.ActivationCapability;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+/**
+ * The registry of {@link ChunkRetentionPolicy chunk retention policies},
+ * selected by the {@code policy} of the {@link ChunkGCCategory}.
+ */
+public final class ChunkRetentionPolicies {
+
+    public static final String INACTIVE = "inactive";
+    public static final String IDLE_ENTITIES = "idle-entities";
+
+    private static final Map<String, Function<ChunkGCCategory, ChunkRetentionPolicy>> FACTORIES = new ConcurrentHashMap<>();
+
+    static {
+        register(INACTIVE, category -> (chunk, now, lastUsed) -> null);
+        register("lru", category -> new LeastRecentlyUsed(category.getMaxIdleChunks()));
+        register(IDLE_ENTITIES, category -> new IdleEntities(category.getIdleTicks()));
+        register("memory-pressure", category -> new MemoryPressure(category.getMemoryThreshold()));
+    }
+
+    /**
+     * Registers a policy, replacing any previous policy with the same id.
+     *
+     * @param id The id used in the config
+     * @param factory Creates the policy from the config of a world
+     */
+    public static void register(String id, Function<ChunkGCCategory, ChunkRetentionPolicy> factory) {
+        FACTORIES.put(id.toLowerCase(Locale.ENGLISH), factory);
+    }
+
+    /**
+     * Creates the policy configured by the category, falling back to the
+     * {@link #INACTIVE} policy if it's unknown.
+     *
+     * @param category The category
+     * @return The policy
+     */
+    public static ChunkRetentionPolicy create(ChunkGCCategory category) {
+        final String id = category.getPolicy().toLowerCase(Locale.ENGLISH);
+        Function<ChunkGCCategory, ChunkRetentionPolicy> factory = FACTORIES.get(id);
+        if (factory == null) {
+            SpongeImpl.getLogger().warn("Unknown chunk gc policy '{}', using '{}' instead.", category.getPolicy(), INACTIVE);
+            factory = FACTORIES.get(INACTIVE);
+        } else if (id.equals(IDLE_ENTITIES) && !SpongeImpl.getGlobalConfigAdapter().getConfig().getModules().usePluginEntityActivation()) {
+            // Entities are only marked active by the entity activation range module
+            SpongeImpl.getLogger().warn("The chunk gc policy '{}' requires the 'entity-activation-range' module, using '{}' instead.",
+                IDLE_ENTITIES, INACTIVE);
+            factory = FACTORIES.get(INACTIVE);
+        }
+        return factory.apply(category);
+    }
+
+    private ChunkRetentionPolicies() {
+    }
+
+    static final class LeastRecentlyUsed implements ChunkRetentionPolicy {
+
+        private final int maxIdleChunks;
+        // Chunks last used at or after this time are kept
+        private long cutoff;
+
+        LeastRecentlyUsed(int maxIdleChunks) {
+            this.maxIdleChunks = maxIdleChunks;
+        }
+
+        @Override
+        public boolean shouldStartRun(long now, int loadedChunks, int requiredChunks) {
+            // More chunks are loaded than the policy keeps
+            return loadedChunks - requiredChunks > Math.max(0, this.maxIdleChunks);
+        }
+
+        @Override
+        public void beginRun(long now, long[] idleLastUsed) {
+            if (this.maxIdleChunks <= 0) {
+                this.cutoff = Long.MAX_VALUE;
+            } else if (idleLastUsed.length <= this.maxIdleChunks) {
+                this.cutoff = Long.MIN_VALUE;
+            } else {
+                final long[] sorted = idleLastUsed.clone();
+                Arrays.sort(sorted);
+                this.cutoff = sorted[sorted.length - this.maxIdleChunks];
+            }
+        }
+
+        @Nullable
+        @Override
+        public ChunkRetentionReason retain(Chunk chunk, long now, long lastUsed) {
+            return lastUsed >= this.cutoff ? ChunkRetentionReason.RECENTLY_USED : null;
+        }
+    }
+
+    static final class IdleEntities implements ChunkRetentionPolicy {
+
+        private final int idleTicks;
+
+        IdleEntities(int idleTicks) {
+            this.idleTicks = idleTicks;
+        }
+
+        @Nullable
+        @Override
+        public ChunkRetentionReason retain(Chunk chunk, long now, long lastUsed) {
+            for (ClassInheritanceMultiMap<Entity> entities : chunk.getEntityLists()) {
+                for (Entity entity : entities) {
+                    if (entity instanceof ActivationCapability && this.isActive((ActivationCapability) entity, now)) {
+                        return ChunkRetentionReason.ENTITY_ACTIVITY;
+                    }
+                }
+            }
+            return null;
+        }
+
+        boolean isActive(ActivationCapability entity, long now) {
+            return now - entity.activation$getActivatedTick() < this.idleTicks;
+        }
+    }
+
+    static final class MemoryPressure implements ChunkRetentionPolicy {
+
+        private final double threshold;
+        private final DoubleSupplier heapUsage;
+        private boolean underPressure;
+
+        MemoryPressure(int thresholdPercent) {
+            this(thresholdPercent, MemoryPressure::getHeapUsage);
+        }
+
+        MemoryPressure(int thresholdPercent, DoubleSupplier heapUsage) {
+            this.threshold = thresholdPercent / 100D;
+            this.heapUsage = heapUsage;
+        }
+
+        private static double getHeapUsage() {
+            final Runtime runtime = Runtime.getRuntime();
+            return (double) (runtime.totalMemory() - runtime.freeMemory()) / runtime.maxMemory();
+        }
+
+        @Override
+        public boolean shouldStartRun(long now, int loadedChunks, int requiredChunks) {
+            // Release the idle chunks as soon as the heap fills up instead of waiting for the next run
+            return this.heapUsage.getAsDouble() >= this.threshold;
+        }
+
+        @Override
+        public void beginRun(long now, long[] idleLastUsed) {
+            this.underPressure = this.heapUsage.getAsDouble() >= this.threshold;
+        }
+
+        @Nullable
+        @Override
+        public ChunkRetentionReason retain(Chunk chunk, long now, long lastUsed) {
+            return this.underPressure ? null : ChunkRetentionReason.MEMORY_AVAILABLE;
+        }
+    }
+
+}
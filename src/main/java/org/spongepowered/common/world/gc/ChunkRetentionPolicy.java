@@ -0,0 +1,76 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.gc;
+
+import net.minecraft.world.chunk.Chunk;
+
+import javax.annotation.Nullable;
+
+/**
+ * Decides which of the chunks no player is using are kept loaded by the
+ * chunk gc. Each run of the gc starts with {@link #beginRun} and then asks
+ * the policy about every such chunk, possibly spread over several ticks.
+ *
+ * <p>Besides the runs triggered by the world config, a policy may start
+ * runs of its own through {@link #shouldStartRun}, so chunks it doesn't
+ * keep are unloaded before they pile up.</p>
+ */
+public interface ChunkRetentionPolicy {
+
+    /**
+     * Gets whether a run should start now, before the tick interval or load
+     * threshold of the world would start one.
+     *
+     * @param now The current world time
+     * @param loadedChunks The number of loaded chunks
+     * @param requiredChunks The number of chunks the last run had to keep
+     *     regardless of the policy, because they are persisted, undroppable
+     *     or in use
+     * @return Whether to start a run
+     */
+    default boolean shouldStartRun(long now, int loadedChunks, int requiredChunks) {
+        return false;
+    }
+
+    /**
+     * Called before the chunks of a run are checked.
+     *
+     * @param now The current world time
+     * @param idleLastUsed The times the loaded chunks which no player is using were last used
+     */
+    default void beginRun(long now, long[] idleLastUsed) {
+    }
+
+    /**
+     * Gets why the chunk should be kept loaded.
+     *
+     * @param chunk The chunk no player is using
+     * @param now The current world time
+     * @param lastUsed The world time the chunk was last seen in use by a player
+     * @return The reason to keep the chunk, or null to queue it for unload
+     */
+    @Nullable ChunkRetentionReason retain(Chunk chunk, long now, long lastUsed);
+
+}
@@ -0,0 +1,60 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.gc;
+
+/**
+ * The reasons for the chunk gc to keep a loaded chunk.
+ */
+public enum ChunkRetentionReason {
+
+    /**
+     * The chunk is kept loaded by a plugin or mod.
+     */
+    PERSISTED,
+    /**
+     * The world provider doesn't allow the chunk to be dropped, like spawn
+     * chunks.
+     */
+    UNDROPPABLE,
+    /**
+     * A player is using the chunk.
+     */
+    IN_USE,
+    /**
+     * The chunk was used recently, kept by the {@code lru} policy.
+     */
+    RECENTLY_USED,
+    /**
+     * An entity in the chunk was active recently, kept by the
+     * {@code idle-entities} policy.
+     */
+    ENTITY_ACTIVITY,
+    /**
+     * There is enough free memory, kept by the {@code memory-pressure}
+     * policy.
+     */
+    MEMORY_AVAILABLE
+
+}
@@ -0,0 +1,175 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.gc;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Selects the chunks to unload in a tick out of all chunks queued for
+ * unload, without sorting all of them. Chunks scheduled for unload the
+ * longest go first, ties go to the chunk furthest from any player.
+ *
+ * <p>Only the best {@code limit} candidates are kept, in a heap whose root
+ * is the kept candidate which would be unloaded last. Callers can check
+ * {@link #accepts(long)} before working out the distance of a candidate.</p>
+ *
+ * @param <T> The type of chunk
+ */
+public final class UnloadCandidateSelector<T> {
+
+    private Object[] candidates = new Object[16];
+    private long[] scheduled = new long[16];
+    private long[] distances = new long[16];
+    private int size;
+    private int limit;
+
+    /**
+     * Clears the selector for a new selection.
+     *
+     * @param limit The maximum amount of candidates to keep
+     */
+    public void reset(int limit) {
+        Arrays.fill(this.candidates, 0, this.size, null);
+        this.size = 0;
+        this.limit = Math.max(limit, 0);
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets whether a candidate scheduled for unload at the given time could
+     * be kept, depending on its distance.
+     *
+     * @param scheduledTime The time the candidate was scheduled for unload
+     * @return False if the candidate would be unloaded after every kept one
+     */
+    public boolean accepts(long scheduledTime) {
+        return this.size < this.limit || (this.size > 0 && scheduledTime <= this.scheduled[0]);
+    }
+
+    /**
+     * Offers a candidate, keeping it if it is among the best candidates so
+     * far.
+     *
+     * @param candidate The candidate
+     * @param scheduledTime The time the candidate was scheduled for unload
+     * @param distance The distance of the candidate to the nearest player
+     */
+    public void offer(T candidate, long scheduledTime, long distance) {
+        if (this.size < this.limit) {
+            if (this.size == this.candidates.length) {
+                final int capacity = Math.min(this.limit, this.size * 2);
+                this.candidates = Arrays.copyOf(this.candidates, capacity);
+                this.scheduled = Arrays.copyOf(this.scheduled, capacity);
+                this.distances = Arrays.copyOf(this.distances, capacity);
+            }
+            this.set(this.size, candidate, scheduledTime, distance);
+            this.siftUp(this.size++);
+        } else if (this.size > 0 && unloadsBefore(scheduledTime, distance, this.scheduled[0], this.distances[0])) {
+            this.set(0, candidate, scheduledTime, distance);
+            this.siftDown(0);
+        }
+    }
+
+    /**
+     * Passes the kept candidates to the given consumer in the order they
+     * should be unloaded, and clears the selector.
+     *
+     * @param consumer The consumer
+     */
+    @SuppressWarnings("unchecked")
+    public void drain(Consumer<T> consumer) {
+        final int count = this.size;
+        final Object[] ordered = new Object[count];
+        // The root is unloaded last, so fill from the back
+        for (int i = count - 1; i >= 0; i--) {
+            ordered[i] = this.candidates[0];
+            this.size--;
+            this.move(this.size, 0);
+            this.candidates[this.size] = null;
+            this.siftDown(0);
+        }
+        for (Object candidate : ordered) {
+            consumer.accept((T) candidate);
+        }
+    }
+
+    private static boolean unloadsBefore(long scheduledTime, long distance, long otherScheduledTime, long otherDistance) {
+        return scheduledTime < otherScheduledTime || (scheduledTime == otherScheduledTime && distance > otherDistance);
+    }
+
+    private boolean unloadsBefore(int index, int other) {
+        return unloadsBefore(this.scheduled[index], this.distances[index], this.scheduled[other], this.distances[other]);
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            final int parent = (index - 1) >>> 1;
+            if (!this.unloadsBefore(parent, index)) {
+                return;
+            }
+            this.swap(parent, index);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            final int left = 2 * index + 1;
+            if (left >= this.size) {
+                return;
+            }
+            final int right = left + 1;
+            final int later = right < this.size && this.unloadsBefore(left, right) ? right : left;
+            if (!this.unloadsBefore(index, later)) {
+                return;
+            }
+            this.swap(index, later);
+            index = later;
+        }
+    }
+
+    private void set(int index, Object candidate, long scheduledTime, long distance) {
+        this.candidates[index] = candidate;
+        this.scheduled[index] = scheduledTime;
+        this.distances[index] = distance;
+    }
+
+    private void move(int from, int to) {
+        this.set(to, this.candidates[from], this.scheduled[from], this.distances[from]);
+    }
+
+    private void swap(int first, int second) {
+        final Object candidate = this.candidates[first];
+        final long scheduledTime = this.scheduled[first];
+        final long distance = this.distances[first];
+        this.move(second, first);
+        this.set(second, candidate, scheduledTime, distance);
+    }
+
+}
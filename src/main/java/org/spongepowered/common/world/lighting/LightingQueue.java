@@ -0,0 +1,282 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.lighting;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.config.category.AsyncLightingCategory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The asynchronous lighting work of a single world.
+ *
+ * <p>Light updates are grouped into one batch per chunk and light type (see
+ * {@link QueuedLightUpdates}), which deduplicates and merges updates before
+ * they reach the executor. The number of batches waiting for or running on
+ * a lighting thread is bounded. Once the bound is reached new batches are
+ * either deferred until the queue drains or relit synchronously, depending
+ * on the configuration. At most {@code max-deferred-batches} batches are
+ * deferred, any further batch is relit synchronously.</p>
+ *
+ * <p>Every lighting task of a world goes through this queue, including the
+ * gap and light checks chunks schedule themselves. Batches submitted off the
+ * main thread are never deferred, they run on the submitting thread while
+ * the queue is full.</p>
+ */
+public final class LightingQueue {
+
+    private final ExecutorService executor;
+    private final int maxQueuedBatches;
+    private final int maxDeferredBatches;
+    private final boolean deferWhenFull;
+    // Deferred batches are only touched by the main thread
+    private final Deque<Batch> deferred = new ArrayDeque<>();
+
+    private final AtomicInteger queuedBatches = new AtomicInteger();
+    private final AtomicInteger queuedPositions = new AtomicInteger();
+    private final AtomicLong completedBatches = new AtomicLong();
+    private final AtomicLong relitPositions = new AtomicLong();
+    private final AtomicLong mergedUpdates = new AtomicLong();
+    private final AtomicLong droppedUpdates = new AtomicLong();
+    private final AtomicLong deferredBatches = new AtomicLong();
+    private final AtomicLong synchronousBatches = new AtomicLong();
+    private final AtomicLong totalLatency = new AtomicLong();
+    private final AtomicLong maxLatency = new AtomicLong();
+
+    public LightingQueue(AsyncLightingCategory config) {
+        this.maxQueuedBatches = Math.max(1, config.getMaxQueuedBatches());
+        this.maxDeferredBatches = Math.max(0, config.getMaxDeferredBatches());
+        this.deferWhenFull = config.deferWhenQueueFull();
+        // Slots are reserved before a batch is handed over, so the executor's queue never
+        // fills up and only rejects batches once it has been shut down
+        this.executor = new ThreadPoolExecutor(config.getNumThreads(), config.getNumThreads(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(this.maxQueuedBatches),
+                new ThreadFactoryBuilder().setNameFormat("Sponge - Async Light Thread").build(), new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public ExecutorService getExecutor() {
+        return this.executor;
+    }
+
+    public boolean isShutdown() {
+        return this.executor.isShutdown();
+    }
+
+    /**
+     * Submits a light batch, applying backpressure if too many batches are
+     * queued already.
+     *
+     * @param batch The batch to run
+     * @return False if the batch was dropped because the queue is shut down
+     */
+    public boolean submit(Runnable batch) {
+        if (this.executor.isShutdown()) {
+            return false;
+        }
+        final Batch queued = new Batch(batch);
+        final boolean isMainThread = SpongeImplHooks.isMainThread();
+        // Deferred batches of the main thread go first, so later updates don't overtake them
+        if ((!isMainThread || this.deferred.isEmpty()) && this.reserve()) {
+            return this.execute(queued);
+        }
+        if (isMainThread && this.deferWhenFull && this.deferred.size() < this.maxDeferredBatches) {
+            this.deferredBatches.incrementAndGet();
+            this.deferred.add(queued);
+        } else {
+            this.synchronousBatches.incrementAndGet();
+            queued.run();
+        }
+        return true;
+    }
+
+    /**
+     * Hands deferred batches to the executor as long as the queue has room.
+     * Called once per world tick.
+     */
+    public void flushDeferred() {
+        while (!this.deferred.isEmpty() && this.reserve()) {
+            if (!this.execute(this.deferred.poll())) {
+                this.deferred.clear();
+                return;
+            }
+        }
+    }
+
+    private boolean reserve() {
+        if (this.queuedBatches.incrementAndGet() > this.maxQueuedBatches) {
+            this.queuedBatches.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    private boolean execute(Batch batch) {
+        try {
+            this.executor.execute(() -> {
+                try {
+                    batch.run();
+                } finally {
+                    this.queuedBatches.decrementAndGet();
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            // The world is unloading, the executor has been shut down
+            this.queuedBatches.decrementAndGet();
+            return false;
+        }
+    }
+
+    public void recordQueuedUpdate() {
+        this.queuedPositions.incrementAndGet();
+    }
+
+    public void recordMergedUpdate() {
+        this.mergedUpdates.incrementAndGet();
+    }
+
+    public void recordRelitUpdates(int count) {
+        this.queuedPositions.addAndGet(-count);
+        this.relitPositions.addAndGet(count);
+    }
+
+    public void recordDroppedUpdates(int count) {
+        this.queuedPositions.addAndGet(-count);
+        this.droppedUpdates.addAndGet(count);
+    }
+
+    /**
+     * Gets the number of batches waiting for or running on a lighting thread.
+     *
+     * @return The number of queued batches
+     */
+    public int getQueuedBatches() {
+        return this.queuedBatches.get();
+    }
+
+    public int getDeferredBatchCount() {
+        return this.deferred.size();
+    }
+
+    public int getMaxDeferredBatches() {
+        return this.maxDeferredBatches;
+    }
+
+    public int getMaxQueuedBatches() {
+        return this.maxQueuedBatches;
+    }
+
+    /**
+     * Gets the number of positions which are queued but not yet relit.
+     *
+     * @return The number of queued positions
+     */
+    public int getQueuedUpdates() {
+        return Math.max(0, this.queuedPositions.get());
+    }
+
+    public long getCompletedBatches() {
+        return this.completedBatches.get();
+    }
+
+    public long getRelitUpdates() {
+        return this.relitPositions.get();
+    }
+
+    /**
+     * Gets the number of light updates which were merged into an already
+     * queued update or batch instead of being submitted on their own.
+     *
+     * @return The number of merged updates
+     */
+    public long getMergedUpdates() {
+        return this.mergedUpdates.get();
+    }
+
+    public long getDroppedUpdates() {
+        return this.droppedUpdates.get();
+    }
+
+    public long getTotalDeferredBatches() {
+        return this.deferredBatches.get();
+    }
+
+    public long getTotalSynchronousBatches() {
+        return this.synchronousBatches.get();
+    }
+
+    /**
+     * Gets the average time between submitting a batch and it being
+     * completely relit.
+     *
+     * @param unit The time unit
+     * @return The average completion latency
+     */
+    public double getAverageLatency(TimeUnit unit) {
+        final long completed = this.completedBatches.get();
+        if (completed == 0) {
+            return 0;
+        }
+        return (double) this.totalLatency.get() / completed / unit.toNanos(1);
+    }
+
+    public long getMaxLatency(TimeUnit unit) {
+        return unit.convert(this.maxLatency.get(), TimeUnit.NANOSECONDS);
+    }
+
+    private void recordLatency(long latency) {
+        this.completedBatches.incrementAndGet();
+        this.totalLatency.addAndGet(latency);
+        this.maxLatency.accumulateAndGet(latency, Math::max);
+    }
+
+    private final class Batch implements Runnable {
+
+        private final Runnable task;
+        private final long submitTime = System.nanoTime();
+
+        Batch(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            try {
+                this.task.run();
+            } finally {
+                LightingQueue.this.recordLatency(System.nanoTime() - this.submitTime);
+            }
+        }
+    }
+}
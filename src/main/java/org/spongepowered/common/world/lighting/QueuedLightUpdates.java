@@ -0,0 +1,131 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.lighting;
+
+import it.unimi.dsi.fastutil.shorts.ShortArrayList;
+import it.unimi.dsi.fastutil.shorts.ShortOpenHashSet;
+
+/**
+ * Tracks the block positions of a single chunk which are queued for a
+ * light update of one light type. Positions are packed into a short
+ * (4 bits x, 8 bits y, 4 bits z) and stored without boxing.
+ *
+ * <p>A position stays queued from the moment it is added until it has been
+ * relit, which deduplicates repeated checks of the same block. Positions that
+ * still need to be handed to a lighting task are additionally kept in insertion
+ * order so that a single task can {@link #drain() drain} and relight all of them
+ * at once.</p>
+ */
+public final class QueuedLightUpdates {
+
+    private static final short[] EMPTY = new short[0];
+
+    private final ShortOpenHashSet queued = new ShortOpenHashSet();
+    private final ShortArrayList pending = new ShortArrayList();
+    private boolean scheduled;
+
+    public synchronized boolean contains(short pos) {
+        return this.queued.contains(pos);
+    }
+
+    /**
+     * Marks the position as queued without handing it to a batch.
+     *
+     * @param pos The packed position
+     * @return True if the position was not queued yet
+     */
+    public synchronized boolean add(short pos) {
+        return this.queued.add(pos);
+    }
+
+    /**
+     * Marks the position as queued and adds it to the next batch.
+     *
+     * @param pos The packed position
+     * @return True if the position was not queued yet
+     */
+    public synchronized boolean enqueue(short pos) {
+        if (!this.queued.add(pos)) {
+            return false;
+        }
+        this.pending.add(pos);
+        return true;
+    }
+
+    public synchronized boolean remove(short pos) {
+        return this.queued.remove(pos);
+    }
+
+    /**
+     * Claims the batch of this queue for a new lighting task.
+     *
+     * @return True if positions are waiting and no task is draining them yet
+     */
+    public synchronized boolean schedule() {
+        if (this.scheduled || this.pending.isEmpty()) {
+            return false;
+        }
+        this.scheduled = true;
+        return true;
+    }
+
+    /**
+     * Takes all positions waiting to be relit. Once this returns an empty
+     * array the claiming task is released and the next {@link #enqueue}d
+     * position has to be {@link #schedule() scheduled} again.
+     *
+     * @return The waiting positions, in the order they were enqueued
+     */
+    public synchronized short[] drain() {
+        if (this.pending.isEmpty()) {
+            this.scheduled = false;
+            return EMPTY;
+        }
+        final short[] positions = this.pending.toShortArray();
+        this.pending.clear();
+        return positions;
+    }
+
+    /**
+     * Discards all queued positions and releases the claiming task.
+     *
+     * @return The number of positions which were still waiting to be relit
+     */
+    public synchronized int clear() {
+        final int discarded = this.pending.size();
+        this.pending.clear();
+        this.queued.clear();
+        this.scheduled = false;
+        return discarded;
+    }
+
+    public synchronized int size() {
+        return this.queued.size();
+    }
+
+    public synchronized boolean isEmpty() {
+        return this.queued.isEmpty();
+    }
+}
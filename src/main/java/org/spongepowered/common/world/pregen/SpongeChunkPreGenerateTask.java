@@ -30,6 +30,8 @@
 import com.flowpowered.math.GenericMath;
 import com.flowpowered.math.vector.Vector3d;
 import com.flowpowered.math.vector.Vector3i;
+import net.minecraft.world.chunk.storage.IChunkLoader;
+import net.minecraft.world.gen.ChunkProviderServer;
 import org.apache.commons.lang3.time.DurationFormatUtils;
 import org.slf4j.Logger;
 import org.spongepowered.api.Sponge;
@@ -43,8 +45,8 @@
 import org.spongepowered.api.world.World;
 import org.spongepowered.api.world.WorldBorder;
 import org.spongepowered.api.world.storage.WorldProperties;
-import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.bridge.world.ServerChunkProviderBridge;
+import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
 
 import java.time.Duration;
@@ -52,8 +54,6 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -353,15 +353,14 @@ private boolean checkTickTime(long tickTime) {
     }
 
     private boolean checkChunkExistsAnvil(Vector3i v) {
-        CompletableFuture<Boolean> ret = ((ServerChunkProviderBridge) world.getWorldStorage()).doesChunkExistSync(v);
-        try {
-            return ret.get();
-        } catch (InterruptedException | ExecutionException e) {
-            SpongeImpl.getLogger().error(
-                    "Could not determine chunk's existence on world {}: {} {}. Assuming false.",
-                    world.getName(), v.getX(), v.getZ());
+        // Ask the chunk loader directly, which checks the pending saves and the
+        // offset table of the memory mapped region file without wrapping each
+        // check in a future.
+        final IChunkLoader chunkLoader = ((ChunkProviderServer) this.world.getWorldStorage()).chunkLoader;
+        if (!(chunkLoader instanceof IMixinAnvilChunkLoader) || !SpongeChunkLayout.instance.isValidChunk(v.getX(), v.getY(), v.getZ())) {
             return false;
         }
+        return ((IMixinAnvilChunkLoader) chunkLoader).chunkExists((net.minecraft.world.World) this.world, v.getX(), v.getZ());
     }
 
     public static class Builder implements ChunkPreGenerate.Builder {
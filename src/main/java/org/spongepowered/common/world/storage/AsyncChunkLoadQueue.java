@@ -0,0 +1,244 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.Chunk;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
+import org.spongepowered.common.relocate.co.aikar.timings.WorldTimingsHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+/**
+ * Loads the chunks of a world in two stages. The chunk compound is read
+ * from the pending saves or the region file, decompressed and run through
+ * the data fixers on a shared pool of IO threads, in the order of the
+ * requested priority. The chunk is then created from the compound and
+ * attached to the world on the main thread by {@link #finishLoads}.
+ *
+ * <p>All methods besides the reads themselves are only called from the main
+ * thread.</p>
+ */
+public final class AsyncChunkLoadQueue {
+
+    /**
+     * Creates the chunk from an asynchronously read compound on the main
+     * thread and adds it to the world.
+     */
+    @FunctionalInterface
+    public interface Finisher {
+
+        /**
+         * Finishes the load of a chunk.
+         *
+         * @param x The chunk x coordinate
+         * @param z The chunk z coordinate
+         * @param compound The chunk compound, or null if the chunk wasn't saved or couldn't be read
+         * @return The loaded chunk, or null if there is none
+         */
+        @Nullable Chunk finish(int x, int z, @Nullable NBTTagCompound compound);
+    }
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+    @Nullable private static ExecutorService executor;
+
+    private static synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(
+                SpongeImpl.getGlobalConfigAdapter().getConfig().getOptimizations().getAsyncChunkLoadingCategory().getNumThreads(),
+                new ThreadFactoryBuilder()
+                    .setNameFormat("Sponge - Chunk Load Thread #%d")
+                    .setDaemon(true)
+                    .build());
+        }
+        return executor;
+    }
+
+    private final IMixinAnvilChunkLoader chunkLoader;
+    private final Long2ObjectMap<PendingLoad> pending = new Long2ObjectOpenHashMap<>();
+    private final PriorityBlockingQueue<PendingLoad> toRead = new PriorityBlockingQueue<>();
+    private final Queue<PendingLoad> read = new ConcurrentLinkedQueue<>();
+
+    public AsyncChunkLoadQueue(IMixinAnvilChunkLoader chunkLoader) {
+        this.chunkLoader = chunkLoader;
+    }
+
+    /**
+     * Requests the chunk to be loaded. The callback is called on the main
+     * thread with the loaded chunk, or null if the chunk doesn't exist yet or
+     * couldn't be read.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @param priority The priority, lower values are read first
+     * @param callback The callback
+     */
+    public void request(int x, int z, int priority, Consumer<Chunk> callback) {
+        final long key = ChunkPos.asLong(x, z);
+        PendingLoad load = this.pending.get(key);
+        if (load != null) {
+            load.callbacks.add(callback);
+            if (priority < load.priority && this.toRead.remove(load)) {
+                load.priority = priority;
+                this.toRead.add(load);
+            }
+            return;
+        }
+        load = new PendingLoad(x, z, priority);
+        load.callbacks.add(callback);
+        this.pending.put(key, load);
+        this.toRead.add(load);
+        // Every task reads whichever pending chunk has the highest priority at that point
+        getExecutor().execute(this::readNext);
+    }
+
+    /**
+     * Withdraws a request. The load is dropped once no callbacks are left,
+     * if the chunk wasn't read yet it won't be.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @param callback The callback which was requested
+     */
+    public void cancel(int x, int z, Consumer<Chunk> callback) {
+        final long key = ChunkPos.asLong(x, z);
+        final PendingLoad load = this.pending.get(key);
+        if (load == null || !load.callbacks.remove(callback) || !load.callbacks.isEmpty()) {
+            return;
+        }
+        this.pending.remove(key);
+        load.cancelled = true;
+        this.toRead.remove(load);
+    }
+
+    /**
+     * Completes a pending load with a chunk which was loaded synchronously
+     * in the meantime, the asynchronously read compound is outdated then.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @param chunk The loaded chunk
+     */
+    public void complete(int x, int z, @Nullable Chunk chunk) {
+        final PendingLoad load = this.pending.remove(ChunkPos.asLong(x, z));
+        if (load == null) {
+            return;
+        }
+        load.cancelled = true;
+        this.toRead.remove(load);
+        for (Consumer<Chunk> callback : load.callbacks) {
+            callback.accept(chunk);
+        }
+    }
+
+    /**
+     * Finishes the loads whose chunks were read, until the deadline passes.
+     *
+     * @param deadline The deadline in {@link System#nanoTime()}
+     * @param finisher Creates and adds the chunks
+     * @param timings The timings of the world
+     */
+    public void finishLoads(long deadline, Finisher finisher, WorldTimingsHandler timings) {
+        PendingLoad load;
+        while ((load = this.read.poll()) != null) {
+            if (load.cancelled) {
+                continue;
+            }
+            this.pending.remove(ChunkPos.asLong(load.x, load.z));
+            final Chunk chunk = finisher.finish(load.x, load.z, load.compound);
+            timings.recordAsyncChunkLoadLatency(System.nanoTime() - load.requestTime);
+            for (Consumer<Chunk> callback : load.callbacks) {
+                callback.accept(chunk);
+            }
+            if (System.nanoTime() >= deadline) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Gets the amount of chunks requested which weren't loaded yet.
+     *
+     * @return The amount of pending loads
+     */
+    public int getPendingCount() {
+        return this.pending.size();
+    }
+
+    private void readNext() {
+        final PendingLoad load = this.toRead.poll();
+        if (load == null || load.cancelled) {
+            return;
+        }
+        try {
+            load.compound = this.chunkLoader.readChunkCompound(load.x, load.z);
+        } catch (Exception e) {
+            // The chunk is loaded synchronously instead by whoever requested it
+            SpongeImpl.getLogger().error("Couldn't read chunk {}, {} asynchronously", load.x, load.z, e);
+        }
+        this.read.add(load);
+    }
+
+    private static final class PendingLoad implements Comparable<PendingLoad> {
+
+        final int x;
+        final int z;
+        final long sequence = SEQUENCE.getAndIncrement();
+        final long requestTime = System.nanoTime();
+        final List<Consumer<Chunk>> callbacks = new ArrayList<>(1);
+        int priority;
+        volatile boolean cancelled;
+        // Published to the main thread through the read queue
+        @Nullable NBTTagCompound compound;
+
+        PendingLoad(int x, int z, int priority) {
+            this.x = x;
+            this.z = z;
+            this.priority = priority;
+        }
+
+        @Override
+        public int compareTo(PendingLoad other) {
+            final int compare = Integer.compare(this.priority, other.priority);
+            return compare != 0 ? compare : Long.compare(this.sequence, other.sequence);
+        }
+    }
+
+}
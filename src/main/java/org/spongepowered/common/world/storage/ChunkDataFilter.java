@@ -0,0 +1,116 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.flowpowered.math.vector.Vector3i;
+
+import java.time.Instant;
+
+/**
+ * Selects which chunks of a {@link SpongeChunkDataStream} are read. The
+ * filter is evaluated against the offset and timestamp tables of the region
+ * files, so chunks which don't match are never decompressed and region
+ * files outside of the chunk bounds are skipped entirely.
+ */
+public final class ChunkDataFilter {
+
+    public static final ChunkDataFilter ALL = new ChunkDataFilter(Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, 0);
+
+    private final int minX;
+    private final int minZ;
+    private final int maxX;
+    private final int maxZ;
+    private final long modifiedSince;
+
+    private ChunkDataFilter(int minX, int minZ, int maxX, int maxZ, long modifiedSince) {
+        this.minX = minX;
+        this.minZ = minZ;
+        this.maxX = maxX;
+        this.maxZ = maxZ;
+        this.modifiedSince = modifiedSince;
+    }
+
+    /**
+     * Limits the chunks to the given range of chunk coordinates, the y
+     * coordinates are ignored.
+     *
+     * @param min The minimum chunk coordinates, inclusive
+     * @param max The maximum chunk coordinates, inclusive
+     * @return The new filter
+     */
+    public ChunkDataFilter withinChunks(Vector3i min, Vector3i max) {
+        return new ChunkDataFilter(Math.min(min.getX(), max.getX()), Math.min(min.getZ(), max.getZ()),
+            Math.max(min.getX(), max.getX()), Math.max(min.getZ(), max.getZ()), this.modifiedSince);
+    }
+
+    /**
+     * Limits the chunks to the ones saved at or after the given time.
+     *
+     * @param instant The time
+     * @return The new filter
+     */
+    public ChunkDataFilter modifiedSince(Instant instant) {
+        return new ChunkDataFilter(this.minX, this.minZ, this.maxX, this.maxZ, instant.getEpochSecond());
+    }
+
+    /**
+     * Gets whether any chunk of the given region may match.
+     *
+     * @param regionX The region x coordinate
+     * @param regionZ The region z coordinate
+     * @return Whether the region intersects the chunk bounds
+     */
+    public boolean testRegion(int regionX, int regionZ) {
+        return regionX >= this.minX >> 5 && regionX <= this.maxX >> 5 && regionZ >= this.minZ >> 5 && regionZ <= this.maxZ >> 5;
+    }
+
+    /**
+     * Gets the indexes of the chunks of the region file which match.
+     *
+     * @param regionFile The region file
+     * @return The chunk indexes, in ascending order
+     */
+    public int[] getChunkIndexes(MappedRegionFile regionFile) {
+        final int[] indexes = regionFile.getChunkIndexes();
+        if (this == ALL) {
+            return indexes;
+        }
+        final int baseX = regionFile.getRegionX() << 5;
+        final int baseZ = regionFile.getRegionZ() << 5;
+        int count = 0;
+        for (int index : indexes) {
+            final int chunkX = baseX + (index & 31);
+            final int chunkZ = baseZ + (index >> 5);
+            if (chunkX >= this.minX && chunkX <= this.maxX && chunkZ >= this.minZ && chunkZ <= this.maxZ
+                && regionFile.getTimestamp(index) >= this.modifiedSince) {
+                indexes[count++] = index;
+            }
+        }
+        final int[] result = new int[count];
+        System.arraycopy(indexes, 0, result, 0, count);
+        return result;
+    }
+
+}
@@ -0,0 +1,395 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import net.minecraft.world.chunk.storage.RegionFile;
+import org.spongepowered.common.mixin.core.world.chunk.storage.AccessorRegionFile;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import javax.annotation.Nullable;
+
+/**
+ * A read only view of an Anvil region file which is memory mapped instead
+ * of read through a {@link java.io.RandomAccessFile} like the vanilla
+ * {@link net.minecraft.world.chunk.storage.RegionFile}.
+ *
+ * <p>The offset table is read straight from the mapping, so checking
+ * whether a chunk exists neither copies nor decompresses anything, and
+ * never creates missing region files. Chunk data is inflated from slices
+ * of the mapping, which may be read from multiple threads at once.</p>
+ *
+ * <p>Mappings can't be released on demand, they only go away once garbage
+ * collected, and on Windows a mapped file can't be written to freely. So
+ * files the {@link net.minecraft.world.chunk.storage.RegionFileCache} writes
+ * to are dropped from the cache and not mapped again until it closes its
+ * files. Until then all reads of such a file go through the open
+ * {@link RegionFile}, holding its lock, so they never see a half written
+ * chunk. Reads of a mapping copy the chunk first and are retried through
+ * the {@link RegionFile} if a write started in the meantime. The cache is
+ * cleared on world saves and unloads as well.</p>
+ */
+public final class MappedRegionFile {
+
+    private static final int SECTOR_SIZE = 4096;
+    private static final int HEADER_SIZE = SECTOR_SIZE * 2;
+    private static final int CHUNKS_PER_REGION = 1024;
+    private static final int VERSION_GZIP = 1;
+    private static final int VERSION_DEFLATE = 2;
+
+    private static final Pattern FILE_NAME_PATTERN = Pattern.compile("r\\.(-?\\d+)\\.(-?\\d+)\\.mca");
+
+    private static final Cache<Path, MappedRegionFile> CACHE = CacheBuilder.newBuilder()
+        .maximumSize(256)
+        .expireAfterAccess(1, TimeUnit.MINUTES)
+        .build();
+    // The region files the RegionFileCache currently writes to
+    private static final Map<Path, RegionFile> WRITABLE_FILES = new ConcurrentHashMap<>();
+    // Bumped whenever a file becomes writable, after it was added to WRITABLE_FILES
+    private static final AtomicLong WRITE_EPOCH = new AtomicLong();
+
+    /**
+     * Gets the mapped region file containing the given chunk, if the file
+     * exists.
+     *
+     * @param worldDir The world directory
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @return The region file, or null if it does not exist
+     * @throws IOException If the file could not be mapped
+     */
+    @Nullable
+    public static MappedRegionFile get(File worldDir, int chunkX, int chunkZ) throws IOException {
+        return get(getPath(worldDir, chunkX, chunkZ));
+    }
+
+    private static Path getPath(File worldDir, int chunkX, int chunkZ) {
+        return worldDir.toPath().resolve("region").resolve("r." + (chunkX >> 5) + "." + (chunkZ >> 5) + ".mca").toAbsolutePath().normalize();
+    }
+
+    /**
+     * Called when the {@link net.minecraft.world.chunk.storage.RegionFileCache}
+     * is about to write the given chunk to its region file. Files which are
+     * only opened for reading stay mapped.
+     *
+     * @param worldDir The world directory
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @param regionFile The open region file
+     */
+    public static void onRegionFileWrite(File worldDir, int chunkX, int chunkZ, RegionFile regionFile) {
+        final Path file = getPath(worldDir, chunkX, chunkZ);
+        if (WRITABLE_FILES.put(file, regionFile) != regionFile) {
+            WRITE_EPOCH.incrementAndGet();
+            CACHE.invalidate(file);
+        }
+    }
+
+    /**
+     * Called when the {@link net.minecraft.world.chunk.storage.RegionFileCache}
+     * closes all of its region files.
+     */
+    public static void onRegionFilesClosed() {
+        WRITABLE_FILES.clear();
+        CACHE.invalidateAll();
+    }
+
+    /**
+     * Drops the mappings of all region files within the given directory, so
+     * they can be released once no longer read.
+     *
+     * @param directory The world directory
+     */
+    public static void invalidate(File directory) {
+        final Path path = directory.toPath().toAbsolutePath().normalize();
+        CACHE.asMap().keySet().removeIf(file -> file.startsWith(path));
+    }
+
+    /**
+     * Gets the mapped region file at the given path, if the file exists
+     * and is named like a region file.
+     *
+     * @param file The path of the region file
+     * @return The region file, or null if it does not exist or isn't a region file
+     * @throws IOException If the file could not be mapped
+     */
+    @Nullable
+    public static MappedRegionFile get(Path file) throws IOException {
+        final Path path = file.toAbsolutePath().normalize();
+        if (WRITABLE_FILES.containsKey(path)) {
+            // Not mapped nor cached, reads go through the open region file
+            return open(path, false);
+        }
+        MappedRegionFile regionFile = CACHE.getIfPresent(path);
+        if (regionFile == null) {
+            // Missing files aren't cached, they may be created by the next save
+            regionFile = open(path, true);
+            if (regionFile != null) {
+                CACHE.put(path, regionFile);
+            }
+        }
+        return regionFile;
+    }
+
+    @Nullable
+    private static MappedRegionFile open(Path file, boolean mapped) throws IOException {
+        final Matcher matcher = FILE_NAME_PATTERN.matcher(file.getFileName().toString());
+        if (!matcher.matches() || !Files.isRegularFile(file)) {
+            return null;
+        }
+        MappedByteBuffer buffer = null;
+        if (mapped) {
+            buffer = map(file);
+            if (buffer == null) {
+                return null;
+            }
+        }
+        return new MappedRegionFile(file, Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)), buffer);
+    }
+
+    @Nullable
+    private static MappedByteBuffer map(Path file) throws IOException {
+        // The mapping stays valid after the channel is closed
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size < HEADER_SIZE) {
+                return null;
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    private final Path file;
+    private final int regionX;
+    private final int regionZ;
+    // The mapping is shared with the page cache, so the header reflects saves made
+    // after it was mapped, but chunks appended afterwards need a new mapping. Null
+    // until first needed if the file was writable when this view was opened.
+    @Nullable private volatile MappedByteBuffer buffer;
+
+    private MappedRegionFile(Path file, int regionX, int regionZ, @Nullable MappedByteBuffer buffer) {
+        this.file = file;
+        this.regionX = regionX;
+        this.regionZ = regionZ;
+        this.buffer = buffer;
+    }
+
+    public int getRegionX() {
+        return this.regionX;
+    }
+
+    public int getRegionZ() {
+        return this.regionZ;
+    }
+
+    private static int getIndex(int chunkX, int chunkZ) {
+        return (chunkX & 31) + (chunkZ & 31) * 32;
+    }
+
+    @Nullable
+    private MappedByteBuffer getBuffer() {
+        final MappedByteBuffer buffer = this.buffer;
+        if (buffer != null) {
+            return buffer;
+        }
+        try {
+            return remap(HEADER_SIZE);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private int getOffset(MappedByteBuffer buffer, int index) {
+        return buffer.getInt(index * 4);
+    }
+
+    /**
+     * Gets the time the chunk at the given index was last saved.
+     *
+     * @param index The index of the chunk
+     * @return The time in seconds since the epoch, or 0 if the chunk does not exist
+     */
+    public long getTimestamp(int index) {
+        final RegionFile regionFile = WRITABLE_FILES.get(this.file);
+        if (regionFile != null) {
+            return ((AccessorRegionFile) regionFile).accessor$getChunkTimestamps()[index] & 0xFFFFFFFFL;
+        }
+        final MappedByteBuffer buffer = getBuffer();
+        return buffer == null ? 0 : buffer.getInt(SECTOR_SIZE + index * 4) & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Gets whether the given chunk is stored in this region file.
+     *
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @return Whether the chunk exists
+     */
+    public boolean hasChunk(int chunkX, int chunkZ) {
+        final RegionFile regionFile = WRITABLE_FILES.get(this.file);
+        if (regionFile != null) {
+            return regionFile.isChunkSaved(chunkX & 31, chunkZ & 31);
+        }
+        final MappedByteBuffer buffer = getBuffer();
+        return buffer != null && getOffset(buffer, getIndex(chunkX, chunkZ)) != 0;
+    }
+
+    /**
+     * Gets the indexes of all chunks stored in this region file, where the
+     * index of a chunk is {@code x + z * 32} in region local coordinates.
+     *
+     * @return The chunk indexes, in ascending order
+     */
+    public int[] getChunkIndexes() {
+        final int[] indexes = new int[CHUNKS_PER_REGION];
+        int count = 0;
+        final RegionFile regionFile = WRITABLE_FILES.get(this.file);
+        final MappedByteBuffer buffer = regionFile == null ? getBuffer() : null;
+        for (int index = 0; index < CHUNKS_PER_REGION; index++) {
+            final boolean exists;
+            if (regionFile != null) {
+                exists = regionFile.isChunkSaved(index & 31, index >> 5);
+            } else {
+                exists = buffer != null && getOffset(buffer, index) != 0;
+            }
+            if (exists) {
+                indexes[count++] = index;
+            }
+        }
+        final int[] result = new int[count];
+        System.arraycopy(indexes, 0, result, 0, count);
+        return result;
+    }
+
+    /**
+     * Opens a stream of the decompressed data of the chunk at the given
+     * index.
+     *
+     * @param index The index of the chunk
+     * @return The data stream, or null if the chunk does not exist or is corrupted
+     * @throws IOException If the file could not be mapped
+     */
+    @Nullable
+    public DataInputStream getChunkDataInputStream(int index) throws IOException {
+        while (true) {
+            // Read the epoch before checking whether the file is writable, so a
+            // writer registering in between is noticed once the data is copied
+            final long epoch = WRITE_EPOCH.get();
+            final RegionFile regionFile = WRITABLE_FILES.get(this.file);
+            if (regionFile != null) {
+                // Synchronized with the writes of the region file
+                return regionFile.getChunkDataInputStream(index & 31, index >> 5);
+            }
+            final byte[] data = readChunkData(index);
+            if (WRITE_EPOCH.get() != epoch) {
+                // The file may have been written while it was copied
+                continue;
+            }
+            if (data == null || data.length == 0) {
+                return null;
+            }
+            final int version = data[0];
+            final InputStream stream = new ByteArrayInputStream(data, 1, data.length - 1);
+            if (version == VERSION_GZIP) {
+                return new DataInputStream(new BufferedInputStream(new GZIPInputStream(stream)));
+            } else if (version == VERSION_DEFLATE) {
+                return new DataInputStream(new BufferedInputStream(new InflaterInputStream(stream)));
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Copies the compression version and compressed data of the chunk at the
+     * given index out of the mapping.
+     */
+    @Nullable
+    private byte[] readChunkData(int index) throws IOException {
+        MappedByteBuffer buffer = getBuffer();
+        if (buffer == null) {
+            return null;
+        }
+        final int offset = getOffset(buffer, index);
+        if (offset == 0) {
+            return null;
+        }
+        final long start = (long) (offset >> 8) * SECTOR_SIZE;
+        final int sectors = offset & 0xFF;
+        if (sectors == 0 || start < HEADER_SIZE) {
+            return null;
+        }
+        if (start + (long) sectors * SECTOR_SIZE > buffer.capacity()) {
+            buffer = remap(start + (long) sectors * SECTOR_SIZE);
+            if (buffer == null) {
+                return null;
+            }
+        }
+        final int length = buffer.getInt((int) start);
+        // The length doesn't include its own four bytes
+        if (length <= 0 || length + 4 > sectors * SECTOR_SIZE) {
+            return null;
+        }
+        final byte[] data = new byte[length];
+        final ByteBuffer view = buffer.duplicate();
+        view.position((int) start + 4);
+        view.get(data);
+        return data;
+    }
+
+    @Nullable
+    private synchronized MappedByteBuffer remap(long requiredSize) throws IOException {
+        MappedByteBuffer buffer = this.buffer;
+        if (buffer == null || buffer.capacity() < requiredSize) {
+            buffer = map(this.file);
+            if (buffer == null || buffer.capacity() < requiredSize) {
+                return null;
+            }
+            this.buffer = buffer;
+        }
+        return buffer;
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import org.spongepowered.api.data.DataContainer;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+/**
+ * Reads the chunks of a list of region files. Splitting hands half of the
+ * region files which haven't been started yet to the new spliterator, so
+ * parallel streams read and decompress different region files on
+ * different threads.
+ */
+final class RegionFileSpliterator implements Spliterator<DataContainer> {
+
+    private final List<Path> files;
+    private final ChunkDataFilter filter;
+    // The next region file to open and the end of the files covered, exclusive
+    private int nextFile;
+    private final int endFile;
+    @Nullable private MappedRegionFile current;
+    private int[] indexes = new int[0];
+    private int index;
+
+    RegionFileSpliterator(List<Path> files, ChunkDataFilter filter) {
+        this(files, filter, 0, files.size());
+    }
+
+    private RegionFileSpliterator(List<Path> files, ChunkDataFilter filter, int nextFile, int endFile) {
+        this.files = files;
+        this.filter = filter;
+        this.nextFile = nextFile;
+        this.endFile = endFile;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super DataContainer> action) {
+        while (true) {
+            while (this.current != null && this.index < this.indexes.length) {
+                final DataContainer data = WorldStorageUtil.readDataFromRegion(this.current, this.indexes[this.index++]);
+                // Corrupted chunks are skipped, streams don't allow null elements
+                if (data != null) {
+                    action.accept(data);
+                    return true;
+                }
+            }
+            if (this.nextFile >= this.endFile) {
+                this.current = null;
+                return false;
+            }
+            this.current = WorldStorageUtil.getMappedRegionFile(this.files.get(this.nextFile++), this.filter);
+            this.indexes = this.current == null ? new int[0] : this.filter.getChunkIndexes(this.current);
+            this.index = 0;
+        }
+    }
+
+    @Nullable
+    @Override
+    public Spliterator<DataContainer> trySplit() {
+        final int remaining = this.endFile - this.nextFile;
+        if (remaining < 2) {
+            return null;
+        }
+        final int mid = this.nextFile + remaining / 2;
+        final RegionFileSpliterator split = new RegionFileSpliterator(this.files, this.filter, this.nextFile, mid);
+        this.nextFile = mid;
+        return split;
+    }
+
+    @Override
+    public long estimateSize() {
+        // Every region file holds up to 1024 chunks, only the opened one is known
+        return (this.indexes.length - this.index) + (long) (this.endFile - this.nextFile) * 1024;
+    }
+
+    @Override
+    public int characteristics() {
+        return NONNULL;
+    }
+
+}
@@ -0,0 +1,201 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.world.chunk.storage.RegionFile;
+import net.minecraft.world.chunk.storage.RegionFileCache;
+import org.spongepowered.common.SpongeImpl;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import javax.annotation.Nullable;
+
+/**
+ * Writes queued chunks on a shared pool of threads, with one lane per
+ * region file of each world. Writes of the same lane run one after another in the order
+ * they were submitted, so the latest queued version of a chunk is always
+ * the one written last, while different region files are compressed and
+ * written concurrently.
+ *
+ * <p>The {@link RegionFileCache} closes all of its files once it holds 256
+ * of them, which may be triggered by any lane opening a file. Lanes hold
+ * the read lock of {@link #REGION_FILE_LOCK} while writing to a region
+ * file, and the cache takes the write lock while closing its files, so a
+ * file is never closed while a lane writes to it.</p>
+ */
+public final class RegionWriteLanes {
+
+    private static final int REGION_SHIFT = 5;
+
+    private static final ReentrantReadWriteLock REGION_FILE_LOCK = new ReentrantReadWriteLock();
+    // Bumped while holding the write lock, whenever the RegionFileCache closed its files
+    private static volatile int regionFilesClosed;
+
+    @Nullable private static RegionWriteLanes instance;
+
+    /**
+     * Gets the lanes shared by all worlds, created on first use with the
+     * configured amount of threads.
+     *
+     * @return The lanes
+     */
+    public static synchronized RegionWriteLanes getInstance() {
+        if (instance == null) {
+            instance = new RegionWriteLanes(SpongeImpl.getGlobalConfigAdapter().getConfig().getOptimizations().getChunkSaveCategory().getNumThreads());
+        }
+        return instance;
+    }
+
+    /**
+     * Closes the files of the {@link RegionFileCache} once no lane writes to
+     * any of them anymore.
+     *
+     * <p>Called by the cache before it closes its files, the returned lock
+     * has to be unlocked once they are closed.</p>
+     *
+     * @return The held lock
+     */
+    public static Lock lockRegionFilesForClosing() {
+        final Lock lock = REGION_FILE_LOCK.writeLock();
+        lock.lock();
+        regionFilesClosed++;
+        return lock;
+    }
+
+    /**
+     * Writes the given chunk to its region file, like
+     * {@link net.minecraft.world.chunk.storage.AnvilChunkLoader#writeChunkData}
+     * but without the {@link RegionFileCache} closing the file in between.
+     *
+     * @param directory The directory of the world the chunk belongs to
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @param compound The chunk data
+     * @throws IOException If the chunk could not be written
+     */
+    public static void writeChunk(File directory, int chunkX, int chunkZ, NBTTagCompound compound) throws IOException {
+        final Lock lock = REGION_FILE_LOCK.readLock();
+        while (true) {
+            // Opening the file may close all others, so it has to happen before taking the read lock
+            final int closed = regionFilesClosed;
+            final RegionFile regionFile = RegionFileCache.createOrLoadRegionFile(directory, chunkX, chunkZ);
+            lock.lock();
+            try {
+                if (closed != regionFilesClosed) {
+                    // The file may have been closed since it was opened, open it again
+                    continue;
+                }
+                MappedRegionFile.onRegionFileWrite(directory, chunkX, chunkZ, regionFile);
+                try (DataOutputStream stream = regionFile.getChunkDataOutputStream(chunkX & 31, chunkZ & 31)) {
+                    CompressedStreamTools.write(compound, stream);
+                }
+                return;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private final ExecutorService executor;
+    // The last write submitted for each region file, removed again once it completes
+    private final Map<RegionKey, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+
+    public RegionWriteLanes(int threads) {
+        this.executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+            .setNameFormat("Sponge - Region Write Thread #%d")
+            .setDaemon(true)
+            .build());
+    }
+
+    /**
+     * Submits the write of a chunk to the lane of its region file.
+     *
+     * @param directory The directory of the world the chunk belongs to
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @param write The write to perform
+     * @return A future completed once the write ran, failed writes are logged
+     */
+    public CompletableFuture<Void> submit(File directory, int chunkX, int chunkZ, Runnable write) {
+        final RegionKey region = new RegionKey(directory, chunkX >> REGION_SHIFT, chunkZ >> REGION_SHIFT);
+        final CompletableFuture<Void> future = this.tails.compute(region, (key, tail) -> {
+            final Runnable task = () -> {
+                try {
+                    write.run();
+                } catch (Throwable t) {
+                    SpongeImpl.getLogger().error("Failed to write a chunk of region {}, {} in {}", key.x, key.z, key.directory, t);
+                }
+            };
+            // A failed write must not stop the following writes of the region
+            return tail == null ? CompletableFuture.runAsync(task, this.executor) : tail.thenRunAsync(task, this.executor);
+        });
+        future.whenComplete((result, throwable) -> this.tails.remove(region, future));
+        return future;
+    }
+
+    private static final class RegionKey {
+
+        final File directory;
+        final int x;
+        final int z;
+
+        RegionKey(File directory, int x, int z) {
+            this.directory = directory;
+            this.x = x;
+            this.z = z;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof RegionKey)) {
+                return false;
+            }
+            final RegionKey other = (RegionKey) obj;
+            return this.x == other.x && this.z == other.z && this.directory.equals(other.directory);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * this.directory.hashCode() + this.x) + this.z;
+        }
+
+    }
+
+}
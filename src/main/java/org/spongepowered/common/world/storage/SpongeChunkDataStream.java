@@ -24,44 +24,60 @@
  */
 package org.spongepowered.common.world.storage;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
-import net.minecraft.world.chunk.storage.RegionFile;
 import org.spongepowered.api.data.DataContainer;
 import org.spongepowered.api.world.storage.ChunkDataStream;
 
-import java.io.DataInputStream;
-import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class SpongeChunkDataStream implements ChunkDataStream {
 
+    // The amount of chunks decompressed at once across the common pool
+    private static final int READ_AHEAD = 64;
+
     private static class RegionFileItr {
 
-        private final RegionFile file;
+        private final MappedRegionFile file;
+        private final int[] indexes;
         public int index;
+        // Chunks decompressed ahead of the index, starting at readAheadStart
+        private DataContainer[] readAhead = new DataContainer[0];
+        private int readAheadStart;
 
-        public RegionFileItr(RegionFile regionFile) {
+        public RegionFileItr(MappedRegionFile regionFile, ChunkDataFilter filter) {
             this.file = regionFile;
+            this.indexes = filter.getChunkIndexes(regionFile);
         }
 
-        public int getNext() {
-            int index = this.index;
-            int[] offsets = this.file.offsets;
-            while (index != -1 && index < offsets.length && offsets[index] == 0) {
-                index++;
-            }
-            if (index >= offsets.length) {
-                return -1;
-            }
-            return index;
+        public boolean hasNext() {
+            return this.index < this.indexes.length;
         }
 
-        public DataInputStream getStreamAt(int index) {
-            int x = index & 31;
-            int z = index >>> 5;
-            return this.file.getChunkDataInputStream(x, z);
+        public int remaining() {
+            return this.indexes.length - this.index;
+        }
+
+        public DataContainer next() {
+            int offset = this.index - this.readAheadStart;
+            if (offset >= this.readAhead.length) {
+                this.readAheadStart = this.index;
+                this.readAhead = Arrays.stream(this.indexes, this.index, Math.min(this.index + READ_AHEAD, this.indexes.length))
+                    .parallel()
+                    .mapToObj(index -> WorldStorageUtil.readDataFromRegion(this.file, index))
+                    .toArray(DataContainer[]::new);
+                offset = 0;
+            }
+            final DataContainer data = this.readAhead[offset];
+            this.readAhead[offset] = null;
+            this.index++;
+            return data;
         }
 
     }
@@ -69,9 +85,46 @@ public DataInputStream getStreamAt(int index) {
     private final Set<Path> openedFiles = Sets.newHashSet();
     private RegionFileItr regionFileItr;
     private final Path worldDir;
+    private final ChunkDataFilter filter;
 
     public SpongeChunkDataStream(Path worldDir) {
+        this(worldDir, ChunkDataFilter.ALL);
+    }
+
+    public SpongeChunkDataStream(Path worldDir, ChunkDataFilter filter) {
         this.worldDir = worldDir;
+        this.filter = filter;
+    }
+
+    /**
+     * Creates a new stream of the same world which only reads the chunks
+     * matching the filter.
+     *
+     * @param filter The filter
+     * @return The new stream
+     */
+    public SpongeChunkDataStream filter(ChunkDataFilter filter) {
+        return new SpongeChunkDataStream(this.worldDir, filter);
+    }
+
+    /**
+     * Creates a spliterator over the chunks of this stream, independent of
+     * the position of this stream, which splits by region file.
+     *
+     * @return The spliterator
+     */
+    public Spliterator<DataContainer> spliterator() {
+        return new RegionFileSpliterator(Lists.newArrayList(WorldStorageUtil.listRegionFiles(this.worldDir)), this.filter);
+    }
+
+    /**
+     * Creates a {@link Stream} over the chunks of this stream, which may be
+     * made parallel to read different region files concurrently.
+     *
+     * @return The stream
+     */
+    public Stream<DataContainer> stream() {
+        return StreamSupport.stream(this::spliterator, Spliterator.NONNULL, false);
     }
 
     private boolean itrAvailable() {
@@ -81,62 +134,52 @@ private boolean itrAvailable() {
         Iterable<Path> files = WorldStorageUtil.listRegionFiles(this.worldDir);
         for (Path file : files) {
             if (!this.openedFiles.contains(file)) {
-                this.regionFileItr = new RegionFileItr(WorldStorageUtil.getRegionFile(file));
                 this.openedFiles.add(file);
-                return true;
+                final MappedRegionFile regionFile = WorldStorageUtil.getMappedRegionFile(file, this.filter);
+                if (regionFile != null) {
+                    this.regionFileItr = new RegionFileItr(regionFile, this.filter);
+                    return true;
+                }
             }
         }
         return false;
     }
 
-    private int getNextIndex() {
-        int next;
+    private boolean advance() {
         while (itrAvailable()) {
-            if ((next = this.regionFileItr.getNext()) == -1) {
-                this.regionFileItr = null;
-            } else {
-                return next;
+            if (this.regionFileItr.hasNext()) {
+                return true;
             }
+            this.regionFileItr = null;
         }
-        return -1;
+        return false;
     }
 
     @Override
     public DataContainer next() {
-        int next = getNextIndex();
-        if (next == -1) {
+        if (!advance()) {
             throw new NoSuchElementException();
         }
-        this.regionFileItr.index = next + 1;
-        DataInputStream stream = this.regionFileItr.getStreamAt(next);
-        try {
-            return WorldStorageUtil.readDataFromRegion(stream);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        return this.regionFileItr.next();
     }
 
     @Override
     public boolean hasNext() {
-        return getNextIndex() != -1;
+        return advance();
     }
 
     @Override
     public int available() {
-        // Advance to the end of the stream, counting along the way. Store
-        // previous state and reset to it afterwards.
-        RegionFileItr currentItr = this.regionFileItr;
-        Set<Path> currentOpenedFiles = Sets.newHashSet(this.openedFiles);
-        int count = 0;
-        int index = getNextIndex();
-        while (index != -1) {
-            count++;
-            this.regionFileItr.index = index + 1;
-            index = getNextIndex();
+        // Only the offset tables are needed to count, nothing is decompressed
+        int count = this.regionFileItr == null ? 0 : this.regionFileItr.remaining();
+        for (Path file : WorldStorageUtil.listRegionFiles(this.worldDir)) {
+            if (!this.openedFiles.contains(file)) {
+                final MappedRegionFile regionFile = WorldStorageUtil.getMappedRegionFile(file, this.filter);
+                if (regionFile != null) {
+                    count += this.filter.getChunkIndexes(regionFile).length;
+                }
+            }
         }
-        this.regionFileItr = currentItr;
-        this.openedFiles.clear();
-        this.openedFiles.addAll(currentOpenedFiles);
         return count;
     }
 
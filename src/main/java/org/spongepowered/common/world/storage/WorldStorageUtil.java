@@ -30,7 +30,6 @@
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.storage.IChunkLoader;
-import net.minecraft.world.chunk.storage.RegionFile;
 import net.minecraft.world.chunk.storage.RegionFileCache;
 import org.spongepowered.api.data.DataContainer;
 import org.spongepowered.api.util.Functional;
@@ -42,6 +41,7 @@
 import java.io.DataInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -51,6 +51,8 @@
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
+import javax.annotation.Nullable;
+
 public class WorldStorageUtil {
 
     public static CompletableFuture<Boolean> doesChunkExist(WorldServer world, IChunkLoader chunkLoader, Vector3i chunkCoords) {
@@ -103,28 +105,35 @@ public static DataContainer readDataFromRegion(DataInputStream stream) throws IO
         return NbtTranslator.getInstance().translateFrom(level);
     }
 
-    public static Iterable<Path> listRegionFiles(Path worldDir) {
-        try (DirectoryStream<Path> stream = Files.newDirectoryStream(worldDir.resolve("region"), "*.mca")) {
-            return Lists.newArrayList(stream);
+    @Nullable
+    public static DataContainer readDataFromRegion(MappedRegionFile regionFile, int index) {
+        try {
+            return readDataFromRegion(regionFile.getChunkDataInputStream(index));
         } catch (IOException e) {
-            return Collections.emptySet();
+            throw new UncheckedIOException(e);
         }
     }
 
-    // Similar to RegionFileCache#createOrLoadRegionFile except this uses direct
-    // file name instead of x,z
-    public static RegionFile getRegionFile(Path regionFilePath) {
-        File file = regionFilePath.toFile();
-        RegionFile regionFile = RegionFileCache.REGIONS_BY_FILE.get(file);
-        if (regionFile != null) {
-            return regionFile;
+    @Nullable
+    public static MappedRegionFile getMappedRegionFile(Path regionFilePath, ChunkDataFilter filter) {
+        final MappedRegionFile regionFile;
+        try {
+            regionFile = MappedRegionFile.get(regionFilePath);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-        if (RegionFileCache.REGIONS_BY_FILE.size() >= 256) {
-            RegionFileCache.clearRegionFileReferences();
+        if (regionFile == null || !filter.testRegion(regionFile.getRegionX(), regionFile.getRegionZ())) {
+            return null;
         }
-        regionFile = new RegionFile(file);
-        RegionFileCache.REGIONS_BY_FILE.put(file, regionFile);
         return regionFile;
     }
 
+    public static Iterable<Path> listRegionFiles(Path worldDir) {
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(worldDir.resolve("region"), "*.mca")) {
+            return Lists.newArrayList(stream);
+        } catch (IOException e) {
+            return Collections.emptySet();
+        }
+    }
+
 }
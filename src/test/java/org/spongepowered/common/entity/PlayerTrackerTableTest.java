@@ -0,0 +1,85 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class PlayerTrackerTableTest {
+
+    @Test
+    public void testPacking() {
+        final long tracked = PlayerTrackerTable.pack(42, -1);
+        assertEquals(42, PlayerTrackerTable.ownerIndex(tracked));
+        assertEquals(-1, PlayerTrackerTable.notifierIndex(tracked));
+
+        final long both = PlayerTrackerTable.pack(Integer.MAX_VALUE, Integer.MIN_VALUE);
+        assertEquals(Integer.MAX_VALUE, PlayerTrackerTable.ownerIndex(both));
+        assertEquals(Integer.MIN_VALUE, PlayerTrackerTable.notifierIndex(both));
+
+        assertEquals(PlayerTrackerTable.UNTRACKED, PlayerTrackerTable.pack(-1, -1));
+    }
+
+    @Test
+    public void testUntrackedPositionsAreNotStored() {
+        final PlayerTrackerTable table = new PlayerTrackerTable();
+        assertTrue(table.isEmpty());
+        assertEquals(PlayerTrackerTable.UNTRACKED, table.getShort((short) 12));
+
+        table.putShort((short) 12, PlayerTrackerTable.pack(3, 4));
+        table.putInt(70000, PlayerTrackerTable.pack(-1, 5));
+        assertFalse(table.isEmpty());
+        assertTrue(table.containsShort((short) 12));
+        assertEquals(4, PlayerTrackerTable.notifierIndex(table.getShort((short) 12)));
+        assertEquals(5, PlayerTrackerTable.notifierIndex(table.getInt(70000)));
+
+        table.putShort((short) 12, PlayerTrackerTable.UNTRACKED);
+        assertFalse(table.containsShort((short) 12));
+        table.removeInt(70000);
+        assertTrue(table.isEmpty());
+    }
+
+    @Test
+    public void testSnapshotIsDetached() {
+        final PlayerTrackerTable table = new PlayerTrackerTable();
+        table.putShort((short) 1, PlayerTrackerTable.pack(1, 2));
+        table.putInt(300, PlayerTrackerTable.pack(3, -1));
+
+        final PlayerTrackerTable.Snapshot snapshot = table.snapshot();
+        table.putShort((short) 2, PlayerTrackerTable.pack(5, 5));
+        table.removeInt(300);
+
+        assertEquals(1, snapshot.shortKeys.length);
+        assertEquals(1, snapshot.intKeys.length);
+        final PlayerTrackerTable restored = snapshot.toTable();
+        assertEquals(PlayerTrackerTable.pack(1, 2), restored.getShort((short) 1));
+        assertEquals(PlayerTrackerTable.pack(3, -1), restored.getInt(300));
+        assertFalse(restored.containsShort((short) 2));
+    }
+
+}
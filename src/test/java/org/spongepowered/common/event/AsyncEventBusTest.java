@@ -0,0 +1,115 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.common.config.category.AsyncEventsCategory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+
+public class AsyncEventBusTest {
+
+    @Test
+    public void testDeliveryOrder() throws Exception {
+        final AsyncEventBus bus = new AsyncEventBus(new AsyncEventsCategory());
+        final List<Integer> delivered = Collections.synchronizedList(new ArrayList<>());
+
+        CompletableFuture<Boolean> last = null;
+        for (int i = 0; i < 100; i++) {
+            final int index = i;
+            last = bus.submit(Event.class, () -> {
+                delivered.add(index);
+                return false;
+            });
+        }
+        Assert.assertFalse(last.get());
+
+        Assert.assertEquals(100, delivered.size());
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(i, (int) delivered.get(i));
+        }
+        Assert.assertEquals(100, bus.getDeliveredEventCount());
+        Assert.assertEquals(0, bus.getQueuedEventCount());
+    }
+
+    @Test
+    public void testFailedDeliveryDoesNotBlockQueue() throws Exception {
+        final AsyncEventBus bus = new AsyncEventBus(new AsyncEventsCategory());
+
+        final CompletableFuture<Boolean> failed = bus.submit(Event.class, () -> {
+            throw new IllegalStateException();
+        });
+        final CompletableFuture<Boolean> next = bus.submit(Event.class, () -> true);
+
+        Assert.assertTrue(next.get());
+        Assert.assertTrue(failed.isCompletedExceptionally());
+    }
+
+    @Test
+    public void testFullQueueRejects() throws Exception {
+        final AsyncEventsCategory config = new AsyncEventsCategory();
+        final AsyncEventBus bus = new AsyncEventBus(config);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        final CompletableFuture<Boolean> blocking = bus.submit(Event.class, () -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return false;
+        });
+        started.await();
+        CompletableFuture<Boolean> last = null;
+        for (int i = 0; i < config.getMaxQueuedEvents(); i++) {
+            last = bus.submit(Event.class, () -> false);
+        }
+        final CompletableFuture<Boolean> rejected = bus.submit(Event.class, () -> true);
+        Assert.assertTrue(rejected.isCompletedExceptionally());
+        try {
+            rejected.get();
+            Assert.fail();
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+        Assert.assertEquals(1, bus.getRejectedEventCount());
+
+        release.countDown();
+        Assert.assertFalse(blocking.get());
+        Assert.assertFalse(last.get());
+        Assert.assertEquals(0, bus.getQueuedEventCount());
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.plugin.PluginContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class EventDispatcherTest {
+
+    private final EventDispatcher.Factory dispatcherFactory = new ClassEventDispatcherFactory("org.spongepowered.common.event.dispatcher",
+            getClass().getClassLoader());
+
+    @Test
+    public void testDispatchesToListenerAtIndex() throws Exception {
+        final PluginContainer plugin = Mockito.mock(PluginContainer.class);
+        final List<Integer> called = new ArrayList<>();
+        final RegisteredListener<?>[] listeners = new RegisteredListener<?>[3];
+        for (int i = 0; i < listeners.length; i++) {
+            final int index = i;
+            listeners[i] = new RegisteredListener<>(plugin, new EventType<>(Event.class), Order.DEFAULT, event -> called.add(index), false);
+        }
+        final EventDispatcher dispatcher = this.dispatcherFactory.create(EventFilterTest.SubEvent.class, listeners);
+        final Event event = new EventFilterTest.SubEvent(EventFilterTest.TEST_CAUSE);
+
+        dispatcher.dispatch(2, event);
+        dispatcher.dispatch(0, event);
+        dispatcher.dispatch(1, event);
+
+        Assert.assertEquals("Listeners were not called in the dispatched order!", 2, (int) called.get(0));
+        Assert.assertEquals(0, (int) called.get(1));
+        Assert.assertEquals(1, (int) called.get(2));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testDispatchOutOfBounds() throws Exception {
+        final PluginContainer plugin = Mockito.mock(PluginContainer.class);
+        final RegisteredListener<?>[] listeners = {
+            new RegisteredListener<>(plugin, new EventType<>(Event.class), Order.DEFAULT, event -> { }, false)
+        };
+        this.dispatcherFactory.create(EventFilterTest.SubEvent.class, listeners)
+                .dispatch(1, new EventFilterTest.SubEvent(EventFilterTest.TEST_CAUSE));
+    }
+
+    @Test
+    public void testReusesDispatcherClass() throws Exception {
+        final PluginContainer plugin = Mockito.mock(PluginContainer.class);
+        final RegisteredListener<?>[] listeners = {
+            new RegisteredListener<>(plugin, new EventType<>(Event.class), Order.DEFAULT, event -> { }, false)
+        };
+        final RegisteredListener<?>[] reregistered = {
+            new RegisteredListener<>(plugin, new EventType<>(Event.class), Order.DEFAULT, event -> { }, false)
+        };
+        final RegisteredListener<?>[] more = {listeners[0], reregistered[0]};
+
+        final EventDispatcher first = this.dispatcherFactory.create(EventFilterTest.SubEvent.class, listeners);
+        final EventDispatcher second = this.dispatcherFactory.create(EventFilterTest.SubEvent.class, reregistered);
+        final EventDispatcher third = this.dispatcherFactory.create(EventFilterTest.SubEvent.class, more);
+
+        Assert.assertNotSame(first, second);
+        Assert.assertSame(first.getClass(), second.getClass());
+        Assert.assertNotSame(first.getClass(), third.getClass());
+        Assert.assertSame(first.getClass().getClassLoader(), third.getClass().getClassLoader());
+    }
+
+}
@@ -119,6 +119,27 @@ public void testMultipleListeners() {
         Assert.assertFalse("SPAWN_ENTITY_EVENT_CHUNK_LOAD is not false!", ShouldFire.SPAWN_ENTITY_EVENT_CHUNK_LOAD);
     }
 
+    @Test
+    public void testHasListeners() {
+        SubListener spawnCustomListener = new SubListener();
+        ListenerChecker checker = ((SpongeEventManager) this.eventManager).checker;
+
+        Assert.assertFalse("SpawnEntityEvent has listeners!", checker.hasListeners(SpawnEntityEvent.class));
+        Assert.assertFalse("SpawnEntityEvent.Custom has listeners!", checker.hasListeners(SpawnEntityEvent.Custom.class));
+
+        this.eventManager.registerListeners(this.plugin, spawnCustomListener);
+
+        Assert.assertTrue("SpawnEntityEvent has no listeners!", checker.hasListeners(SpawnEntityEvent.class));
+        Assert.assertTrue("SpawnEntityEvent.Custom has no listeners!", checker.hasListeners(SpawnEntityEvent.Custom.class));
+        Assert.assertFalse("SpawnEntityEvent.ChunkLoad has listeners!", checker.hasListeners(SpawnEntityEvent.ChunkLoad.class));
+        Assert.assertFalse("DropItemEvent.Dispense has listeners!", checker.hasListeners(DropItemEvent.Dispense.class));
+
+        this.eventManager.unregisterListeners(spawnCustomListener);
+
+        Assert.assertFalse("SpawnEntityEvent has listeners!", checker.hasListeners(SpawnEntityEvent.class));
+        Assert.assertFalse("SpawnEntityEvent.Custom has listeners!", checker.hasListeners(SpawnEntityEvent.Custom.class));
+    }
+
     private static class SpawnListener {
 
         @Listener
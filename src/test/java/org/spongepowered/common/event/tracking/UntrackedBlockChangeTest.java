@@ -0,0 +1,85 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.spongepowered.common.bridge.world.chunk.ChunkBridge;
+import org.spongepowered.common.util.Constants;
+import org.spongepowered.common.world.SpongeBlockChangeFlag;
+import org.spongepowered.lwts.runner.LaunchWrapperTestRunner;
+
+/**
+ * Block changes made while nothing listens to block changes skip the phase
+ * state, they must still honor phases restoring blocks.
+ */
+@RunWith(LaunchWrapperTestRunner.class)
+public class UntrackedBlockChangeTest {
+
+    private static final BlockPos POS = new BlockPos(3, 5, 7);
+    private static final SpongeBlockChangeFlag FLAG = new SpongeBlockChangeFlag("none", Constants.BlockChangeFlags.NONE);
+
+    private final Block currentBlock = Mockito.mock(Block.class);
+    private final IBlockState currentState = Mockito.mock(IBlockState.class);
+    private final IBlockState newState = Mockito.mock(IBlockState.class);
+    private WorldServer world;
+    private Chunk chunk;
+
+    @Before
+    public void setUp() {
+        this.world = Mockito.mock(WorldServer.class);
+        this.chunk = new Chunk(this.world, 0, 0);
+        this.chunk.getBlockStorageArray()[0] = new ExtendedBlockStorage(0, true);
+        Mockito.when(this.currentState.getBlock()).thenReturn(this.currentBlock);
+        Mockito.when(this.newState.getBlock()).thenReturn(Mockito.mock(Block.class));
+    }
+
+    @Test
+    public void testRestoreWithoutListenersDoesNotBreak() {
+        final IBlockState original = ((ChunkBridge) this.chunk).setBlockStateUntracked(POS, this.newState, this.currentState, FLAG, true);
+
+        Assert.assertSame(this.currentState, original);
+        Assert.assertSame(this.newState, this.chunk.getBlockState(POS));
+        Mockito.verify(this.currentBlock, Mockito.never()).breakBlock(this.world, POS, this.currentState);
+    }
+
+    @Test
+    public void testChangeWithoutListenersBreaks() {
+        final IBlockState original = ((ChunkBridge) this.chunk).setBlockStateUntracked(POS, this.newState, this.currentState, FLAG, false);
+
+        Assert.assertSame(this.currentState, original);
+        Mockito.verify(this.currentBlock).breakBlock(this.world, POS, this.currentState);
+    }
+
+}
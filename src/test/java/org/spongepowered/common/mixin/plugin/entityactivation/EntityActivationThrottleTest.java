@@ -0,0 +1,98 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.plugin.entityactivation;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class EntityActivationThrottleTest {
+
+    private static final double TARGET = 45;
+    private static final double RESTORE = 35;
+    private static final double DELTA = 1.0e-9;
+
+    @Test
+    public void testRaiseLevel() {
+        assertEquals(1, EntityActivationThrottle.nextLevel(0, 4, 50, TARGET, RESTORE));
+        assertEquals(3, EntityActivationThrottle.nextLevel(2, 4, 50, TARGET, RESTORE));
+    }
+
+    @Test
+    public void testLowerLevel() {
+        assertEquals(1, EntityActivationThrottle.nextLevel(2, 4, 30, TARGET, RESTORE));
+        assertEquals(0, EntityActivationThrottle.nextLevel(0, 4, 30, TARGET, RESTORE));
+    }
+
+    @Test
+    public void testHoldBetweenThresholds() {
+        assertEquals(0, EntityActivationThrottle.nextLevel(0, 4, 40, TARGET, RESTORE));
+        assertEquals(2, EntityActivationThrottle.nextLevel(2, 4, 40, TARGET, RESTORE));
+        assertEquals(2, EntityActivationThrottle.nextLevel(2, 4, TARGET, TARGET, RESTORE));
+        assertEquals(2, EntityActivationThrottle.nextLevel(2, 4, RESTORE, TARGET, RESTORE));
+    }
+
+    @Test
+    public void testStepsClamp() {
+        assertEquals(4, EntityActivationThrottle.nextLevel(4, 4, 50, TARGET, RESTORE));
+        // Steps lowered in the configuration while throttled
+        assertEquals(2, EntityActivationThrottle.nextLevel(4, 2, 40, TARGET, RESTORE));
+        // At least one step
+        assertEquals(1, EntityActivationThrottle.nextLevel(0, 0, 50, TARGET, RESTORE));
+        assertEquals(1, EntityActivationThrottle.nextLevel(1, -3, 50, TARGET, RESTORE));
+    }
+
+    @Test
+    public void testRangeScale() {
+        assertEquals(1, EntityActivationThrottle.getRangeScale(0, 4, 0.5), DELTA);
+        assertEquals(0.75, EntityActivationThrottle.getRangeScale(2, 4, 0.5), DELTA);
+        assertEquals(0.5, EntityActivationThrottle.getRangeScale(4, 4, 0.5), DELTA);
+        // Levels above the steps never go below the minimum scale
+        assertEquals(0.5, EntityActivationThrottle.getRangeScale(8, 4, 0.5), DELTA);
+    }
+
+    @Test
+    public void testMinRangeScaleLimits() {
+        assertEquals(0, EntityActivationThrottle.getRangeScale(4, 4, -1), DELTA);
+        assertEquals(1, EntityActivationThrottle.getRangeScale(4, 4, 2), DELTA);
+    }
+
+    @Test
+    public void testInactiveTickInterval() {
+        final int defaultInterval = EntityActivationThrottle.DEFAULT_INACTIVE_TICK_INTERVAL;
+        assertEquals(defaultInterval, EntityActivationThrottle.getInactiveTickInterval(0, 4, 100));
+        assertEquals(60, EntityActivationThrottle.getInactiveTickInterval(2, 4, 100));
+        assertEquals(100, EntityActivationThrottle.getInactiveTickInterval(4, 4, 100));
+        assertEquals(100, EntityActivationThrottle.getInactiveTickInterval(8, 4, 100));
+    }
+
+    @Test
+    public void testMaxInactiveTickIntervalLimit() {
+        final int defaultInterval = EntityActivationThrottle.DEFAULT_INACTIVE_TICK_INTERVAL;
+        assertEquals(defaultInterval, EntityActivationThrottle.getInactiveTickInterval(4, 4, 5));
+        assertEquals(defaultInterval, EntityActivationThrottle.getInactiveTickInterval(4, 4, -20));
+    }
+
+}
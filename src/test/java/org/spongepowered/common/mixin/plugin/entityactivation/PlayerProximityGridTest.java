@@ -0,0 +1,115 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.plugin.entityactivation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import net.minecraft.util.math.MathHelper;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class PlayerProximityGridTest {
+
+    private static final int MAX_RANGE = 32;
+
+    @Test
+    public void testSinglePlayer() {
+        final PlayerProximityGrid grid = new PlayerProximityGrid();
+        grid.addPlayer(7.7, 7.7, 8.3, 8.3, MAX_RANGE);
+
+        final PlayerProximityGrid.Cell cell = getCell(grid, 0, 0);
+        assertTrue(cell.isInRange(1, 1, 2, 2, 16));
+        final PlayerProximityGrid.Cell edge = getCell(grid, 2, 0);
+        assertTrue(edge.isInRange(40, 8, 41, 9, 32));
+        assertFalse(edge.isInRange(40, 8, 41, 9, 16));
+        assertEquals(25, grid.getCells().size());
+    }
+
+    @Test
+    public void testMatchesPerPlayerChecks() {
+        final Random random = new Random(42);
+        for (int layout = 0; layout < 50; layout++) {
+            final PlayerProximityGrid grid = new PlayerProximityGrid();
+            // Half of the layouts cluster every player into a small hub
+            final double spread = layout % 2 == 0 ? 24 : 400;
+            final int playerCount = 1 + random.nextInt(150);
+            final double[][] players = new double[playerCount][];
+            for (int i = 0; i < playerCount; i++) {
+                final double x = (random.nextDouble() - 0.5) * spread;
+                final double z = (random.nextDouble() - 0.5) * spread;
+                players[i] = new double[] {x - 0.3, z - 0.3, x + 0.3, z + 0.3};
+                grid.addPlayer(x - 0.3, z - 0.3, x + 0.3, z + 0.3, MAX_RANGE);
+            }
+
+            for (int i = 0; i < 2000; i++) {
+                final double x = (random.nextDouble() - 0.5) * (spread + 4 * MAX_RANGE);
+                final double z = (random.nextDouble() - 0.5) * (spread + 4 * MAX_RANGE);
+                final double width = random.nextInt(8) == 0 ? 4 : 0.6;
+                final int range = 8 + random.nextInt(MAX_RANGE);
+                final int chunkX = MathHelper.floor(x / 16.0D);
+                final int chunkZ = MathHelper.floor(z / 16.0D);
+
+                boolean expected = false;
+                for (double[] player : players) {
+                    if (!isChunkInMaxRange(player, chunkX, chunkZ)) {
+                        continue;
+                    }
+                    if (player[0] - range < x + width / 2 && player[2] + range > x - width / 2
+                        && player[1] - range < z + width / 2 && player[3] + range > z - width / 2) {
+                        expected = true;
+                        break;
+                    }
+                }
+
+                final PlayerProximityGrid.Cell cell = findCell(grid, chunkX, chunkZ);
+                final boolean actual = cell != null && cell.isInRange(x - width / 2, z - width / 2, x + width / 2, z + width / 2, range);
+                assertEquals(expected, actual);
+            }
+        }
+    }
+
+    private static boolean isChunkInMaxRange(double[] player, int chunkX, int chunkZ) {
+        return chunkX >= MathHelper.floor((player[0] - MAX_RANGE) / 16.0D) && chunkX <= MathHelper.floor((player[2] + MAX_RANGE) / 16.0D)
+            && chunkZ >= MathHelper.floor((player[1] - MAX_RANGE) / 16.0D) && chunkZ <= MathHelper.floor((player[3] + MAX_RANGE) / 16.0D);
+    }
+
+    private static PlayerProximityGrid.Cell getCell(PlayerProximityGrid grid, int chunkX, int chunkZ) {
+        final PlayerProximityGrid.Cell cell = findCell(grid, chunkX, chunkZ);
+        assertTrue(cell != null);
+        return cell;
+    }
+
+    private static PlayerProximityGrid.Cell findCell(PlayerProximityGrid grid, int chunkX, int chunkZ) {
+        for (PlayerProximityGrid.Cell cell : grid.getCells()) {
+            if (cell.chunkX == chunkX && cell.chunkZ == chunkZ) {
+                return cell;
+            }
+        }
+        return null;
+    }
+}
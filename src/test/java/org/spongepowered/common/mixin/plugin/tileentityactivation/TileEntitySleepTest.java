@@ -0,0 +1,125 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.plugin.tileentityactivation;
+
+import it.unimi.dsi.fastutil.objects.Reference2BooleanMap;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.tileentity.TileEntity;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.ActivationCapability;
+import org.spongepowered.lwts.runner.LaunchWrapperTestRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+@RunWith(LaunchWrapperTestRunner.class)
+public class TileEntitySleepTest {
+
+    private final TileEntity first = Mockito.mock(TileEntity.class);
+    private final TileEntity second = Mockito.mock(TileEntity.class);
+    private final Reference2BooleanMap<TileEntity> pendingChanges = new Reference2BooleanOpenHashMap<>();
+    private final List<TileEntity> ticking = new ArrayList<>(Arrays.asList(this.first, this.second));
+    private final Set<TileEntity> sleeping = new ReferenceOpenHashSet<>();
+
+    private void apply() {
+        TileEntityActivation.applySleepChanges(this.pendingChanges, this.ticking, tileEntity -> this.sleeping);
+    }
+
+    @Test
+    public void testShouldSleep() {
+        final ActivationCapability tileEntity = Mockito.mock(ActivationCapability.class);
+        Mockito.when(tileEntity.activation$getActivatedTick()).thenReturn(5L);
+        Assert.assertTrue(TileEntityActivation.shouldSleep(tileEntity, 10));
+        // Activated this tick, only skipped because of its tick rate
+        Assert.assertFalse(TileEntityActivation.shouldSleep(tileEntity, 5));
+        Mockito.when(tileEntity.activation$getDefaultActivationState()).thenReturn(true);
+        Assert.assertFalse(TileEntityActivation.shouldSleep(tileEntity, 10));
+    }
+
+    @Test
+    public void testSleepAndWake() {
+        this.pendingChanges.put(this.first, true);
+        this.apply();
+        Assert.assertTrue(this.pendingChanges.isEmpty());
+        Assert.assertEquals(Arrays.asList(this.second), this.ticking);
+        Assert.assertTrue(this.sleeping.contains(this.first));
+
+        this.pendingChanges.put(this.first, false);
+        this.apply();
+        Assert.assertTrue(this.pendingChanges.isEmpty());
+        Assert.assertEquals(Arrays.asList(this.second, this.first), this.ticking);
+        Assert.assertTrue(this.sleeping.isEmpty());
+    }
+
+    @Test
+    public void testWakeBeforeSleepingIsIgnored() {
+        // Never fell asleep, so waking it up must not add it to the ticking list twice
+        this.pendingChanges.put(this.first, false);
+        this.apply();
+        Assert.assertEquals(Arrays.asList(this.first, this.second), this.ticking);
+    }
+
+    @Test
+    public void testInvalidTileEntityDoesNotSleep() {
+        Mockito.when(this.first.isInvalid()).thenReturn(true);
+        this.pendingChanges.put(this.first, true);
+        this.apply();
+        Assert.assertEquals(Arrays.asList(this.first, this.second), this.ticking);
+        Assert.assertTrue(this.sleeping.isEmpty());
+    }
+
+    @Test
+    public void testUnloadedTileEntityIsSkipped() {
+        this.pendingChanges.put(this.first, true);
+        TileEntityActivation.applySleepChanges(this.pendingChanges, this.ticking, tileEntity -> null);
+        Assert.assertTrue(this.pendingChanges.isEmpty());
+        Assert.assertEquals(Arrays.asList(this.first, this.second), this.ticking);
+    }
+
+    @Test
+    public void testRemovedSleepingTileEntity() {
+        final List<TileEntity> loaded = new ArrayList<>(Arrays.asList(this.first, this.second));
+        this.sleeping.add(this.first);
+        // The sleeping tileentity isn't ticking, so nothing else would drop it from the loaded tileentities
+        TileEntityActivation.onTileEntityRemoved(this.sleeping, loaded, this.first);
+        Assert.assertTrue(this.sleeping.isEmpty());
+        Assert.assertEquals(Arrays.asList(this.second), loaded);
+    }
+
+    @Test
+    public void testRemovedTickingTileEntity() {
+        final List<TileEntity> loaded = new ArrayList<>(Arrays.asList(this.first, this.second));
+        // Ticking tileentities are removed from the loaded tileentities by the world
+        TileEntityActivation.onTileEntityRemoved(this.sleeping, loaded, this.second);
+        Assert.assertEquals(Arrays.asList(this.first, this.second), loaded);
+    }
+
+}
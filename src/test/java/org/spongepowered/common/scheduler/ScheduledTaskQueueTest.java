@@ -0,0 +1,148 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+public class ScheduledTaskQueueTest {
+
+    private static ScheduledTask createTask(String name) {
+        return new ScheduledTask(ScheduledTask.TaskSynchronicity.SYNCHRONOUS, task -> {}, name, 0, true, 0, true, null);
+    }
+
+    @Test
+    public void testDeadlineOrder() {
+        final ScheduledTaskQueue queue = new ScheduledTaskQueue();
+        final ScheduledTask late = createTask("late");
+        final ScheduledTask early = createTask("early");
+        final ScheduledTask middle = createTask("middle");
+        queue.offer(late, 30);
+        queue.offer(early, 10);
+        queue.offer(middle, 20);
+        Assert.assertEquals(10, queue.peekDeadline());
+
+        final List<ScheduledTask> due = new ArrayList<>();
+        queue.pollDue(20, due);
+        Assert.assertEquals(2, due.size());
+        Assert.assertEquals(early, due.get(0));
+        Assert.assertEquals(middle, due.get(1));
+        Assert.assertEquals(1, queue.size());
+        Assert.assertEquals(30, queue.peekDeadline());
+
+        due.clear();
+        queue.pollDue(100, due);
+        Assert.assertEquals(1, due.size());
+        Assert.assertEquals(late, due.get(0));
+        Assert.assertEquals(Long.MAX_VALUE, queue.peekDeadline());
+    }
+
+    @Test
+    public void testEqualDeadlinesKeepSubmissionOrder() {
+        final ScheduledTaskQueue queue = new ScheduledTaskQueue();
+        final List<ScheduledTask> tasks = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final ScheduledTask task = createTask("task-" + i);
+            tasks.add(task);
+            queue.offer(task, 5);
+        }
+        final List<ScheduledTask> due = new ArrayList<>();
+        queue.pollDue(5, due);
+        Assert.assertEquals(tasks, due);
+    }
+
+    @Test
+    public void testCancelledTasksAreNotCounted() {
+        final ScheduledTaskQueue queue = new ScheduledTaskQueue();
+        final ScheduledTask first = createTask("first");
+        final ScheduledTask second = createTask("second");
+        queue.offer(first, 10);
+        queue.offer(second, 20);
+
+        first.cancel();
+        // Cancelling twice must not count the task twice
+        first.cancel();
+        Assert.assertEquals(1, queue.size());
+
+        // The cancelled task is still handed back once due, so the scheduler can remove it
+        final List<ScheduledTask> due = new ArrayList<>();
+        queue.pollDue(10, due);
+        Assert.assertEquals(1, due.size());
+        Assert.assertEquals(first, due.get(0));
+        Assert.assertEquals(1, queue.size());
+    }
+
+    @Test
+    public void testCancelAfterPollIsIgnored() {
+        final ScheduledTaskQueue queue = new ScheduledTaskQueue();
+        final ScheduledTask polled = createTask("polled");
+        final ScheduledTask waiting = createTask("waiting");
+        queue.offer(polled, 10);
+        queue.offer(waiting, 20);
+
+        final List<ScheduledTask> due = new ArrayList<>();
+        queue.pollDue(10, due);
+        polled.cancel();
+        Assert.assertEquals(1, queue.size());
+
+        due.clear();
+        queue.pollDue(20, due);
+        Assert.assertEquals(1, due.size());
+        Assert.assertEquals(waiting, due.get(0));
+        Assert.assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void testCancelledTasksArePurged() {
+        final ScheduledTaskQueue queue = new ScheduledTaskQueue();
+        final List<ScheduledTask> tasks = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final ScheduledTask task = createTask("task-" + i);
+            tasks.add(task);
+            queue.offer(task, 100 + i);
+        }
+        for (int i = 0; i < 6; i++) {
+            tasks.get(i).cancel();
+        }
+        Assert.assertEquals(4, queue.size());
+
+        // More than half of the queue is cancelled, so they are handed back before any of them is due
+        final List<ScheduledTask> due = new ArrayList<>();
+        queue.pollDue(0, due);
+        Assert.assertEquals(new HashSet<>(tasks.subList(0, 6)), new HashSet<>(due));
+        Assert.assertEquals(4, queue.size());
+        Assert.assertEquals(106, queue.peekDeadline());
+
+        due.clear();
+        queue.pollDue(200, due);
+        Assert.assertEquals(tasks.subList(6, 10), due);
+        Assert.assertEquals(0, queue.size());
+    }
+
+}
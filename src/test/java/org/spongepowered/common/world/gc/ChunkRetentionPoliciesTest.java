@@ -0,0 +1,93 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.gc;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.ActivationCapability;
+
+public class ChunkRetentionPoliciesTest {
+
+    @Test
+    public void testLeastRecentlyUsedKeepsMostRecent() {
+        final ChunkRetentionPolicies.LeastRecentlyUsed policy = new ChunkRetentionPolicies.LeastRecentlyUsed(2);
+        policy.beginRun(100, new long[] {10, 40, 20, 30});
+        Assert.assertEquals(ChunkRetentionReason.RECENTLY_USED, policy.retain(null, 100, 40));
+        Assert.assertEquals(ChunkRetentionReason.RECENTLY_USED, policy.retain(null, 100, 30));
+        Assert.assertNull(policy.retain(null, 100, 20));
+        Assert.assertNull(policy.retain(null, 100, 10));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedKeepsAllBelowLimit() {
+        final ChunkRetentionPolicies.LeastRecentlyUsed policy = new ChunkRetentionPolicies.LeastRecentlyUsed(4);
+        policy.beginRun(100, new long[] {10, 20});
+        Assert.assertEquals(ChunkRetentionReason.RECENTLY_USED, policy.retain(null, 100, 10));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedWithoutLimitKeepsNone() {
+        final ChunkRetentionPolicies.LeastRecentlyUsed policy = new ChunkRetentionPolicies.LeastRecentlyUsed(0);
+        policy.beginRun(100, new long[] {100});
+        Assert.assertNull(policy.retain(null, 100, 100));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedStartsRun() {
+        final ChunkRetentionPolicies.LeastRecentlyUsed policy = new ChunkRetentionPolicies.LeastRecentlyUsed(10);
+        // 50 chunks have to stay loaded, so up to 60 are fine
+        Assert.assertFalse(policy.shouldStartRun(100, 60, 50));
+        Assert.assertTrue(policy.shouldStartRun(100, 61, 50));
+    }
+
+    @Test
+    public void testIdleEntities() {
+        final ChunkRetentionPolicies.IdleEntities policy = new ChunkRetentionPolicies.IdleEntities(100);
+        final ActivationCapability entity = Mockito.mock(ActivationCapability.class);
+        Mockito.when(entity.activation$getActivatedTick()).thenReturn(1000L);
+        Assert.assertTrue(policy.isActive(entity, 1000));
+        Assert.assertTrue(policy.isActive(entity, 1099));
+        Assert.assertFalse(policy.isActive(entity, 1100));
+        Assert.assertFalse(policy.shouldStartRun(1100, 1000, 0));
+    }
+
+    @Test
+    public void testMemoryPressure() {
+        final double[] usage = {0.5};
+        final ChunkRetentionPolicies.MemoryPressure policy = new ChunkRetentionPolicies.MemoryPressure(80, () -> usage[0]);
+        Assert.assertFalse(policy.shouldStartRun(0, 1000, 0));
+        policy.beginRun(0, new long[0]);
+        Assert.assertEquals(ChunkRetentionReason.MEMORY_AVAILABLE, policy.retain(null, 0, 0));
+
+        usage[0] = 0.9;
+        Assert.assertTrue(policy.shouldStartRun(0, 1000, 0));
+        // The usage is only sampled once per run
+        Assert.assertEquals(ChunkRetentionReason.MEMORY_AVAILABLE, policy.retain(null, 0, 0));
+        policy.beginRun(0, new long[0]);
+        Assert.assertNull(policy.retain(null, 0, 0));
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.gc;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class UnloadCandidateSelectorTest {
+
+    private static List<String> drain(UnloadCandidateSelector<String> selector) {
+        final List<String> drained = new ArrayList<>();
+        selector.drain(drained::add);
+        return drained;
+    }
+
+    @Test
+    public void testOrder() {
+        final UnloadCandidateSelector<String> selector = new UnloadCandidateSelector<>();
+        selector.reset(10);
+        selector.offer("late", 30, 0);
+        selector.offer("early near", 10, 4);
+        selector.offer("early far", 10, 100);
+        selector.offer("middle", 20, 0);
+        Assert.assertEquals(Arrays.asList("early far", "early near", "middle", "late"), drain(selector));
+        Assert.assertEquals(0, selector.size());
+    }
+
+    @Test
+    public void testLimit() {
+        final UnloadCandidateSelector<String> selector = new UnloadCandidateSelector<>();
+        selector.reset(2);
+        selector.offer("c", 30, 0);
+        selector.offer("b", 20, 0);
+        Assert.assertFalse(selector.accepts(40));
+        Assert.assertTrue(selector.accepts(30));
+        selector.offer("c far", 30, 5);
+        selector.offer("a", 10, 0);
+        selector.offer("d", 40, 0);
+        Assert.assertEquals(2, selector.size());
+        Assert.assertEquals(Arrays.asList("a", "b"), drain(selector));
+    }
+
+    @Test
+    public void testGrowsAndResets() {
+        final UnloadCandidateSelector<String> selector = new UnloadCandidateSelector<>();
+        selector.reset(100);
+        for (int i = 99; i >= 0; i--) {
+            selector.offer(Integer.toString(i), i, 0);
+        }
+        final List<String> drained = drain(selector);
+        Assert.assertEquals(100, drained.size());
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(Integer.toString(i), drained.get(i));
+        }
+
+        selector.reset(0);
+        Assert.assertFalse(selector.accepts(0));
+        selector.offer("none", 0, 0);
+        Assert.assertEquals(0, selector.size());
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.DeflaterOutputStream;
+
+public class MappedRegionFileTest {
+
+    private static final int SECTOR_SIZE = 4096;
+
+    private static byte[] deflate(int value) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream stream = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            stream.writeInt(value);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Writes a region file with a single chunk at the given index, stored
+     * in the third sector like the vanilla region file would.
+     */
+    private static Path writeRegionFile(int index, int timestamp, int length, byte[] data) throws IOException {
+        final Path directory = Files.createTempDirectory("region");
+        directory.toFile().deleteOnExit();
+        final Path file = directory.resolve("r.-1.2.mca");
+        file.toFile().deleteOnExit();
+        final ByteBuffer buffer = ByteBuffer.allocate(SECTOR_SIZE * 3);
+        buffer.putInt(index * 4, 2 << 8 | 1);
+        buffer.putInt(SECTOR_SIZE + index * 4, timestamp);
+        buffer.position(SECTOR_SIZE * 2);
+        buffer.putInt(length);
+        buffer.put((byte) 2);
+        buffer.put(data);
+        Files.write(file, buffer.array());
+        return file;
+    }
+
+    @Test
+    public void testHeader() throws IOException {
+        final int index = 5 + 7 * 32;
+        final MappedRegionFile regionFile = MappedRegionFile.get(writeRegionFile(index, 1234, 5, new byte[4]));
+        Assert.assertNotNull(regionFile);
+        Assert.assertEquals(-1, regionFile.getRegionX());
+        Assert.assertEquals(2, regionFile.getRegionZ());
+        Assert.assertTrue(regionFile.hasChunk(-32 + 5, 64 + 7));
+        Assert.assertFalse(regionFile.hasChunk(-32 + 7, 64 + 5));
+        Assert.assertEquals(1, regionFile.getChunkIndexes().length);
+        Assert.assertEquals(index, regionFile.getChunkIndexes()[0]);
+        Assert.assertEquals(1234, regionFile.getTimestamp(index));
+        Assert.assertEquals(0, regionFile.getTimestamp(0));
+    }
+
+    @Test
+    public void testMissingChunk() throws IOException {
+        final MappedRegionFile regionFile = MappedRegionFile.get(writeRegionFile(0, 0, 5, deflate(1)));
+        Assert.assertNotNull(regionFile);
+        Assert.assertNull(regionFile.getChunkDataInputStream(1));
+    }
+
+    @Test
+    public void testBadLength() throws IOException {
+        // The length plus its own four bytes doesn't fit into the single sector
+        final MappedRegionFile regionFile = MappedRegionFile.get(writeRegionFile(0, 0, SECTOR_SIZE - 3, deflate(1)));
+        Assert.assertNotNull(regionFile);
+        Assert.assertNull(regionFile.getChunkDataInputStream(0));
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        final byte[] data = deflate(0xCAFE);
+        final MappedRegionFile regionFile = MappedRegionFile.get(writeRegionFile(3, 0, data.length + 1, data));
+        Assert.assertNotNull(regionFile);
+        try (DataInputStream stream = regionFile.getChunkDataInputStream(3)) {
+            Assert.assertNotNull(stream);
+            Assert.assertEquals(0xCAFE, stream.readInt());
+            Assert.assertEquals(-1, stream.read());
+        }
+    }
+
+}
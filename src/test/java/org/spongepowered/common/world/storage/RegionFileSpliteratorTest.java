@@ -0,0 +1,186 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.flowpowered.math.vector.Vector3i;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import org.junit.Assert;
+import org.junit.Test;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import java.util.zip.DeflaterOutputStream;
+
+public class RegionFileSpliteratorTest {
+
+    private static final int SECTOR_SIZE = 4096;
+    private static final DataQuery X_POS = DataQuery.of("xPos");
+
+    private static byte[] writeChunk(int chunkX, int chunkZ) throws IOException {
+        final NBTTagCompound level = new NBTTagCompound();
+        level.setInteger("xPos", chunkX);
+        level.setInteger("zPos", chunkZ);
+        level.setTag("Sections", new NBTTagList());
+        final NBTTagCompound compound = new NBTTagCompound();
+        compound.setTag("Level", level);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream stream = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            CompressedStreamTools.write(compound, stream);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Writes a region file holding a chunk at each of the given indexes,
+     * every chunk in its own sector, saved at the matching timestamp.
+     */
+    private static Path writeRegionFile(Path directory, int regionX, int regionZ, int[] indexes, int[] timestamps) throws IOException {
+        final Path file = directory.resolve("r." + regionX + "." + regionZ + ".mca");
+        file.toFile().deleteOnExit();
+        final ByteBuffer buffer = ByteBuffer.allocate(SECTOR_SIZE * (2 + indexes.length));
+        for (int i = 0; i < indexes.length; i++) {
+            final int index = indexes[i];
+            final byte[] data = writeChunk((regionX << 5) + (index & 31), (regionZ << 5) + (index >> 5));
+            buffer.putInt(index * 4, (2 + i) << 8 | 1);
+            buffer.putInt(SECTOR_SIZE + index * 4, timestamps[i]);
+            buffer.position(SECTOR_SIZE * (2 + i));
+            buffer.putInt(data.length + 1);
+            buffer.put((byte) 2);
+            buffer.put(data);
+        }
+        Files.write(file, buffer.array());
+        return file;
+    }
+
+    private static Path createDirectory() throws IOException {
+        final Path directory = Files.createTempDirectory("region");
+        directory.toFile().deleteOnExit();
+        return directory;
+    }
+
+    /**
+     * Writes the regions 0 to 3 along the x axis, each with a chunk at both
+     * of its x borders.
+     */
+    private static List<Path> writeRegionRow(Path directory) throws IOException {
+        final List<Path> files = new ArrayList<>();
+        for (int regionX = 0; regionX < 4; regionX++) {
+            files.add(writeRegionFile(directory, regionX, 0, new int[] {0, 31}, new int[] {100 * regionX, 100 * regionX + 50}));
+        }
+        return files;
+    }
+
+    private static Set<Integer> readChunkXs(Spliterator<DataContainer> spliterator) {
+        final Set<Integer> chunkXs = new HashSet<>();
+        spliterator.forEachRemaining(data -> Assert.assertTrue(chunkXs.add(data.getInt(X_POS).get())));
+        return chunkXs;
+    }
+
+    @Test
+    public void testModifiedSince() throws IOException {
+        final MappedRegionFile regionFile = MappedRegionFile.get(
+            writeRegionFile(createDirectory(), 0, 0, new int[] {1, 2, 3}, new int[] {100, 200, 300}));
+        Assert.assertNotNull(regionFile);
+        Assert.assertEquals(3, ChunkDataFilter.ALL.getChunkIndexes(regionFile).length);
+
+        final int[] indexes = ChunkDataFilter.ALL.modifiedSince(Instant.ofEpochSecond(200)).getChunkIndexes(regionFile);
+        Assert.assertEquals(2, indexes.length);
+        Assert.assertEquals(2, indexes[0]);
+        Assert.assertEquals(3, indexes[1]);
+
+        Assert.assertEquals(0, ChunkDataFilter.ALL.modifiedSince(Instant.ofEpochSecond(301)).getChunkIndexes(regionFile).length);
+    }
+
+    @Test
+    public void testChunkBoundsAcrossRegions() throws IOException {
+        final List<Path> files = writeRegionRow(createDirectory());
+        // The last chunk of region 0 and the first chunk of region 1
+        final ChunkDataFilter filter = ChunkDataFilter.ALL.withinChunks(new Vector3i(32, 0, 0), new Vector3i(31, 0, 0));
+        Assert.assertTrue(filter.testRegion(0, 0));
+        Assert.assertTrue(filter.testRegion(1, 0));
+        Assert.assertFalse(filter.testRegion(2, 0));
+        Assert.assertFalse(filter.testRegion(0, -1));
+
+        final MappedRegionFile first = MappedRegionFile.get(files.get(0));
+        final MappedRegionFile second = MappedRegionFile.get(files.get(1));
+        Assert.assertNotNull(first);
+        Assert.assertNotNull(second);
+        Assert.assertArrayEquals(new int[] {31}, filter.getChunkIndexes(first));
+        Assert.assertArrayEquals(new int[] {0}, filter.getChunkIndexes(second));
+    }
+
+    @Test
+    public void testSplitAcrossRegions() throws IOException {
+        final List<Path> files = writeRegionRow(createDirectory());
+        final RegionFileSpliterator spliterator = new RegionFileSpliterator(files, ChunkDataFilter.ALL);
+        Assert.assertEquals(4 * 1024, spliterator.estimateSize());
+
+        final Spliterator<DataContainer> split = spliterator.trySplit();
+        Assert.assertNotNull(split);
+        Assert.assertEquals(2 * 1024, split.estimateSize());
+        Assert.assertEquals(2 * 1024, spliterator.estimateSize());
+
+        // The split takes the first half of the region files, each chunk is read by exactly one of them
+        final Set<Integer> splitChunkXs = readChunkXs(split);
+        final Set<Integer> remainingChunkXs = readChunkXs(spliterator);
+        Assert.assertEquals(new HashSet<>(Arrays.asList(0, 31, 32, 63)), splitChunkXs);
+        Assert.assertEquals(new HashSet<>(Arrays.asList(64, 95, 96, 127)), remainingChunkXs);
+
+        // A single region file isn't split any further
+        final RegionFileSpliterator single = new RegionFileSpliterator(files.subList(0, 1), ChunkDataFilter.ALL);
+        Assert.assertNull(single.trySplit());
+    }
+
+    @Test
+    public void testSplitWithFilter() throws IOException {
+        final List<Path> files = writeRegionRow(createDirectory());
+        final ChunkDataFilter filter = ChunkDataFilter.ALL
+            .withinChunks(new Vector3i(31, 0, 0), new Vector3i(96, 0, 31))
+            .modifiedSince(Instant.ofEpochSecond(150));
+        final Set<Integer> chunkXs = StreamSupport.stream(new RegionFileSpliterator(files, filter), true)
+            .map(data -> data.getInt(X_POS).get())
+            .collect(Collectors.toSet());
+        // Chunks 31 and 32 were saved before the filtered time, chunk 127 is out of bounds
+        Assert.assertEquals(new HashSet<>(Arrays.asList(63, 64, 95, 96)), chunkXs);
+    }
+
+}
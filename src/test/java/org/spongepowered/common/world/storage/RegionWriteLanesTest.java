@@ -0,0 +1,149 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.world.chunk.storage.RegionFileCache;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+public class RegionWriteLanesTest {
+
+    private static final File DIRECTORY = new File("world");
+
+    private static void await(CountDownLatch latch) {
+        try {
+            Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    @Test
+    public void testSameRegionIsSerial() throws Exception {
+        final RegionWriteLanes lanes = new RegionWriteLanes(4);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        // Chunks 0 and 31 share a region file, so the second write has to wait for the first
+        lanes.submit(DIRECTORY, 0, 0, () -> {
+            await(release);
+            order.add(0);
+        });
+        final CompletableFuture<Void> second = lanes.submit(DIRECTORY, 31, 31, () -> order.add(1));
+        Thread.sleep(50);
+        Assert.assertFalse(second.isDone());
+        Assert.assertTrue(order.isEmpty());
+        release.countDown();
+        second.get(5, TimeUnit.SECONDS);
+        Assert.assertEquals(2, order.size());
+        Assert.assertEquals(0, (int) order.get(0));
+        Assert.assertEquals(1, (int) order.get(1));
+    }
+
+    @Test
+    public void testDifferentRegionsAreParallel() throws Exception {
+        final RegionWriteLanes lanes = new RegionWriteLanes(2);
+        final CountDownLatch first = new CountDownLatch(1);
+        final CountDownLatch second = new CountDownLatch(1);
+        // Each write waits for the other one, so they only complete if they run at the same time
+        final CompletableFuture<Void> a = lanes.submit(DIRECTORY, 0, 0, () -> {
+            first.countDown();
+            await(second);
+        });
+        final CompletableFuture<Void> b = lanes.submit(DIRECTORY, 32, 0, () -> {
+            second.countDown();
+            await(first);
+        });
+        a.get(5, TimeUnit.SECONDS);
+        b.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testSameRegionOfOtherWorldIsParallel() throws Exception {
+        final RegionWriteLanes lanes = new RegionWriteLanes(2);
+        final CountDownLatch first = new CountDownLatch(1);
+        final CountDownLatch second = new CountDownLatch(1);
+        final CompletableFuture<Void> a = lanes.submit(DIRECTORY, 0, 0, () -> {
+            first.countDown();
+            await(second);
+        });
+        final CompletableFuture<Void> b = lanes.submit(new File("other"), 0, 0, () -> {
+            second.countDown();
+            await(first);
+        });
+        a.get(5, TimeUnit.SECONDS);
+        b.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testFailedWriteContinuesLane() throws Exception {
+        final RegionWriteLanes lanes = new RegionWriteLanes(1);
+        final CompletableFuture<Void> failed = lanes.submit(DIRECTORY, 0, 0, () -> {
+            throw new IllegalStateException();
+        });
+        final CompletableFuture<Void> next = lanes.submit(DIRECTORY, 0, 0, () -> { });
+        next.get(5, TimeUnit.SECONDS);
+        Assert.assertTrue(failed.isDone());
+    }
+
+    @Test
+    public void testWriteWaitsForClosing() throws Exception {
+        final File directory = Files.createTempDirectory("world").toFile();
+        final NBTTagCompound compound = new NBTTagCompound();
+        compound.setInteger("x", 1);
+        final Lock lock = RegionWriteLanes.lockRegionFilesForClosing();
+        final CompletableFuture<Void> write;
+        try {
+            write = CompletableFuture.runAsync(() -> {
+                try {
+                    RegionWriteLanes.writeChunk(directory, 1, 2, compound);
+                } catch (IOException e) {
+                    throw new AssertionError(e);
+                }
+            });
+            Thread.sleep(50);
+            // The region files are being closed, so the write can't happen yet
+            Assert.assertFalse(write.isDone());
+        } finally {
+            lock.unlock();
+        }
+        write.get(5, TimeUnit.SECONDS);
+        Assert.assertTrue(RegionFileCache.createOrLoadRegionFile(directory, 1, 2).isChunkSaved(1, 2));
+        RegionFileCache.clearRegionFileReferences();
+        MappedRegionFile.onRegionFilesClosed();
+    }
+
+}